@@ -4,10 +4,14 @@ import cn.hutool.core.bean.BeanUtil;
 import cn.hutool.core.collection.CollUtil;
 import cn.hutool.core.text.CharSequenceUtil;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.leepandar.starter.cache.redisson.codec.AdaptiveJacksonCodec;
+import com.leepandar.starter.cache.redisson.codec.CompressionCodec;
+import com.leepandar.starter.cache.redisson.codec.RedissonCodecResolver;
+import com.leepandar.starter.cache.redisson.enums.CodecType;
 import com.leepandar.starter.cache.redisson.handler.NameMapperHandler;
 import com.leepandar.starter.core.constant.PropertiesConstants;
 import com.leepandar.starter.core.constant.StringConstants;
-import org.redisson.codec.JsonJacksonCodec;
+import org.redisson.client.codec.Codec;
 import org.redisson.config.ClusterServersConfig;
 import org.redisson.config.Config;
 import org.redisson.config.SentinelServersConfig;
@@ -15,13 +19,16 @@ import org.redisson.config.SingleServerConfig;
 import org.redisson.spring.starter.RedissonAutoConfigurationCustomizer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Redisson 自动配置
@@ -46,8 +53,21 @@ public class RedissonAutoConfiguration {
         this.objectMapper = objectMapper;
     }
 
+    /**
+     * 编解码器解析器
+     *
+     * <p>存在自定义 {@link Codec} Bean 时将其作为默认编解码器</p>
+     */
+    @Bean
+    public RedissonCodecResolver redissonCodecResolver(ObjectProvider<Codec> codecProvider) {
+        Codec defaultCodec = codecProvider.getIfAvailable(() -> this.buildCodec(properties.getCodec()));
+        Map<String, Codec> overrides = new LinkedHashMap<>();
+        properties.getCodecOverrides().forEach((prefix, type) -> overrides.put(prefix, this.buildCodec(type)));
+        return new RedissonCodecResolver(defaultCodec, overrides);
+    }
+
     @Bean
-    public RedissonAutoConfigurationCustomizer redissonAutoConfigurationCustomizer() {
+    public RedissonAutoConfigurationCustomizer redissonAutoConfigurationCustomizer(RedissonCodecResolver codecResolver) {
         return config -> {
             RedissonProperties.Mode mode = properties.getMode();
             String protocolPrefix = redisProperties.getSsl().isEnabled()
@@ -58,12 +78,26 @@ public class RedissonAutoConfiguration {
                 case SENTINEL -> this.buildSentinelModeConfig(config, protocolPrefix);
                 default -> this.buildSingleModeConfig(config, protocolPrefix);
             }
-            // Jackson 处理
-            config.setCodec(new JsonJacksonCodec(objectMapper));
+            // 序列化处理
+            config.setCodec(codecResolver.getDefaultCodec());
             log.debug("Auto Configuration 'Redisson' completed initialization.");
         };
     }
 
+    /**
+     * 构建编解码器
+     *
+     * @param type 序列化方式
+     * @return 编解码器
+     */
+    private Codec buildCodec(CodecType type) {
+        Codec codec = new AdaptiveJacksonCodec(objectMapper, type);
+        if (properties.getCompressionThreshold() > 0) {
+            codec = new CompressionCodec(codec, properties.getCompressionThreshold());
+        }
+        return codec;
+    }
+
     /**
      * 构建集群模式配置
      *
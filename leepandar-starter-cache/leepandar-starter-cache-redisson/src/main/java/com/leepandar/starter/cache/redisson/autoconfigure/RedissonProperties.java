@@ -1,11 +1,15 @@
 package com.leepandar.starter.cache.redisson.autoconfigure;
 
+import com.leepandar.starter.cache.redisson.enums.CodecType;
 import org.redisson.config.ClusterServersConfig;
 import org.redisson.config.SentinelServersConfig;
 import org.redisson.config.SingleServerConfig;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.NestedConfigurationProperty;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 /**
  * Redisson 配置属性
  */
@@ -27,6 +31,21 @@ public class RedissonProperties {
      */
     private Mode mode = Mode.SINGLE;
 
+    /**
+     * 序列化方式（读取时兼容 JSON 与 Smile 两种格式；Hash 字段始终按 JSON 写入，Set / ZSet 成员切换格式后无法命中已有成员，需通过 codecOverrides 保持 JSON）
+     */
+    private CodecType codec = CodecType.JSON;
+
+    /**
+     * 压缩阈值（字节），序列化结果达到该大小时使用 Deflate 压缩，小于等于 0 表示不压缩
+     */
+    private int compressionThreshold = 0;
+
+    /**
+     * 按键前缀指定序列化方式（仅对通过 RedisUtils 访问的键生效，最长前缀优先）
+     */
+    private Map<String, CodecType> codecOverrides = new LinkedHashMap<>();
+
     /**
      * 单机服务配置
      */
@@ -89,6 +108,30 @@ public class RedissonProperties {
         this.mode = mode;
     }
 
+    public CodecType getCodec() {
+        return codec;
+    }
+
+    public void setCodec(CodecType codec) {
+        this.codec = codec;
+    }
+
+    public int getCompressionThreshold() {
+        return compressionThreshold;
+    }
+
+    public void setCompressionThreshold(int compressionThreshold) {
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    public Map<String, CodecType> getCodecOverrides() {
+        return codecOverrides;
+    }
+
+    public void setCodecOverrides(Map<String, CodecType> codecOverrides) {
+        this.codecOverrides = codecOverrides;
+    }
+
     public SingleServerConfig getSingleServerConfig() {
         return singleServerConfig;
     }
@@ -0,0 +1,89 @@
+package com.leepandar.starter.cache.redisson.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.leepandar.starter.cache.redisson.enums.CodecType;
+import io.netty.buffer.ByteBuf;
+import org.redisson.client.codec.BaseCodec;
+import org.redisson.client.handler.State;
+import org.redisson.client.protocol.Decoder;
+import org.redisson.client.protocol.Encoder;
+import org.redisson.codec.JsonJacksonCodec;
+
+import java.io.IOException;
+
+/**
+ * Jackson 自适应编解码器
+ * <p>
+ * 按指定格式（JSON / Smile）写入；读取时根据 Smile 文件头自动识别格式，两种格式的数据可以共存，便于切换序列化方式时平滑迁移。
+ * </p>
+ * <p>
+ * Hash 字段（Map 键）始终按 JSON 写入，切换格式后已有 Hash 字段仍可通过 hGet / hExists / hDel 查找。
+ * 注意：Set / ZSet 成员按值编码，查找（zScore / zRank / zRemove 等）按编码后的字节匹配，切换格式后已有成员无法命中，
+ * 此类键需通过按前缀指定序列化方式（codecOverrides，仅对通过 RedisUtils 访问的键生效）保持 JSON
+ * </p>
+ */
+public class AdaptiveJacksonCodec extends BaseCodec {
+
+    /**
+     * Smile 文件头（:)\n）
+     */
+    private static final byte[] SMILE_HEADER = {':', ')', '\n'};
+
+    private final JsonJacksonCodec jsonCodec;
+    private final JsonJacksonCodec smileCodec;
+    private final Encoder encoder;
+
+    private final Decoder<Object> decoder = new Decoder<>() {
+        @Override
+        public Object decode(ByteBuf buf, State state) throws IOException {
+            return isSmile(buf)
+                ? smileCodec.getValueDecoder().decode(buf, state)
+                : jsonCodec.getValueDecoder().decode(buf, state);
+        }
+    };
+
+    public AdaptiveJacksonCodec(ObjectMapper objectMapper, CodecType type) {
+        this.jsonCodec = new JsonJacksonCodec(objectMapper);
+        this.smileCodec = new JsonJacksonCodec(objectMapper.copyWith(new SmileFactory()));
+        this.encoder = type == CodecType.SMILE ? smileCodec.getValueEncoder() : jsonCodec.getValueEncoder();
+    }
+
+    @Override
+    public Decoder<Object> getValueDecoder() {
+        return decoder;
+    }
+
+    @Override
+    public Encoder getValueEncoder() {
+        return encoder;
+    }
+
+    @Override
+    public Decoder<Object> getMapKeyDecoder() {
+        return decoder;
+    }
+
+    @Override
+    public Encoder getMapKeyEncoder() {
+        return jsonCodec.getMapKeyEncoder();
+    }
+
+    @Override
+    public ClassLoader getClassLoader() {
+        return jsonCodec.getClassLoader();
+    }
+
+    private static boolean isSmile(ByteBuf buf) {
+        if (buf.readableBytes() < SMILE_HEADER.length) {
+            return false;
+        }
+        int index = buf.readerIndex();
+        for (int i = 0; i < SMILE_HEADER.length; i++) {
+            if (buf.getByte(index + i) != SMILE_HEADER[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,163 @@
+package com.leepandar.starter.cache.redisson.codec;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufAllocator;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+import org.redisson.client.codec.BaseCodec;
+import org.redisson.client.codec.Codec;
+import org.redisson.client.handler.State;
+import org.redisson.client.protocol.Decoder;
+import org.redisson.client.protocol.Encoder;
+
+import java.io.IOException;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 压缩编解码器
+ * <p>
+ * 包装其他编解码器，序列化结果达到阈值时使用 Deflate 压缩并写入魔数头；读取时根据魔数头判断是否需要解压，
+ * 未压缩的旧数据可以直接读取。Map 的键不压缩
+ * </p>
+ */
+public class CompressionCodec extends BaseCodec {
+
+    /**
+     * 魔数头（JSON / Smile 数据不会以 0x00 开头）
+     */
+    private static final byte MAGIC_0 = 0x00;
+    private static final byte MAGIC_1 = 'Z';
+
+    /**
+     * 头部长度（魔数 2 字节 + 原始长度 4 字节）
+     */
+    private static final int HEADER_LENGTH = 6;
+
+    private static final int CHUNK_SIZE = 8192;
+
+    private final Codec innerCodec;
+    private final int threshold;
+
+    private final Encoder encoder = new Encoder() {
+        @Override
+        public ByteBuf encode(Object in) throws IOException {
+            ByteBuf raw = getInnerCodec().getValueEncoder().encode(in);
+            if (raw.readableBytes() < threshold) {
+                return raw;
+            }
+            try {
+                return compress(raw);
+            } finally {
+                raw.release();
+            }
+        }
+    };
+
+    private final Decoder<Object> decoder = new Decoder<>() {
+        @Override
+        public Object decode(ByteBuf buf, State state) throws IOException {
+            if (!isCompressed(buf)) {
+                return getInnerCodec().getValueDecoder().decode(buf, state);
+            }
+            ByteBuf raw = decompress(buf);
+            try {
+                return getInnerCodec().getValueDecoder().decode(raw, state);
+            } finally {
+                raw.release();
+            }
+        }
+    };
+
+    /**
+     * @param innerCodec 实际编解码器
+     * @param threshold  压缩阈值（字节）
+     */
+    public CompressionCodec(Codec innerCodec, int threshold) {
+        this.innerCodec = innerCodec;
+        this.threshold = Math.max(1, threshold);
+    }
+
+    public Codec getInnerCodec() {
+        return innerCodec;
+    }
+
+    @Override
+    public Decoder<Object> getValueDecoder() {
+        return decoder;
+    }
+
+    @Override
+    public Encoder getValueEncoder() {
+        return encoder;
+    }
+
+    @Override
+    public Decoder<Object> getMapKeyDecoder() {
+        return innerCodec.getMapKeyDecoder();
+    }
+
+    @Override
+    public Encoder getMapKeyEncoder() {
+        return innerCodec.getMapKeyEncoder();
+    }
+
+    @Override
+    public ClassLoader getClassLoader() {
+        return innerCodec.getClassLoader();
+    }
+
+    private static ByteBuf compress(ByteBuf raw) {
+        byte[] input = ByteBufUtil.getBytes(raw);
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+            ByteBuf out = ByteBufAllocator.DEFAULT.buffer(HEADER_LENGTH + input.length / 2);
+            out.writeByte(MAGIC_0);
+            out.writeByte(MAGIC_1);
+            out.writeInt(input.length);
+            byte[] chunk = new byte[CHUNK_SIZE];
+            while (!deflater.finished()) {
+                int n = deflater.deflate(chunk);
+                out.writeBytes(chunk, 0, n);
+            }
+            return out;
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static ByteBuf decompress(ByteBuf buf) throws IOException {
+        buf.skipBytes(2);
+        int length = buf.readInt();
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(ByteBufUtil.getBytes(buf));
+            byte[] output = new byte[length];
+            int offset = 0;
+            while (offset < length && !inflater.finished()) {
+                int n = inflater.inflate(output, offset, length - offset);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                offset += n;
+            }
+            if (offset != length) {
+                throw new IOException("Corrupted compressed value, expected " + length + " bytes but got " + offset);
+            }
+            return Unpooled.wrappedBuffer(output);
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupted compressed value", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static boolean isCompressed(ByteBuf buf) {
+        int index = buf.readerIndex();
+        return buf.readableBytes() >= HEADER_LENGTH && buf.getByte(index) == MAGIC_0 && buf
+            .getByte(index + 1) == MAGIC_1;
+    }
+}
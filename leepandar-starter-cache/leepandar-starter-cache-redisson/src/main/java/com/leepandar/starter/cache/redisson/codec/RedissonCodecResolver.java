@@ -0,0 +1,55 @@
+package com.leepandar.starter.cache.redisson.codec;
+
+import org.redisson.client.codec.Codec;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 编解码器解析器
+ * <p>
+ * 按键前缀选择编解码器（最长前缀优先），未匹配时使用默认编解码器
+ * </p>
+ */
+public class RedissonCodecResolver {
+
+    private final Codec defaultCodec;
+    private final List<Map.Entry<String, Codec>> overrides;
+
+    /**
+     * @param defaultCodec 默认编解码器
+     * @param overrides    键前缀与编解码器映射
+     */
+    public RedissonCodecResolver(Codec defaultCodec, Map<String, Codec> overrides) {
+        this.defaultCodec = defaultCodec;
+        List<Map.Entry<String, Codec>> list = new ArrayList<>(overrides.entrySet());
+        list.sort(Comparator.comparingInt((Map.Entry<String, Codec> entry) -> entry.getKey().length()).reversed());
+        this.overrides = List.copyOf(list);
+    }
+
+    /**
+     * 获取默认编解码器
+     *
+     * @return 默认编解码器
+     */
+    public Codec getDefaultCodec() {
+        return defaultCodec;
+    }
+
+    /**
+     * 获取键对应的编解码器
+     *
+     * @param key 键
+     * @return 编解码器
+     */
+    public Codec resolve(String key) {
+        for (Map.Entry<String, Codec> entry : overrides) {
+            if (key.startsWith(entry.getKey())) {
+                return entry.getValue();
+            }
+        }
+        return defaultCodec;
+    }
+}
@@ -0,0 +1,17 @@
+package com.leepandar.starter.cache.redisson.enums;
+
+/**
+ * 序列化方式
+ */
+public enum CodecType {
+
+    /**
+     * JSON（Jackson）
+     */
+    JSON,
+
+    /**
+     * Smile（Jackson 二进制 JSON，体积更小、编解码更快）
+     */
+    SMILE
+}
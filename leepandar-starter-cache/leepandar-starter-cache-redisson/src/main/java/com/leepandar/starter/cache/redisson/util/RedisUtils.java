@@ -2,15 +2,23 @@ package com.leepandar.starter.cache.redisson.util;
 
 import cn.hutool.core.util.ArrayUtil;
 import cn.hutool.extra.spring.SpringUtil;
+import com.leepandar.starter.cache.redisson.codec.RedissonCodecResolver;
 import com.leepandar.starter.core.constant.StringConstants;
 import org.redisson.api.*;
 import org.redisson.api.options.KeysScanOptions;
+import org.redisson.client.codec.Codec;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Redis 工具类
@@ -19,6 +27,20 @@ public class RedisUtils {
 
     private static final RedissonClient CLIENT = SpringUtil.getBean(RedissonClient.class);
 
+    private static final RedissonCodecResolver CODEC_RESOLVER = SpringUtil.getApplicationContext()
+        .getBeanProvider(RedissonCodecResolver.class)
+        .getIfAvailable();
+
+    /**
+     * 默认批量操作单批命令数（避免超大批次长时间阻塞 Redis）
+     */
+    public static final int DEFAULT_BATCH_SIZE = 500;
+
+    /**
+     * 默认 SCAN 单页数量（COUNT）
+     */
+    public static final int DEFAULT_SCAN_COUNT = 1000;
+
     private RedisUtils() {
     }
 
@@ -38,7 +60,7 @@ public class RedisUtils {
      * @param value 值
      */
     public static <T> void set(String key, T value) {
-        CLIENT.getBucket(key).set(value);
+        CLIENT.getBucket(key, codec(key)).set(value);
     }
 
     /**
@@ -49,7 +71,7 @@ public class RedisUtils {
      * @param duration 过期时间
      */
     public static <T> void set(String key, T value, Duration duration) {
-        CLIENT.getBucket(key).set(value, duration);
+        CLIENT.getBucket(key, codec(key)).set(value, duration);
     }
 
     /**
@@ -63,7 +85,7 @@ public class RedisUtils {
      * @since 2.10.0
      */
     public static <T> boolean setIfAbsent(String key, T value) {
-        return CLIENT.getBucket(key).setIfAbsent(value);
+        return CLIENT.getBucket(key, codec(key)).setIfAbsent(value);
     }
 
     /**
@@ -78,7 +100,7 @@ public class RedisUtils {
      * @since 2.10.0
      */
     public static <T> boolean setIfAbsent(String key, T value, Duration duration) {
-        return CLIENT.getBucket(key).setIfAbsent(value, duration);
+        return CLIENT.getBucket(key, codec(key)).setIfAbsent(value, duration);
     }
 
     /**
@@ -91,7 +113,7 @@ public class RedisUtils {
      * @since 2.10.0
      */
     public static <T> boolean setIfExists(String key, T value) {
-        return CLIENT.getBucket(key).setIfExists(value);
+        return CLIENT.getBucket(key, codec(key)).setIfExists(value);
     }
 
     /**
@@ -105,7 +127,7 @@ public class RedisUtils {
      * @since 2.10.0
      */
     public static <T> boolean setIfExists(String key, T value, Duration duration) {
-        return CLIENT.getBucket(key).setIfExists(value, duration);
+        return CLIENT.getBucket(key, codec(key)).setIfExists(value, duration);
     }
 
     /**
@@ -115,10 +137,86 @@ public class RedisUtils {
      * @return 值
      */
     public static <T> T get(String key) {
-        RBucket<T> bucket = CLIENT.getBucket(key);
+        RBucket<T> bucket = CLIENT.getBucket(key, codec(key));
         return bucket.get();
     }
 
+    /**
+     * 批量查询缓存
+     *
+     * @param keys 键列表
+     * @return 键值映射（不包含不存在的键）
+     */
+    public static <T> Map<String, T> getAll(Collection<String> keys) {
+        return getAll(keys, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * 批量查询缓存
+     *
+     * @param keys      键列表
+     * @param batchSize 单批命令数
+     * @return 键值映射（不包含不存在的键）
+     */
+    public static <T> Map<String, T> getAll(Collection<String> keys, int batchSize) {
+        Map<String, T> result = new LinkedHashMap<>();
+        executeBatch(keys, batchSize, (batch, key) -> batch.<T>getBucket(key, codec(key)).getAsync(), (key, value) -> {
+            if (value != null) {
+                result.put(key, value);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 批量设置缓存
+     *
+     * @param values   键值映射
+     * @param duration 过期时间（为空表示永不过期）
+     */
+    public static <T> void setAll(Map<String, T> values, Duration duration) {
+        setAll(values, duration, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * 批量设置缓存
+     *
+     * @param values    键值映射
+     * @param duration  过期时间（为空表示永不过期）
+     * @param batchSize 单批命令数
+     */
+    public static <T> void setAll(Map<String, T> values, Duration duration, int batchSize) {
+        executeBatch(values.entrySet(), batchSize, (batch, entry) -> {
+            RBucketAsync<T> bucket = batch.getBucket(entry.getKey(), codec(entry.getKey()));
+            return duration != null ? bucket.setAsync(entry.getValue(), duration) : bucket.setAsync(entry.getValue());
+        }, null);
+    }
+
+    /**
+     * 批量删除缓存
+     *
+     * @param keys 键列表
+     * @return 删除的键数量
+     */
+    public static long deleteAll(Collection<String> keys) {
+        return deleteAll(keys, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * 批量删除缓存
+     *
+     * @param keys      键列表
+     * @param batchSize 单批删除的键数
+     * @return 删除的键数量
+     */
+    public static long deleteAll(Collection<String> keys, int batchSize) {
+        long count = 0;
+        for (List<String> chunk : split(keys, batchSize)) {
+            count += CLIENT.getKeys().delete(chunk.toArray(new String[0]));
+        }
+        return count;
+    }
+
     /**
      * 设置缓存（List 集合）
      *
@@ -127,7 +225,7 @@ public class RedisUtils {
      * @since 2.1.1
      */
     public static <T> void setList(String key, List<T> value) {
-        RList<T> list = CLIENT.getList(key);
+        RList<T> list = CLIENT.getList(key, codec(key));
         list.addAll(value);
     }
 
@@ -141,7 +239,7 @@ public class RedisUtils {
      */
     public static <T> void setList(String key, List<T> value, Duration duration) {
         RBatch batch = CLIENT.createBatch();
-        RListAsync<T> list = batch.getList(key);
+        RListAsync<T> list = batch.getList(key, codec(key));
         list.addAllAsync(value);
         list.expireAsync(duration);
         batch.execute();
@@ -155,7 +253,7 @@ public class RedisUtils {
      * @since 2.1.1
      */
     public static <T> List<T> getList(String key) {
-        RList<T> list = CLIENT.getList(key);
+        RList<T> list = CLIENT.getList(key, codec(key));
         return list.readAll();
     }
 
@@ -166,16 +264,45 @@ public class RedisUtils {
      * @return true：设置成功；false：设置失败
      */
     public static boolean delete(String key) {
-        return CLIENT.getBucket(key).delete();
+        return CLIENT.getBucket(key, codec(key)).delete();
     }
 
     /**
      * 删除缓存
      *
+     * <p>按 SCAN 分页流式删除（UNLINK），不会一次性加载全部键</p>
+     *
      * @param pattern 键模式
      */
     public static void deleteByPattern(String pattern) {
-        CLIENT.getKeys().deleteByPattern(pattern);
+        unlinkByPattern(pattern, DEFAULT_SCAN_COUNT, DEFAULT_BATCH_SIZE, 0);
+    }
+
+    /**
+     * 按模式分批删除缓存（UNLINK）
+     *
+     * <p>
+     * 按 SCAN 分页读取键，每批键通过一次 UNLINK 删除（集群模式下 Redisson 会按槽位拆分命令），
+     * 并按每秒最大删除数限速，避免大批量删除占满 Redis
+     * </p>
+     *
+     * @param pattern          键模式
+     * @param count            SCAN 单页数量（COUNT）
+     * @param batchSize        单批删除的键数
+     * @param maxKeysPerSecond 每秒最大删除键数（小于等于 0 表示不限速）
+     * @return 删除的键数量
+     */
+    public static long unlinkByPattern(String pattern, int count, int batchSize, int maxKeysPerSecond) {
+        RKeys keys = CLIENT.getKeys();
+        long startTime = System.nanoTime();
+        long[] deleted = {0};
+        scan(pattern, count, batchSize, page -> {
+            deleted[0] += keys.unlink(page.toArray(new String[0]));
+            if (maxKeysPerSecond > 0) {
+                throttle(startTime, deleted[0], maxKeysPerSecond);
+            }
+        });
+        return deleted[0];
     }
 
     /**
@@ -208,7 +335,7 @@ public class RedisUtils {
      * @return true：设置成功；false：设置失败
      */
     public static boolean expire(String key, Duration duration) {
-        return CLIENT.getBucket(key).expire(duration);
+        return CLIENT.getBucket(key, codec(key)).expire(duration);
     }
 
     /**
@@ -218,7 +345,7 @@ public class RedisUtils {
      * @return 缓存剩余过期时间（单位：毫秒）
      */
     public static long getTimeToLive(String key) {
-        return CLIENT.getBucket(key).remainTimeToLive();
+        return CLIENT.getBucket(key, codec(key)).remainTimeToLive();
     }
 
     /**
@@ -238,9 +365,52 @@ public class RedisUtils {
      * @return 缓存列表
      */
     public static Collection<String> keys(String pattern) {
+        return keysStream(pattern, DEFAULT_SCAN_COUNT).toList();
+    }
+
+    /**
+     * 查询缓存流
+     *
+     * <p>按 SCAN 分页惰性读取，消费时才向 Redis 请求下一页</p>
+     *
+     * @param pattern 键模式
+     * @param count   SCAN 单页数量（COUNT）
+     * @return 键流
+     */
+    public static Stream<String> keysStream(String pattern, int count) {
         KeysScanOptions options = KeysScanOptions.defaults();
         options.pattern(pattern);
-        return CLIENT.getKeys().getKeysStream(options).toList();
+        options.chunkSize(Math.max(1, count));
+        return CLIENT.getKeys().getKeysStream(options);
+    }
+
+    /**
+     * 分页扫描缓存键
+     *
+     * @param pattern  键模式
+     * @param count    SCAN 单页数量（COUNT）
+     * @param pageSize 回调单页键数
+     * @param consumer 分页处理
+     * @return 扫描到的键数量
+     */
+    public static long scan(String pattern, int count, int pageSize, Consumer<List<String>> consumer) {
+        int size = Math.max(1, pageSize);
+        long total = 0;
+        List<String> page = new ArrayList<>(size);
+        Iterator<String> iterator = keysStream(pattern, count).iterator();
+        while (iterator.hasNext()) {
+            page.add(iterator.next());
+            if (page.size() == size) {
+                total += page.size();
+                consumer.accept(page);
+                page = new ArrayList<>(size);
+            }
+        }
+        if (!page.isEmpty()) {
+            total += page.size();
+            consumer.accept(page);
+        }
+        return total;
     }
 
     /**
@@ -253,7 +423,7 @@ public class RedisUtils {
      * @since 2.13.4
      */
     public static <T> void hSet(String key, String field, T value) {
-        RMap<String, T> map = CLIENT.getMap(key);
+        RMap<String, T> map = CLIENT.getMap(key, codec(key));
         map.put(field, value);
     }
 
@@ -267,7 +437,7 @@ public class RedisUtils {
      * @since 2.13.4
      */
     public static <T> T hGet(String key, String field) {
-        RMap<String, T> map = CLIENT.getMap(key);
+        RMap<String, T> map = CLIENT.getMap(key, codec(key));
         return map.get(field);
     }
 
@@ -280,10 +450,33 @@ public class RedisUtils {
      * @since 2.13.4
      */
     public static <T> Map<String, T> hGetAll(String key) {
-        RMap<String, T> map = CLIENT.getMap(key);
+        RMap<String, T> map = CLIENT.getMap(key, codec(key));
         return map.readAllMap();
     }
 
+    /**
+     * 批量获取多个 Hash 的所有字段值
+     *
+     * @param keys Hash 键列表
+     * @return Hash 键与字段值的映射（不存在的 Hash 对应空 Map）
+     */
+    public static <T> Map<String, Map<String, T>> hGetAll(Collection<String> keys) {
+        return hGetAll(keys, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * 批量获取多个 Hash 的所有字段值
+     *
+     * @param keys      Hash 键列表
+     * @param batchSize 单批命令数
+     * @return Hash 键与字段值的映射（不存在的 Hash 对应空 Map）
+     */
+    public static <T> Map<String, Map<String, T>> hGetAll(Collection<String> keys, int batchSize) {
+        Map<String, Map<String, T>> result = new LinkedHashMap<>();
+        executeBatch(keys, batchSize, (batch, key) -> batch.<String, T>getMap(key, codec(key)).readAllMapAsync(), result::put);
+        return result;
+    }
+
     /**
      * 判断 Hash 中是否存在指定字段
      *
@@ -294,7 +487,7 @@ public class RedisUtils {
      * @since 2.13.4
      */
     public static boolean hExists(String key, String field) {
-        RMap<String, ?> map = CLIENT.getMap(key);
+        RMap<String, ?> map = CLIENT.getMap(key, codec(key));
         return map.containsKey(field);
     }
 
@@ -308,7 +501,7 @@ public class RedisUtils {
      * @since 2.13.4
      */
     public static long hDel(String key, String... fields) {
-        RMap<String, ?> map = CLIENT.getMap(key);
+        RMap<String, ?> map = CLIENT.getMap(key, codec(key));
         return map.fastRemove(fields);
     }
 
@@ -322,7 +515,7 @@ public class RedisUtils {
      * @since 2.7.3
      */
     public static <T> boolean zAdd(String key, T value, double score) {
-        RScoredSortedSet<T> zSet = CLIENT.getScoredSortedSet(key);
+        RScoredSortedSet<T> zSet = CLIENT.getScoredSortedSet(key, codec(key));
         return zSet.add(score, value);
     }
 
@@ -335,10 +528,36 @@ public class RedisUtils {
      * @since 2.7.3
      */
     public static <T> Double zScore(String key, T value) {
-        RScoredSortedSet<T> zSet = CLIENT.getScoredSortedSet(key);
+        RScoredSortedSet<T> zSet = CLIENT.getScoredSortedSet(key, codec(key));
         return zSet.getScore(value);
     }
 
+    /**
+     * 批量查询 ZSet 中多个元素的分数
+     *
+     * @param key    键
+     * @param values 值列表
+     * @return 分数列表（与值列表顺序一致，null 表示元素不存在）
+     */
+    public static <T> List<Double> zScores(String key, Collection<T> values) {
+        return zScores(key, values, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * 批量查询 ZSet 中多个元素的分数
+     *
+     * @param key       键
+     * @param values    值列表
+     * @param batchSize 单批命令数
+     * @return 分数列表（与值列表顺序一致，null 表示元素不存在）
+     */
+    public static <T> List<Double> zScores(String key, Collection<T> values, int batchSize) {
+        List<Double> scores = new ArrayList<>(values.size());
+        executeBatch(values, batchSize, (batch, value) -> batch.<T>getScoredSortedSet(key, codec(key))
+            .getScoreAsync(value), (value, score) -> scores.add(score));
+        return scores;
+    }
+
     /**
      * 查询 ZSet 中指定元素的排名
      *
@@ -348,7 +567,7 @@ public class RedisUtils {
      * @since 2.7.3
      */
     public static <T> Integer zRank(String key, T value) {
-        RScoredSortedSet<T> zSet = CLIENT.getScoredSortedSet(key);
+        RScoredSortedSet<T> zSet = CLIENT.getScoredSortedSet(key, codec(key));
         return zSet.rank(value);
     }
 
@@ -360,7 +579,7 @@ public class RedisUtils {
      * @since 2.7.3
      */
     public static <T> int zSize(String key) {
-        RScoredSortedSet<T> zSet = CLIENT.getScoredSortedSet(key);
+        RScoredSortedSet<T> zSet = CLIENT.getScoredSortedSet(key, codec(key));
         return zSet.size();
     }
 
@@ -373,7 +592,7 @@ public class RedisUtils {
      * @since 2.7.3
      */
     public static <T> boolean zRemove(String key, T value) {
-        RScoredSortedSet<T> zSet = CLIENT.getScoredSortedSet(key);
+        RScoredSortedSet<T> zSet = CLIENT.getScoredSortedSet(key, codec(key));
         return zSet.remove(value);
     }
 
@@ -387,7 +606,7 @@ public class RedisUtils {
      * @since 2.7.3
      */
     public static <T> int zRemoveRangeByScore(String key, double min, double max) {
-        RScoredSortedSet<T> zSet = CLIENT.getScoredSortedSet(key);
+        RScoredSortedSet<T> zSet = CLIENT.getScoredSortedSet(key, codec(key));
         return zSet.removeRangeByScore(min, true, max, true);
     }
 
@@ -405,7 +624,7 @@ public class RedisUtils {
      * @since 2.7.3
      */
     public static <T> int zRemoveRangeByRank(String key, int startIndex, int endIndex) {
-        RScoredSortedSet<T> zSet = CLIENT.getScoredSortedSet(key);
+        RScoredSortedSet<T> zSet = CLIENT.getScoredSortedSet(key, codec(key));
         return zSet.removeRangeByRank(startIndex, endIndex);
     }
 
@@ -419,7 +638,7 @@ public class RedisUtils {
      * @since 2.7.3
      */
     public static <T> Collection<T> zRangeByScore(String key, double min, double max) {
-        RScoredSortedSet<T> zSet = CLIENT.getScoredSortedSet(key);
+        RScoredSortedSet<T> zSet = CLIENT.getScoredSortedSet(key, codec(key));
         return zSet.valueRange(min, true, max, true);
     }
 
@@ -435,7 +654,7 @@ public class RedisUtils {
      * @since 2.7.3
      */
     public static <T> Collection<T> zRangeByScore(String key, double min, double max, int offset, int count) {
-        RScoredSortedSet<T> zSet = CLIENT.getScoredSortedSet(key);
+        RScoredSortedSet<T> zSet = CLIENT.getScoredSortedSet(key, codec(key));
         return zSet.valueRange(min, true, max, true, offset, count);
     }
 
@@ -449,7 +668,7 @@ public class RedisUtils {
      * @since 2.7.3
      */
     public static <T> int zCountRangeByScore(String key, double min, double max) {
-        RScoredSortedSet<T> zSet = CLIENT.getScoredSortedSet(key);
+        RScoredSortedSet<T> zSet = CLIENT.getScoredSortedSet(key, codec(key));
         return zSet.count(min, true, max, true);
     }
 
@@ -462,10 +681,8 @@ public class RedisUtils {
      * @since 2.7.3
      */
     public static <T> double zSum(String key, Collection<T> values) {
-        RScoredSortedSet<T> zSet = CLIENT.getScoredSortedSet(key);
         double sum = 0;
-        for (T value : values) {
-            Double score = zSet.getScore(value);
+        for (Double score : zScores(key, values)) {
             if (score != null) {
                 sum += score;
             }
@@ -543,6 +760,80 @@ public class RedisUtils {
         topic.addListener(clazz, (channel, msg) -> consumer.accept(msg));
     }
 
+    /**
+     * 获取键对应的编解码器（支持按键前缀覆盖）
+     *
+     * @param key 键
+     * @return 编解码器
+     */
+    public static Codec codec(String key) {
+        return CODEC_RESOLVER != null ? CODEC_RESOLVER.resolve(key) : CLIENT.getConfig().getCodec();
+    }
+
+    /**
+     * 分批执行批处理命令（每批一次网络往返）
+     *
+     * @param items     元素列表
+     * @param batchSize 单批命令数
+     * @param command   添加命令
+     * @param consumer  处理结果（可为空，按元素顺序回调）
+     */
+    @SuppressWarnings("unchecked")
+    private static <E, R> void executeBatch(Collection<E> items,
+                                            int batchSize,
+                                            BiFunction<RBatch, E, RFuture<R>> command,
+                                            BiConsumer<E, R> consumer) {
+        for (List<E> chunk : split(items, batchSize)) {
+            RBatch batch = CLIENT.createBatch();
+            for (E item : chunk) {
+                command.apply(batch, item);
+            }
+            List<?> responses = batch.execute().getResponses();
+            if (consumer != null) {
+                for (int i = 0; i < chunk.size(); i++) {
+                    consumer.accept(chunk.get(i), (R)responses.get(i));
+                }
+            }
+        }
+    }
+
+    /**
+     * 按速率限制等待（已处理数超出当前时间允许的数量时休眠）
+     */
+    private static void throttle(long startTime, long processed, int maxPerSecond) {
+        long expectedNanos = processed * 1_000_000_000L / maxPerSecond;
+        long sleepMillis = (expectedNanos - (System.nanoTime() - startTime)) / 1_000_000L;
+        if (sleepMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(sleepMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Throttled delete interrupted", e);
+        }
+    }
+
+    /**
+     * 按批次大小拆分
+     */
+    private static <E> List<List<E>> split(Collection<E> items, int batchSize) {
+        int size = Math.max(1, batchSize);
+        List<List<E>> chunks = new ArrayList<>((items.size() + size - 1) / size);
+        List<E> chunk = new ArrayList<>(Math.min(size, items.size()));
+        for (E item : items) {
+            chunk.add(item);
+            if (chunk.size() == size) {
+                chunks.add(chunk);
+                chunk = new ArrayList<>(size);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+
     /**
      * 格式化键，将各子键用 : 拼接起来
      *
@@ -0,0 +1,23 @@
+package com.leepandar.starter.cache.springcache.autoconfigure;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 缓存 key 生成器配置属性
+ */
+@ConfigurationProperties("spring.cache.key-generator")
+public class CacheKeyGeneratorProperties {
+
+    /**
+     * 是否使用快速 key 生成器（默认 true；参数均为字符串、整数或布尔值时 key 与默认生成器一致，包含自定义类型时不一致）
+     */
+    private boolean fast = true;
+
+    public boolean isFast() {
+        return fast;
+    }
+
+    public void setFast(boolean fast) {
+        this.fast = fast;
+    }
+}
@@ -0,0 +1,244 @@
+package com.leepandar.starter.cache.springcache.autoconfigure;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 缓存击穿防护配置属性
+ * <p>
+ * 单飞加载（同一 JVM 同一 key 只有一个线程加载）、可选分布式租约、概率提前刷新（XFetch）及过期后返回旧值并后台刷新
+ * </p>
+ */
+@ConfigurationProperties("spring.cache.protection")
+public class CacheProtectionProperties {
+
+    /**
+     * 是否启用
+     */
+    private boolean enabled = false;
+
+    /**
+     * 启用防护的缓存名称（为空表示所有缓存）
+     */
+    private List<String> cacheNames = new ArrayList<>();
+
+    /**
+     * 后台刷新线程数
+     */
+    private int refreshThreads = 2;
+
+    /**
+     * 后台刷新队列容量（队列已满时放弃本次刷新）
+     */
+    private int refreshQueueCapacity = 1000;
+
+    /**
+     * 默认防护策略
+     */
+    private Policy defaults = Policy.defaults();
+
+    /**
+     * 按缓存名称单独配置防护策略（未配置的字段使用默认策略）
+     */
+    private Map<String, Policy> caches = new HashMap<>();
+
+    /**
+     * 指定缓存是否启用防护
+     *
+     * @param cacheName 缓存名称
+     * @return 是否启用
+     */
+    public boolean isEnabled(String cacheName) {
+        return enabled && (cacheNames.isEmpty() || cacheNames.contains(cacheName) || caches.containsKey(cacheName));
+    }
+
+    /**
+     * 获取指定缓存的防护策略（合并默认策略）
+     *
+     * @param cacheName 缓存名称
+     * @return 防护策略
+     */
+    public Policy getPolicy(String cacheName) {
+        Policy policy = caches.get(cacheName);
+        if (policy == null) {
+            return defaults;
+        }
+        Policy merged = new Policy();
+        merged.setSingleFlight(policy.getSingleFlight() != null ? policy.getSingleFlight() : defaults.getSingleFlight());
+        merged.setWaitTimeout(policy.getWaitTimeout() != null ? policy.getWaitTimeout() : defaults.getWaitTimeout());
+        merged.setDistributedLease(policy.getDistributedLease() != null
+            ? policy.getDistributedLease()
+            : defaults.getDistributedLease());
+        merged.setLeaseTime(policy.getLeaseTime() != null ? policy.getLeaseTime() : defaults.getLeaseTime());
+        merged.setTimeToLive(policy.getTimeToLive() != null ? policy.getTimeToLive() : defaults.getTimeToLive());
+        merged.setEarlyRefreshBeta(policy.getEarlyRefreshBeta() != null
+            ? policy.getEarlyRefreshBeta()
+            : defaults.getEarlyRefreshBeta());
+        merged.setStaleTime(policy.getStaleTime() != null ? policy.getStaleTime() : defaults.getStaleTime());
+        return merged;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public List<String> getCacheNames() {
+        return cacheNames;
+    }
+
+    public void setCacheNames(List<String> cacheNames) {
+        this.cacheNames = cacheNames;
+    }
+
+    public int getRefreshThreads() {
+        return refreshThreads;
+    }
+
+    public void setRefreshThreads(int refreshThreads) {
+        this.refreshThreads = refreshThreads;
+    }
+
+    public int getRefreshQueueCapacity() {
+        return refreshQueueCapacity;
+    }
+
+    public void setRefreshQueueCapacity(int refreshQueueCapacity) {
+        this.refreshQueueCapacity = refreshQueueCapacity;
+    }
+
+    public Policy getDefaults() {
+        return defaults;
+    }
+
+    public void setDefaults(Policy defaults) {
+        this.defaults = defaults;
+    }
+
+    public Map<String, Policy> getCaches() {
+        return caches;
+    }
+
+    public void setCaches(Map<String, Policy> caches) {
+        this.caches = caches;
+    }
+
+    /**
+     * 防护策略
+     */
+    public static class Policy {
+
+        /**
+         * 是否启用单飞加载
+         */
+        private Boolean singleFlight;
+
+        /**
+         * 等待其他线程（节点）加载的最长时间
+         */
+        private Duration waitTimeout;
+
+        /**
+         * 是否启用分布式租约（同一 key 在集群内只有一个节点加载）
+         */
+        private Boolean distributedLease;
+
+        /**
+         * 分布式租约时长（加载异常时租约到期自动释放）
+         */
+        private Duration leaseTime;
+
+        /**
+         * 逻辑过期时长（为空表示使用 spring.cache.redis.time-to-live）
+         */
+        private Duration timeToLive;
+
+        /**
+         * 提前刷新系数（XFetch beta），越大越早刷新，0 表示不提前刷新
+         */
+        private Double earlyRefreshBeta;
+
+        /**
+         * 逻辑过期后继续返回旧值的时长（期间后台刷新），0 表示不返回旧值
+         */
+        private Duration staleTime;
+
+        /**
+         * 默认策略
+         */
+        public static Policy defaults() {
+            Policy policy = new Policy();
+            policy.setSingleFlight(true);
+            policy.setWaitTimeout(Duration.ofSeconds(3));
+            policy.setDistributedLease(false);
+            policy.setLeaseTime(Duration.ofSeconds(10));
+            policy.setEarlyRefreshBeta(1.0);
+            policy.setStaleTime(Duration.ZERO);
+            return policy;
+        }
+
+        public Boolean getSingleFlight() {
+            return singleFlight;
+        }
+
+        public void setSingleFlight(Boolean singleFlight) {
+            this.singleFlight = singleFlight;
+        }
+
+        public Duration getWaitTimeout() {
+            return waitTimeout;
+        }
+
+        public void setWaitTimeout(Duration waitTimeout) {
+            this.waitTimeout = waitTimeout;
+        }
+
+        public Boolean getDistributedLease() {
+            return distributedLease;
+        }
+
+        public void setDistributedLease(Boolean distributedLease) {
+            this.distributedLease = distributedLease;
+        }
+
+        public Duration getLeaseTime() {
+            return leaseTime;
+        }
+
+        public void setLeaseTime(Duration leaseTime) {
+            this.leaseTime = leaseTime;
+        }
+
+        public Duration getTimeToLive() {
+            return timeToLive;
+        }
+
+        public void setTimeToLive(Duration timeToLive) {
+            this.timeToLive = timeToLive;
+        }
+
+        public Double getEarlyRefreshBeta() {
+            return earlyRefreshBeta;
+        }
+
+        public void setEarlyRefreshBeta(Double earlyRefreshBeta) {
+            this.earlyRefreshBeta = earlyRefreshBeta;
+        }
+
+        public Duration getStaleTime() {
+            return staleTime;
+        }
+
+        public void setStaleTime(Duration staleTime) {
+            this.staleTime = staleTime;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.leepandar.starter.cache.springcache.autoconfigure;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 多级缓存配置属性
+ * <p>
+ * 在 Redis 缓存（二级）之前增加本地缓存（一级），节点间通过 Redisson Topic 广播失效消息
+ * </p>
+ */
+@ConfigurationProperties("spring.cache.multi-level")
+public class MultiLevelCacheProperties {
+
+    /**
+     * 是否启用
+     */
+    private boolean enabled = false;
+
+    /**
+     * 失效消息主题
+     */
+    private String topic = "spring-cache:invalidate";
+
+    /**
+     * 本地缓存默认最大条目数（每个缓存）
+     */
+    private int maximumSize = 1000;
+
+    /**
+     * 本地缓存默认过期时长
+     */
+    private Duration timeToLive = Duration.ofSeconds(60);
+
+    /**
+     * 按缓存名称单独配置本地缓存
+     */
+    private Map<String, Local> caches = new HashMap<>();
+
+    /**
+     * 不使用本地缓存的缓存名称（仅使用 Redis 缓存）
+     */
+    private List<String> excludes = new ArrayList<>();
+
+    /**
+     * 获取指定缓存的本地缓存最大条目数
+     *
+     * @param cacheName 缓存名称
+     * @return 最大条目数
+     */
+    public int getMaximumSize(String cacheName) {
+        Local local = caches.get(cacheName);
+        return local != null && local.getMaximumSize() != null ? local.getMaximumSize() : maximumSize;
+    }
+
+    /**
+     * 获取指定缓存的本地缓存过期时长
+     *
+     * @param cacheName 缓存名称
+     * @return 过期时长
+     */
+    public Duration getTimeToLive(String cacheName) {
+        Local local = caches.get(cacheName);
+        return local != null && local.getTimeToLive() != null ? local.getTimeToLive() : timeToLive;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getTopic() {
+        return topic;
+    }
+
+    public void setTopic(String topic) {
+        this.topic = topic;
+    }
+
+    public int getMaximumSize() {
+        return maximumSize;
+    }
+
+    public void setMaximumSize(int maximumSize) {
+        this.maximumSize = maximumSize;
+    }
+
+    public Duration getTimeToLive() {
+        return timeToLive;
+    }
+
+    public void setTimeToLive(Duration timeToLive) {
+        this.timeToLive = timeToLive;
+    }
+
+    public Map<String, Local> getCaches() {
+        return caches;
+    }
+
+    public void setCaches(Map<String, Local> caches) {
+        this.caches = caches;
+    }
+
+    public List<String> getExcludes() {
+        return excludes;
+    }
+
+    public void setExcludes(List<String> excludes) {
+        this.excludes = excludes;
+    }
+
+    /**
+     * 本地缓存配置
+     */
+    public static class Local {
+
+        /**
+         * 最大条目数
+         */
+        private Integer maximumSize;
+
+        /**
+         * 过期时长
+         */
+        private Duration timeToLive;
+
+        public Integer getMaximumSize() {
+            return maximumSize;
+        }
+
+        public void setMaximumSize(Integer maximumSize) {
+            this.maximumSize = maximumSize;
+        }
+
+        public Duration getTimeToLive() {
+            return timeToLive;
+        }
+
+        public void setTimeToLive(Duration timeToLive) {
+            this.timeToLive = timeToLive;
+        }
+    }
+}
@@ -1,41 +1,72 @@
 package com.leepandar.starter.cache.springcache.autoconfigure;
 
-import cn.hutool.core.map.MapUtil;
-import cn.hutool.core.text.CharSequenceUtil;
-import cn.hutool.crypto.digest.DigestUtil;
-import cn.hutool.json.JSONUtil;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.cache.CacheAutoConfiguration;
 import org.springframework.boot.autoconfigure.cache.CacheProperties;
+import org.springframework.boot.autoconfigure.cache.RedisCacheManagerBuilderCustomizer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CachingConfigurer;
 import org.springframework.cache.interceptor.KeyGenerator;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.PropertySource;
+import org.springframework.context.annotation.Role;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import com.leepandar.starter.cache.springcache.core.DefaultCacheKeyGenerator;
+import com.leepandar.starter.cache.springcache.core.FastCacheKeyGenerator;
+import com.leepandar.starter.cache.springcache.core.MultiLevelCacheManager;
+import com.leepandar.starter.cache.springcache.core.ProtectedCacheAdvisor;
+import com.leepandar.starter.cache.springcache.core.ProtectedCacheInterceptor;
+import com.leepandar.starter.cache.springcache.core.ProtectedCacheManagerPostProcessor;
+import com.leepandar.starter.cache.springcache.core.ProtectedCacheResolver;
+import com.leepandar.starter.core.constant.PropertiesConstants;
 import com.leepandar.starter.core.util.GeneralPropertySourceFactory;
 
-import java.util.Map;
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 /**
  * Spring Cache 自动配置
  */
-@AutoConfiguration
+@AutoConfiguration(before = CacheAutoConfiguration.class)
+@EnableConfigurationProperties({CacheProperties.class, MultiLevelCacheProperties.class,
+    CacheProtectionProperties.class, CacheKeyGeneratorProperties.class})
 @PropertySource(value = "classpath:default-cache-springcache.yml", factory = GeneralPropertySourceFactory.class)
 public class SpringCacheAutoConfiguration implements CachingConfigurer {
 
     private static final Logger log = LoggerFactory.getLogger(SpringCacheAutoConfiguration.class);
 
     private final ObjectMapper objectMapper;
+    private final CacheProperties cacheProperties;
+    private final CacheProtectionProperties protectionProperties;
+    private final CacheKeyGeneratorProperties keyGeneratorProperties;
+    private final ObjectProvider<CacheManager> cacheManagerProvider;
 
-    public SpringCacheAutoConfiguration(ObjectMapper objectMapper) {
+    public SpringCacheAutoConfiguration(ObjectMapper objectMapper,
+                                        CacheProperties cacheProperties,
+                                        CacheProtectionProperties protectionProperties,
+                                        CacheKeyGeneratorProperties keyGeneratorProperties,
+                                        ObjectProvider<CacheManager> cacheManagerProvider) {
         this.objectMapper = objectMapper;
+        this.cacheProperties = cacheProperties;
+        this.protectionProperties = protectionProperties;
+        this.keyGeneratorProperties = keyGeneratorProperties;
+        this.cacheManagerProvider = cacheManagerProvider;
     }
 
     /**
@@ -62,24 +93,114 @@ public class SpringCacheAutoConfiguration implements CachingConfigurer {
         return redisCacheConfiguration;
     }
 
+    /**
+     * 多级缓存管理器（本地缓存 + Redis 缓存）
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "spring.cache.multi-level", name = PropertiesConstants.ENABLED, havingValue = "true")
+    public CacheManager cacheManager(RedisConnectionFactory redisConnectionFactory,
+                                     RedisCacheConfiguration redisCacheConfiguration,
+                                     CacheProperties cacheProperties,
+                                     ObjectProvider<RedisCacheManagerBuilderCustomizer> customizers,
+                                     RedissonClient redissonClient,
+                                     MultiLevelCacheProperties multiLevelCacheProperties) {
+        RedisCacheManager.RedisCacheManagerBuilder builder = RedisCacheManager.builder(redisConnectionFactory)
+            .cacheDefaults(redisCacheConfiguration);
+        if (!cacheProperties.getCacheNames().isEmpty()) {
+            builder.initialCacheNames(new LinkedHashSet<>(cacheProperties.getCacheNames()));
+        }
+        if (cacheProperties.getRedis().isEnableStatistics()) {
+            builder.enableStatistics();
+        }
+        customizers.orderedStream().forEach(customizer -> customizer.customize(builder));
+        RedisCacheManager redisCacheManager = builder.build();
+        redisCacheManager.afterPropertiesSet();
+        return new MultiLevelCacheManager(redisCacheManager, redissonClient, multiLevelCacheProperties);
+    }
+
+    /**
+     * 缓存击穿防护：按防护策略调整 Redis 实际过期时长（逻辑过期时长 + 旧值保留时长）
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "spring.cache.protection", name = PropertiesConstants.ENABLED, havingValue = "true")
+    public RedisCacheManagerBuilderCustomizer cacheProtectionRedisCacheManagerBuilderCustomizer(RedisCacheConfiguration redisCacheConfiguration) {
+        return builder -> {
+            Duration defaultTtl = cacheProperties.getRedis().getTimeToLive();
+            if (protectionProperties.getCacheNames().isEmpty()) {
+                Duration ttl = this.getPhysicalTtl(protectionProperties.getDefaults(), defaultTtl);
+                if (ttl != null) {
+                    builder.cacheDefaults(redisCacheConfiguration.entryTtl(ttl));
+                }
+            }
+            Set<String> cacheNames = new LinkedHashSet<>(protectionProperties.getCacheNames());
+            cacheNames.addAll(protectionProperties.getCaches().keySet());
+            for (String cacheName : cacheNames) {
+                Duration ttl = this.getPhysicalTtl(protectionProperties.getPolicy(cacheName), defaultTtl);
+                if (ttl != null) {
+                    builder.withCacheConfiguration(cacheName, redisCacheConfiguration.entryTtl(ttl));
+                }
+            }
+        };
+    }
+
+    /**
+     * 缓存击穿防护解析器（未启用时返回 null，使用默认解析器）
+     */
+    @Bean
+    @Override
+    public ProtectedCacheResolver cacheResolver() {
+        if (!protectionProperties.isEnabled()) {
+            return null;
+        }
+        return new ProtectedCacheResolver(cacheManagerProvider, protectionProperties, cacheProperties.getRedis()
+            .getTimeToLive());
+    }
+
+    /**
+     * 缓存击穿防护：缓存方法调用结束时释放加载权
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    @ConditionalOnProperty(prefix = "spring.cache.protection", name = PropertiesConstants.ENABLED, havingValue = "true")
+    public static ProtectedCacheAdvisor protectedCacheAdvisor() {
+        return new ProtectedCacheAdvisor(new ProtectedCacheInterceptor());
+    }
+
+    /**
+     * 缓存击穿防护：直接使用 CacheManager 时同样返回防护缓存
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "spring.cache.protection", name = PropertiesConstants.ENABLED, havingValue = "true")
+    public static ProtectedCacheManagerPostProcessor protectedCacheManagerPostProcessor(ObjectProvider<ProtectedCacheResolver> cacheResolverProvider) {
+        return new ProtectedCacheManagerPostProcessor(cacheResolverProvider);
+    }
+
     /**
      * 自定义缓存 key 生成策略
      *
      * <p>
-     * 如果 @Cacheable 不指定 key，则默认使用该策略
+     * 如果 @Cacheable 不指定 key，则默认使用该策略（格式：方法名:参数哈希）
      * </p>
      */
     @Bean
     @Override
     public KeyGenerator keyGenerator() {
-        return (target, method, params) -> {
-            String key = CharSequenceUtil.toUnderlineCase(method.getName()).toUpperCase();
-            Map<String, Object> paramMap = MapUtil.newHashMap(params.length);
-            for (int i = 0; i < params.length; i++) {
-                paramMap.put(String.valueOf(i), params[i]);
-            }
-            return "%s:%s".formatted(key, DigestUtil.sha256Hex(JSONUtil.toJsonStr(paramMap)));
-        };
+        return keyGeneratorProperties.isFast() ? new FastCacheKeyGenerator() : new DefaultCacheKeyGenerator();
+    }
+
+    /**
+     * 获取 Redis 实际过期时长（无需调整时返回 null）
+     */
+    private Duration getPhysicalTtl(CacheProtectionProperties.Policy policy, Duration defaultTtl) {
+        Duration ttl = policy.getTimeToLive() != null ? policy.getTimeToLive() : defaultTtl;
+        if (ttl == null || ttl.isZero() || ttl.isNegative()) {
+            return null;
+        }
+        Duration staleTime = policy.getStaleTime();
+        if (staleTime != null && !staleTime.isZero() && !staleTime.isNegative()) {
+            return ttl.plus(staleTime);
+        }
+        return policy.getTimeToLive() != null ? ttl : null;
     }
 
     @PostConstruct
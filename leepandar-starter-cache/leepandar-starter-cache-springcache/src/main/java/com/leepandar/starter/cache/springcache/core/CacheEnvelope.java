@@ -0,0 +1,58 @@
+package com.leepandar.starter.cache.springcache.core;
+
+/**
+ * 缓存值包装
+ * <p>
+ * 记录逻辑过期时间和加载耗时，用于提前刷新及过期后返回旧值
+ * </p>
+ */
+public class CacheEnvelope {
+
+    /**
+     * 缓存值
+     */
+    private Object value;
+
+    /**
+     * 逻辑过期时间（毫秒时间戳）
+     */
+    private long expireAt;
+
+    /**
+     * 加载耗时（毫秒）
+     */
+    private long delta;
+
+    public CacheEnvelope() {
+    }
+
+    public CacheEnvelope(Object value, long expireAt, long delta) {
+        this.value = value;
+        this.expireAt = expireAt;
+        this.delta = delta;
+    }
+
+    public Object getValue() {
+        return value;
+    }
+
+    public void setValue(Object value) {
+        this.value = value;
+    }
+
+    public long getExpireAt() {
+        return expireAt;
+    }
+
+    public void setExpireAt(long expireAt) {
+        this.expireAt = expireAt;
+    }
+
+    public long getDelta() {
+        return delta;
+    }
+
+    public void setDelta(long delta) {
+        this.delta = delta;
+    }
+}
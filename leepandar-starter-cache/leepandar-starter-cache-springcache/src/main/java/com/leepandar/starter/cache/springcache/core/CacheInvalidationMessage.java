@@ -0,0 +1,55 @@
+package com.leepandar.starter.cache.springcache.core;
+
+/**
+ * 本地缓存失效消息
+ */
+public class CacheInvalidationMessage {
+
+    /**
+     * 发送节点 ID
+     */
+    private String nodeId;
+
+    /**
+     * 缓存名称
+     */
+    private String cacheName;
+
+    /**
+     * 缓存键（为空表示清空整个缓存）
+     */
+    private String key;
+
+    public CacheInvalidationMessage() {
+    }
+
+    public CacheInvalidationMessage(String nodeId, String cacheName, String key) {
+        this.nodeId = nodeId;
+        this.cacheName = cacheName;
+        this.key = key;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    public void setNodeId(String nodeId) {
+        this.nodeId = nodeId;
+    }
+
+    public String getCacheName() {
+        return cacheName;
+    }
+
+    public void setCacheName(String cacheName) {
+        this.cacheName = cacheName;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public void setKey(String key) {
+        this.key = key;
+    }
+}
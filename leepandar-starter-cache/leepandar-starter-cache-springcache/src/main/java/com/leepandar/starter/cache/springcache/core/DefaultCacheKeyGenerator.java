@@ -0,0 +1,53 @@
+package com.leepandar.starter.cache.springcache.core;
+
+import cn.hutool.core.map.MapUtil;
+import cn.hutool.core.text.CharSequenceUtil;
+import cn.hutool.crypto.digest.DigestUtil;
+import cn.hutool.json.JSONUtil;
+import org.springframework.cache.interceptor.KeyGenerator;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 默认缓存 key 生成器
+ * <p>
+ * 生成 {@code 方法名（大写下划线）:SHA-256(参数 JSON)} 格式的 key，参数 JSON 为 {@code {"0":参数1,"1":参数2,...}}。
+ * 方法前缀预先缓存，无参方法直接使用预先计算的哈希值，生成的 key 与历史版本完全一致
+ * </p>
+ */
+public class DefaultCacheKeyGenerator implements KeyGenerator {
+
+    /**
+     * 无参方法的参数哈希值
+     */
+    private static final String EMPTY_PARAMS_HASH = DigestUtil.sha256Hex(JSONUtil.toJsonStr(MapUtil.newHashMap(0)));
+
+    private final ConcurrentMap<Method, String> prefixes = new ConcurrentHashMap<>();
+
+    @Override
+    public Object generate(Object target, Method method, Object... params) {
+        String prefix = prefixes.computeIfAbsent(method, m -> CharSequenceUtil.toUnderlineCase(m.getName())
+            .toUpperCase() + ":");
+        return prefix.concat(hash(params));
+    }
+
+    /**
+     * 计算参数哈希值（SHA-256(参数 JSON)）
+     *
+     * @param params 参数
+     * @return 参数哈希值
+     */
+    static String hash(Object... params) {
+        if (params.length == 0) {
+            return EMPTY_PARAMS_HASH;
+        }
+        Map<String, Object> paramMap = MapUtil.newHashMap(params.length);
+        for (int i = 0; i < params.length; i++) {
+            paramMap.put(String.valueOf(i), params[i]);
+        }
+        return DigestUtil.sha256Hex(JSONUtil.toJsonStr(paramMap));
+    }
+}
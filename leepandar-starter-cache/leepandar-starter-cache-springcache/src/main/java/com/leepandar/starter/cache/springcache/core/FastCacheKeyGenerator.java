@@ -0,0 +1,157 @@
+package com.leepandar.starter.cache.springcache.core;
+
+import cn.hutool.core.map.MapUtil;
+import cn.hutool.core.text.CharSequenceUtil;
+import cn.hutool.core.util.HexUtil;
+import cn.hutool.json.JSONUtil;
+import com.leepandar.starter.core.util.ArgumentHasher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.interceptor.KeyGenerator;
+
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 缓存 key 生成器
+ * <p>
+ * 生成 {@code 方法名（大写下划线）:哈希值} 格式的 key，方法前缀预先缓存：
+ * <ul>
+ * <li>参数均为字符串、整数或布尔值时，直接拼接参数 JSON 并计算 SHA-256（复用摘要实例），与 {@link DefaultCacheKeyGenerator} 生成的 key 完全一致；</li>
+ * <li>参数包含自定义类型（如 DTO）时，使用 {@link ArgumentHasher}（按结构遍历 + MurmurHash3 128 位），与默认生成器不兼容；</li>
+ * <li>其他参数（如 null、浮点数、日期、集合）使用默认生成器。</li>
+ * </ul>
+ * 初始化时校验拼接结果与默认生成器一致，不一致（如 JSON 库版本差异）时全部使用默认生成器
+ * </p>
+ */
+public class FastCacheKeyGenerator implements KeyGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(FastCacheKeyGenerator.class);
+
+    /**
+     * 校验样例参数
+     */
+    private static final Object[][] SAMPLES = {{"a"}, {"", 0, -1L, Long.MAX_VALUE, Integer.MIN_VALUE, true, false},
+        {"\"\\/</>:,", "\b\t\n\f\r\u0001\u001f", "中文\u0080\u00a0\u2028\u2066\ud83d\ude00"}, {"{\"a\":1}", "[1]",
+            "null"}, {(short)1, (byte)2, "3", 4, 5L, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17}};
+
+    private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private final ConcurrentMap<Method, String> prefixes = new ConcurrentHashMap<>();
+
+    /**
+     * 各参数个数对应的 JSON 字段顺序（与默认生成器使用的 HashMap 遍历顺序一致）
+     */
+    private final ConcurrentMap<Integer, int[]> fieldOrders = new ConcurrentHashMap<>();
+
+    private final boolean compatible;
+
+    public FastCacheKeyGenerator() {
+        this.compatible = this.verify();
+    }
+
+    @Override
+    public Object generate(Object target, Method method, Object... params) {
+        String prefix = prefixes.computeIfAbsent(method, m -> CharSequenceUtil.toUnderlineCase(m.getName())
+            .toUpperCase() + ":");
+        return prefix.concat(this.hash(params));
+    }
+
+    private String hash(Object... params) {
+        if (!compatible) {
+            return DefaultCacheKeyGenerator.hash(params);
+        }
+        boolean simple = true;
+        for (Object param : params) {
+            if (isComplex(param)) {
+                return ArgumentHasher.hash(params);
+            }
+            simple &= isSimple(param);
+        }
+        return simple ? this.simpleHash(params) : DefaultCacheKeyGenerator.hash(params);
+    }
+
+    /**
+     * 拼接参数 JSON 并计算 SHA-256（参数均为字符串、整数或布尔值）
+     */
+    private String simpleHash(Object... params) {
+        int[] order = fieldOrders.computeIfAbsent(params.length, FastCacheKeyGenerator::resolveFieldOrder);
+        StringBuilder json = new StringBuilder(16 + params.length * 16).append('{');
+        for (int i = 0; i < order.length; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            int index = order[i];
+            json.append('"').append(index).append("\":");
+            Object param = params[index];
+            if (param instanceof CharSequence str) {
+                json.append(JSONUtil.quote(str.toString()));
+            } else {
+                json.append(param);
+            }
+        }
+        json.append('}');
+        MessageDigest digest = SHA256.get();
+        return HexUtil.encodeHexStr(digest.digest(json.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * 校验拼接结果与默认生成器一致
+     */
+    private boolean verify() {
+        try {
+            for (Object[] sample : SAMPLES) {
+                if (!this.simpleHash(sample).equals(DefaultCacheKeyGenerator.hash(sample))) {
+                    log.warn("Fast cache key is incompatible with the default cache key, fallback to default.");
+                    return false;
+                }
+            }
+            return true;
+        } catch (RuntimeException e) {
+            log.warn("Verify fast cache key failed, fallback to default.", e);
+            return false;
+        }
+    }
+
+    /**
+     * 解析 JSON 字段顺序
+     */
+    private static int[] resolveFieldOrder(int size) {
+        Map<String, Object> paramMap = MapUtil.newHashMap(size);
+        for (int i = 0; i < size; i++) {
+            paramMap.put(String.valueOf(i), i);
+        }
+        int[] order = new int[size];
+        int i = 0;
+        for (String key : paramMap.keySet()) {
+            order[i++] = Integer.parseInt(key);
+        }
+        return order;
+    }
+
+    private static boolean isSimple(Object param) {
+        return param instanceof String || param instanceof Integer || param instanceof Long || param instanceof Short || param instanceof Byte || param instanceof Boolean;
+    }
+
+    private static boolean isComplex(Object param) {
+        if (param == null || param instanceof Enum<?>) {
+            return false;
+        }
+        Class<?> clazz = param.getClass();
+        while (clazz.isArray()) {
+            clazz = clazz.getComponentType();
+        }
+        return !clazz.isPrimitive() && !clazz.getName().startsWith("java.");
+    }
+}
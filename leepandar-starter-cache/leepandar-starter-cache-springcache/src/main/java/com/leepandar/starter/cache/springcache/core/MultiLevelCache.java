@@ -0,0 +1,190 @@
+package com.leepandar.starter.cache.springcache.core;
+
+import com.leepandar.starter.core.util.LruCache;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * 多级缓存
+ * <p>
+ * 读取时先查本地缓存，未命中再查 Redis 缓存并回填本地缓存；写入、删除时同步更新 Redis 缓存，
+ * 并广播失效消息清除其他节点的本地缓存。本地缓存直接保存反序列化后的对象，调用方不应修改返回值。
+ * 异步读取（retrieve）直接访问 Redis 缓存
+ * </p>
+ */
+public class MultiLevelCache implements Cache {
+
+    private final String name;
+    private final Cache remoteCache;
+    private final LruCache<String, ValueWrapper> localCache;
+    private final MultiLevelCacheManager cacheManager;
+
+    public MultiLevelCache(String name,
+                           Cache remoteCache,
+                           LruCache<String, ValueWrapper> localCache,
+                           MultiLevelCacheManager cacheManager) {
+        this.name = name;
+        this.remoteCache = remoteCache;
+        this.localCache = localCache;
+        this.cacheManager = cacheManager;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remoteCache.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = toLocalKey(key);
+        ValueWrapper wrapper = localCache.get(localKey);
+        if (wrapper != null) {
+            return wrapper;
+        }
+        wrapper = remoteCache.get(key);
+        if (wrapper != null) {
+            localCache.put(localKey, wrapper);
+        }
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T)value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = toLocalKey(key);
+        ValueWrapper wrapper = localCache.get(localKey);
+        if (wrapper != null) {
+            return (T)wrapper.get();
+        }
+        T value = remoteCache.get(key, valueLoader);
+        localCache.put(localKey, new SimpleValueWrapper(value));
+        return value;
+    }
+
+    @Override
+    public CompletableFuture<?> retrieve(Object key) {
+        return remoteCache.retrieve(key);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+        return remoteCache.retrieve(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        String localKey = toLocalKey(key);
+        remoteCache.put(key, value);
+        localCache.put(localKey, new SimpleValueWrapper(value));
+        cacheManager.publish(name, localKey);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        String localKey = toLocalKey(key);
+        ValueWrapper existing = remoteCache.putIfAbsent(key, value);
+        localCache.remove(localKey);
+        cacheManager.publish(name, localKey);
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        String localKey = toLocalKey(key);
+        remoteCache.evict(key);
+        localCache.remove(localKey);
+        cacheManager.publish(name, localKey);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        String localKey = toLocalKey(key);
+        boolean evicted = remoteCache.evictIfPresent(key);
+        localCache.remove(localKey);
+        cacheManager.publish(name, localKey);
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        remoteCache.clear();
+        localCache.clear();
+        cacheManager.publish(name, null);
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = remoteCache.invalidate();
+        localCache.clear();
+        cacheManager.publish(name, null);
+        return invalidated;
+    }
+
+    /**
+     * 清除本地缓存（收到失效消息时调用）
+     *
+     * @param key 缓存键（为空表示清空）
+     */
+    void evictLocal(String key) {
+        if (key == null) {
+            localCache.clear();
+        } else {
+            localCache.remove(key);
+        }
+    }
+
+    /**
+     * 获取本地缓存命中次数
+     */
+    public long getLocalHitCount() {
+        return localCache.getHitCount();
+    }
+
+    /**
+     * 获取本地缓存未命中次数
+     */
+    public long getLocalMissCount() {
+        return localCache.getMissCount();
+    }
+
+    /**
+     * 获取本地缓存命中率
+     */
+    public double getLocalHitRate() {
+        return localCache.getHitRate();
+    }
+
+    /**
+     * 获取本地缓存条目数
+     */
+    public int getLocalSize() {
+        return localCache.size();
+    }
+
+    /**
+     * 本地缓存键（与 Redis 缓存键一致按字符串处理，保证失效消息跨节点可匹配）
+     */
+    private static String toLocalKey(Object key) {
+        return key instanceof String str ? str : String.valueOf(key);
+    }
+}
@@ -0,0 +1,113 @@
+package com.leepandar.starter.cache.springcache.core;
+
+import cn.hutool.core.util.IdUtil;
+import com.leepandar.starter.cache.springcache.autoconfigure.MultiLevelCacheProperties;
+import com.leepandar.starter.core.util.LruCache;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 多级缓存管理器
+ * <p>
+ * 包装 Redis 缓存管理器，为每个缓存增加本地缓存，并订阅失效消息主题清除本节点的本地缓存
+ * </p>
+ */
+public class MultiLevelCacheManager implements CacheManager, DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(MultiLevelCacheManager.class);
+
+    private final CacheManager remoteCacheManager;
+    private final MultiLevelCacheProperties properties;
+    private final ConcurrentMap<String, Cache> caches = new ConcurrentHashMap<>();
+    private final String nodeId = IdUtil.fastSimpleUUID();
+    private final RTopic topic;
+    private final int listenerId;
+
+    public MultiLevelCacheManager(CacheManager remoteCacheManager,
+                                  RedissonClient redissonClient,
+                                  MultiLevelCacheProperties properties) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.properties = properties;
+        this.topic = redissonClient.getTopic(properties.getTopic());
+        this.listenerId = topic.addListener(CacheInvalidationMessage.class, (channel, msg) -> onMessage(msg));
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache remoteCache = remoteCacheManager.getCache(name);
+        if (remoteCache == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, key -> properties.getExcludes().contains(key)
+            ? remoteCache
+            : new MultiLevelCache(key, remoteCache, new LruCache<>(properties.getMaximumSize(key), properties
+                .getTimeToLive(key)
+                .toMillis()), this));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remoteCacheManager.getCacheNames();
+    }
+
+    /**
+     * 获取已创建的多级缓存（可用于读取本地缓存命中率等指标）
+     *
+     * @return 多级缓存列表
+     */
+    public List<MultiLevelCache> getMultiLevelCaches() {
+        List<MultiLevelCache> result = new ArrayList<>();
+        for (Cache cache : caches.values()) {
+            if (cache instanceof MultiLevelCache multiLevelCache) {
+                result.add(multiLevelCache);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void destroy() {
+        topic.removeListener(listenerId);
+    }
+
+    /**
+     * 广播失效消息（发送失败时其他节点的本地缓存最多在过期时长后失效）
+     *
+     * @param cacheName 缓存名称
+     * @param key       缓存键（为空表示清空）
+     */
+    void publish(String cacheName, String key) {
+        try {
+            topic.publish(new CacheInvalidationMessage(nodeId, cacheName, key));
+        } catch (Exception e) {
+            log.warn("Publish cache invalidation message failed. cacheName: {}, key: {}", cacheName, key, e);
+        }
+    }
+
+    /**
+     * 处理失效消息（忽略本节点发出的消息）
+     */
+    private void onMessage(CacheInvalidationMessage msg) {
+        if (nodeId.equals(msg.getNodeId())) {
+            return;
+        }
+        if (caches.get(msg.getCacheName()) instanceof MultiLevelCache cache) {
+            cache.evictLocal(msg.getKey());
+        }
+    }
+}
@@ -0,0 +1,447 @@
+package com.leepandar.starter.cache.springcache.core;
+
+import com.leepandar.starter.cache.redisson.util.RedisLockUtils;
+import com.leepandar.starter.cache.springcache.autoconfigure.CacheProtectionProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 缓存击穿防护
+ * <p>
+ * 缓存值包装为 {@link CacheEnvelope} 记录逻辑过期时间和加载耗时：
+ * <ul>
+ * <li>未命中时同一 JVM 同一 key 只有一个线程加载（可选分布式租约，集群内只有一个节点加载），其他线程等待结果；</li>
+ * <li>临近过期时按 XFetch 算法概率提前刷新，逻辑过期后在 staleTime 内继续返回旧值；</li>
+ * <li>sync = true 时由后台线程刷新，否则由抢到刷新权的调用线程按未命中处理并重新加载。</li>
+ * </ul>
+ * 未使用 sync 时，单飞加载仅在 {@link ProtectedCacheInterceptor} 包裹的缓存方法调用中生效，加载权在写入缓存或方法调用结束时释放
+ * （未写入缓存时也不会阻塞其他线程）；直接通过 CacheManager 访问时不参与单飞加载，只解包缓存值
+ * </p>
+ */
+public class ProtectedCache implements Cache {
+
+    private static final Logger log = LoggerFactory.getLogger(ProtectedCache.class);
+
+    /**
+     * 等待其他节点加载时的轮询间隔
+     */
+    private static final long POLL_INTERVAL_MILLIS = 50;
+
+    private static final String LEASE_KEY_PREFIX = "cache:lease:";
+
+    /**
+     * 当前缓存方法调用中获取的加载权释放操作（仅在 {@link ProtectedCacheInterceptor} 范围内存在）
+     */
+    private static final ThreadLocal<List<Runnable>> FLIGHT_SCOPE = new ThreadLocal<>();
+
+    private final Cache delegate;
+    private final CacheProtectionProperties.Policy policy;
+    private final Executor refreshExecutor;
+    private final long ttlMillis;
+    private final long waitTimeoutNanos;
+    private final long leaseMillis;
+    private final ConcurrentMap<String, Flight> flights = new ConcurrentHashMap<>();
+
+    /**
+     * @param delegate        实际缓存
+     * @param policy          防护策略
+     * @param defaultTtl      默认过期时长（策略未指定逻辑过期时长时使用，为空表示永不过期）
+     * @param refreshExecutor 后台刷新线程池
+     */
+    public ProtectedCache(Cache delegate,
+                          CacheProtectionProperties.Policy policy,
+                          Duration defaultTtl,
+                          Executor refreshExecutor) {
+        this.delegate = delegate;
+        this.policy = policy;
+        this.refreshExecutor = refreshExecutor;
+        Duration ttl = policy.getTimeToLive() != null ? policy.getTimeToLive() : defaultTtl;
+        this.ttlMillis = ttl != null ? ttl.toMillis() : 0;
+        this.waitTimeoutNanos = policy.getWaitTimeout().toNanos();
+        this.leaseMillis = policy.getLeaseTime().toMillis();
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    /**
+     * 获取原生缓存
+     * <p>
+     * 原生缓存中的值为 {@link CacheEnvelope}，读取时需调用 {@link CacheEnvelope#getValue()} 解包
+     * </p>
+     */
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper wrapper = delegate.get(key);
+        String flightKey = String.valueOf(key);
+        List<Runnable> scope = FLIGHT_SCOPE.get();
+        if (wrapper == null) {
+            if (scope == null || !policy.getSingleFlight()) {
+                return null;
+            }
+            Flight flight = acquire(flightKey, true);
+            if (flight != null) {
+                // 由当前线程加载，写入缓存或方法调用结束时释放
+                scope.add(() -> release(flightKey, flight));
+                return null;
+            }
+            return unwrap(await(key, flightKey));
+        }
+        if (!(wrapper.get() instanceof CacheEnvelope envelope)) {
+            return wrapper;
+        }
+        if (scope != null && needsRefresh(envelope)) {
+            Flight flight = acquire(flightKey, true);
+            if (flight != null) {
+                // 由当前线程重新加载，其他线程继续使用旧值
+                scope.add(() -> release(flightKey, flight));
+                return null;
+            }
+        }
+        return new SimpleValueWrapper(envelope.getValue());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T)value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = delegate.get(key);
+        String flightKey = String.valueOf(key);
+        if (wrapper != null) {
+            if (!(wrapper.get() instanceof CacheEnvelope envelope)) {
+                return (T)wrapper.get();
+            }
+            if (needsRefresh(envelope)) {
+                refreshAsync(key, flightKey, valueLoader);
+            }
+            return (T)envelope.getValue();
+        }
+        if (!policy.getSingleFlight()) {
+            return load(key, valueLoader);
+        }
+        Flight flight = acquire(flightKey, true);
+        if (flight == null) {
+            wrapper = unwrap(await(key, flightKey));
+            // 等待超时仍未加载完成时自行加载
+            return wrapper != null ? (T)wrapper.get() : load(key, valueLoader);
+        }
+        try {
+            wrapper = unwrap(delegate.get(key));
+            return wrapper != null ? (T)wrapper.get() : load(key, valueLoader);
+        } finally {
+            release(flightKey, flight);
+        }
+    }
+
+    @Override
+    public CompletableFuture<?> retrieve(Object key) {
+        CompletableFuture<?> future = delegate.retrieve(key);
+        return future != null ? future.thenApply(ProtectedCache::unwrapValue) : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+        CompletableFuture<Object> future = delegate.retrieve(key, () -> valueLoader.get()
+            .thenApply(value -> wrap(value, 0)));
+        return future.thenApply(value -> (T)unwrapValue(value));
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        String flightKey = String.valueOf(key);
+        Flight flight = flights.get(flightKey);
+        boolean owned = flight != null && flight.owner == Thread.currentThread();
+        try {
+            delegate.put(key, wrap(value, owned ? flight.elapsedMillis() : 0));
+        } finally {
+            if (owned) {
+                release(flightKey, flight);
+            }
+        }
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        try {
+            return unwrap(delegate.putIfAbsent(key, wrap(value, 0)));
+        } finally {
+            releaseOwned(String.valueOf(key));
+        }
+    }
+
+    @Override
+    public void evict(Object key) {
+        try {
+            delegate.evict(key);
+        } finally {
+            releaseOwned(String.valueOf(key));
+        }
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        try {
+            return delegate.evictIfPresent(key);
+        } finally {
+            releaseOwned(String.valueOf(key));
+        }
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        return delegate.invalidate();
+    }
+
+    /**
+     * 是否需要刷新（已逻辑过期，或按 XFetch 算法提前刷新：now - delta * beta * ln(rand) >= expireAt）
+     */
+    private boolean needsRefresh(CacheEnvelope envelope) {
+        long now = System.currentTimeMillis();
+        if (now >= envelope.getExpireAt()) {
+            return true;
+        }
+        double beta = policy.getEarlyRefreshBeta();
+        if (beta <= 0 || envelope.getDelta() <= 0) {
+            return false;
+        }
+        double random = 1 - ThreadLocalRandom.current().nextDouble();
+        return now - envelope.getDelta() * beta * Math.log(random) >= envelope.getExpireAt();
+    }
+
+    /**
+     * 后台刷新（同一 key 同时只有一个刷新任务，线程池已满时放弃本次刷新）
+     */
+    private <T> void refreshAsync(Object key, String flightKey, Callable<T> valueLoader) {
+        Flight flight = acquire(flightKey, false);
+        if (flight == null) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                RedisLockUtils lease = null;
+                try {
+                    if (policy.getDistributedLease()) {
+                        lease = RedisLockUtils.tryLock(leaseKey(flightKey), leaseMillis, 0);
+                        if (!lease.isLocked()) {
+                            return;
+                        }
+                    }
+                    load(key, valueLoader);
+                } catch (Exception e) {
+                    log.warn("Refresh cache failed. cacheName: {}, key: {}", getName(), key, e);
+                } finally {
+                    if (lease != null) {
+                        lease.close();
+                    }
+                    release(flightKey, flight);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            release(flightKey, flight);
+        }
+    }
+
+    /**
+     * 加载并写入缓存
+     */
+    private <T> T load(Object key, Callable<T> valueLoader) {
+        long start = System.currentTimeMillis();
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        delegate.put(key, wrap(value, System.currentTimeMillis() - start));
+        return value;
+    }
+
+    /**
+     * 获取加载权
+     *
+     * @param flightKey 单飞 key
+     * @param withLease 是否同时获取分布式租约
+     * @return 加载凭证（为空表示其他线程或节点正在加载）
+     */
+    private Flight acquire(String flightKey, boolean withLease) {
+        Flight flight = new Flight(Thread.currentThread());
+        Flight existing = flights.putIfAbsent(flightKey, flight);
+        if (existing != null) {
+            // 持有者超时未释放（如方法异常或未写入缓存）时接管
+            if (!existing.isExpired(waitTimeoutNanos) || !flights.replace(flightKey, existing, flight)) {
+                return null;
+            }
+            existing.latch.countDown();
+        }
+        if (withLease && policy.getDistributedLease()) {
+            RedisLockUtils lease = RedisLockUtils.tryLock(leaseKey(flightKey), leaseMillis, 0);
+            if (!lease.isLocked()) {
+                release(flightKey, flight);
+                return null;
+            }
+            flight.lease = lease;
+        }
+        return flight;
+    }
+
+    /**
+     * 等待其他线程（节点）加载完成
+     */
+    private ValueWrapper await(Object key, String flightKey) {
+        long deadline = System.nanoTime() + waitTimeoutNanos;
+        try {
+            Flight flight = flights.get(flightKey);
+            if (flight != null) {
+                flight.latch.await(waitTimeoutNanos, TimeUnit.NANOSECONDS);
+                return delegate.get(key);
+            }
+            // 其他节点持有租约，轮询等待
+            ValueWrapper wrapper;
+            while ((wrapper = delegate.get(key)) == null && System.nanoTime() < deadline) {
+                Thread.sleep(POLL_INTERVAL_MILLIS);
+            }
+            return wrapper;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return delegate.get(key);
+        }
+    }
+
+    private void release(String flightKey, Flight flight) {
+        flights.remove(flightKey, flight);
+        flight.latch.countDown();
+        RedisLockUtils lease = flight.lease;
+        if (lease != null) {
+            flight.lease = null;
+            lease.close();
+        }
+    }
+
+    /**
+     * 开始缓存方法调用范围
+     *
+     * @return 外层调用范围（嵌套调用时）
+     */
+    static List<Runnable> beginFlightScope() {
+        List<Runnable> outer = FLIGHT_SCOPE.get();
+        FLIGHT_SCOPE.set(new ArrayList<>(1));
+        return outer;
+    }
+
+    /**
+     * 结束缓存方法调用范围，释放本次调用中获取的加载权
+     *
+     * @param outer 外层调用范围
+     */
+    static void endFlightScope(List<Runnable> outer) {
+        List<Runnable> scope = FLIGHT_SCOPE.get();
+        try {
+            if (scope != null) {
+                scope.forEach(Runnable::run);
+            }
+        } finally {
+            if (outer == null) {
+                FLIGHT_SCOPE.remove();
+            } else {
+                FLIGHT_SCOPE.set(outer);
+            }
+        }
+    }
+
+    private void releaseOwned(String flightKey) {
+        Flight flight = flights.get(flightKey);
+        if (flight != null && flight.owner == Thread.currentThread()) {
+            release(flightKey, flight);
+        }
+    }
+
+    private String leaseKey(String flightKey) {
+        return LEASE_KEY_PREFIX + getName() + ":" + flightKey;
+    }
+
+    /**
+     * 包装缓存值（未设置过期时长或值为空时不包装）
+     */
+    private Object wrap(Object value, long delta) {
+        if (value == null || ttlMillis <= 0) {
+            return value;
+        }
+        return new CacheEnvelope(value, System.currentTimeMillis() + ttlMillis, delta);
+    }
+
+    private static ValueWrapper unwrap(ValueWrapper wrapper) {
+        if (wrapper != null && wrapper.get() instanceof CacheEnvelope envelope) {
+            return new SimpleValueWrapper(envelope.getValue());
+        }
+        return wrapper;
+    }
+
+    private static Object unwrapValue(Object value) {
+        if (value instanceof ValueWrapper wrapper) {
+            return unwrap(wrapper);
+        }
+        return value instanceof CacheEnvelope envelope ? envelope.getValue() : value;
+    }
+
+    /**
+     * 加载凭证
+     */
+    private static class Flight {
+
+        private final Thread owner;
+        private final long startNanos = System.nanoTime();
+        private final CountDownLatch latch = new CountDownLatch(1);
+        private RedisLockUtils lease;
+
+        Flight(Thread owner) {
+            this.owner = owner;
+        }
+
+        boolean isExpired(long timeoutNanos) {
+            return System.nanoTime() - startNanos > timeoutNanos;
+        }
+
+        long elapsedMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.leepandar.starter.cache.springcache.core;
+
+import org.aopalliance.aop.Advice;
+import org.springframework.aop.Pointcut;
+import org.springframework.aop.support.AbstractPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.cache.annotation.AnnotationCacheOperationSource;
+import org.springframework.cache.interceptor.CacheOperationSource;
+import org.springframework.core.Ordered;
+import org.springframework.util.CollectionUtils;
+
+import java.lang.reflect.Method;
+
+/**
+ * 缓存击穿防护通知
+ * <p>
+ * 匹配缓存注解方法，优先级高于 Spring Cache 通知（默认 {@link Ordered#LOWEST_PRECEDENCE}），
+ * 自定义 {@code @EnableCaching(order)} 时需保证其优先级低于本通知，否则非 sync 缓存不进行单飞加载
+ * </p>
+ */
+public class ProtectedCacheAdvisor extends AbstractPointcutAdvisor {
+
+    private final Advice advice;
+    private final Pointcut pointcut;
+
+    public ProtectedCacheAdvisor(ProtectedCacheInterceptor advice) {
+        this.advice = advice;
+        CacheOperationSource cacheOperationSource = new AnnotationCacheOperationSource();
+        this.pointcut = new StaticMethodMatcherPointcut() {
+            @Override
+            public boolean matches(Method method, Class<?> targetClass) {
+                return !CollectionUtils.isEmpty(cacheOperationSource.getCacheOperations(method, targetClass));
+            }
+        };
+        this.setOrder(Ordered.LOWEST_PRECEDENCE - 1);
+    }
+
+    @Override
+    public Pointcut getPointcut() {
+        return this.pointcut;
+    }
+
+    @Override
+    public Advice getAdvice() {
+        return this.advice;
+    }
+}
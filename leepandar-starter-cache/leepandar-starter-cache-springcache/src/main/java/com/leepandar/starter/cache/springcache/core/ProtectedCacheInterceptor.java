@@ -0,0 +1,25 @@
+package com.leepandar.starter.cache.springcache.core;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import java.util.List;
+
+/**
+ * 缓存击穿防护拦截器
+ * <p>
+ * 包裹在 Spring Cache 拦截器外层，缓存方法调用结束时释放本次调用中获取的加载权（未写入缓存时不阻塞其他线程）
+ * </p>
+ */
+public class ProtectedCacheInterceptor implements MethodInterceptor {
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        List<Runnable> outer = ProtectedCache.beginFlightScope();
+        try {
+            return invocation.proceed();
+        } finally {
+            ProtectedCache.endFlightScope(outer);
+        }
+    }
+}
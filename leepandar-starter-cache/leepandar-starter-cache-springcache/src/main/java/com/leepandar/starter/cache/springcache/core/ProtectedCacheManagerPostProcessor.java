@@ -0,0 +1,55 @@
+package com.leepandar.starter.cache.springcache.core;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.lang.reflect.Modifier;
+
+/**
+ * 缓存管理器后置处理器
+ * <p>
+ * 代理 {@link CacheManager#getCache(String)}，返回 {@link ProtectedCacheResolver} 包装后的缓存，
+ * 避免直接使用 CacheManager 的代码读取到 {@link CacheEnvelope}
+ * </p>
+ */
+public class ProtectedCacheManagerPostProcessor implements BeanPostProcessor {
+
+    private static final String GET_CACHE_METHOD = "getCache";
+
+    private final ObjectProvider<ProtectedCacheResolver> cacheResolverProvider;
+
+    public ProtectedCacheManagerPostProcessor(ObjectProvider<ProtectedCacheResolver> cacheResolverProvider) {
+        this.cacheResolverProvider = cacheResolverProvider;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof CacheManager)) {
+            return bean;
+        }
+        MethodInterceptor interceptor = invocation -> {
+            Object result = invocation.proceed();
+            if (GET_CACHE_METHOD.equals(invocation.getMethod().getName()) && result instanceof Cache cache) {
+                ProtectedCacheResolver cacheResolver = cacheResolverProvider.getIfAvailable();
+                return cacheResolver != null ? cacheResolver.decorate(cache) : cache;
+            }
+            return result;
+        };
+        if (bean instanceof Advised advised && !advised.isFrozen()) {
+            advised.addAdvice(0, interceptor);
+            return bean;
+        }
+        if (Modifier.isFinal(bean.getClass().getModifiers())) {
+            return bean;
+        }
+        ProxyFactory proxyFactory = new ProxyFactory(bean);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice(interceptor);
+        return proxyFactory.getProxy(bean.getClass().getClassLoader());
+    }
+}
@@ -0,0 +1,99 @@
+package com.leepandar.starter.cache.springcache.core;
+
+import cn.hutool.core.thread.ThreadUtil;
+import com.leepandar.starter.cache.springcache.autoconfigure.CacheProtectionProperties;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.CacheOperationInvocationContext;
+import org.springframework.cache.interceptor.CacheResolver;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 缓存击穿防护解析器
+ * <p>
+ * 为启用防护的缓存包装 {@link ProtectedCache}，其他缓存直接返回；容器关闭时停止后台刷新线程池
+ * </p>
+ */
+public class ProtectedCacheResolver implements CacheResolver, DisposableBean {
+
+    private final ObjectProvider<CacheManager> cacheManagerProvider;
+    private final CacheProtectionProperties properties;
+    private final Duration defaultTtl;
+    private final ThreadPoolExecutor refreshExecutor;
+    private final ConcurrentMap<String, Cache> caches = new ConcurrentHashMap<>();
+
+    /**
+     * @param cacheManagerProvider 缓存管理器
+     * @param properties           防护配置
+     * @param defaultTtl           默认过期时长（为空表示永不过期）
+     */
+    public ProtectedCacheResolver(ObjectProvider<CacheManager> cacheManagerProvider,
+                                  CacheProtectionProperties properties,
+                                  Duration defaultTtl) {
+        this.cacheManagerProvider = cacheManagerProvider;
+        this.properties = properties;
+        this.defaultTtl = defaultTtl;
+        int threads = Math.max(1, properties.getRefreshThreads());
+        this.refreshExecutor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(Math
+            .max(1, properties.getRefreshQueueCapacity())), ThreadUtil.newNamedThreadFactory("cache-refresh-", true));
+        this.refreshExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    @Override
+    public Collection<? extends Cache> resolveCaches(CacheOperationInvocationContext<?> context) {
+        Collection<String> cacheNames = context.getOperation().getCacheNames();
+        List<Cache> result = new ArrayList<>(cacheNames.size());
+        for (String cacheName : cacheNames) {
+            Cache cache = getCache(cacheName);
+            if (cache == null) {
+                throw new IllegalArgumentException("Cannot find cache named '" + cacheName + "' for " + context
+                    .getOperation());
+            }
+            result.add(cache);
+        }
+        return result;
+    }
+
+    /**
+     * 包装缓存（已包装的缓存直接返回）
+     *
+     * @param cache 缓存
+     * @return 启用防护时返回 {@link ProtectedCache}，否则返回原缓存
+     */
+    public Cache decorate(Cache cache) {
+        if (cache == null || cache instanceof ProtectedCache) {
+            return cache;
+        }
+        Cache decorated = caches.get(cache.getName());
+        if (decorated != null) {
+            return decorated;
+        }
+        return caches.computeIfAbsent(cache.getName(), name -> properties.isEnabled(name)
+            ? new ProtectedCache(cache, properties.getPolicy(name), defaultTtl, refreshExecutor)
+            : cache);
+    }
+
+    @Override
+    public void destroy() {
+        refreshExecutor.shutdown();
+    }
+
+    private Cache getCache(String cacheName) {
+        Cache cache = caches.get(cacheName);
+        if (cache != null) {
+            return cache;
+        }
+        return decorate(cacheManagerProvider.getObject().getCache(cacheName));
+    }
+}
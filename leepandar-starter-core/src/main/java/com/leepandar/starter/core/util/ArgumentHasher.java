@@ -0,0 +1,402 @@
+package com.leepandar.starter.core.util;
+
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.InaccessibleObjectException;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 参数哈希工具
+ * <p>
+ * 按结构遍历参数（基本类型、字符串直接写入，集合、数组逐个元素写入，Map、Set 按元素哈希无序合并，其他对象按字段递归）到线程内复用的缓冲区，
+ * 使用 MurmurHash3 x64 128 位非加密哈希生成摘要，无需先序列化为 JSON 字符串。
+ * 上传文件按参数名、原始文件名、大小及内容类型写入；请求、响应对象仅写入类名；
+ * 其他无法按字段遍历且未重写 toString 的框架对象按实例区分（不同实例哈希值不同）
+ * </p>
+ */
+public class ArgumentHasher {
+
+    /**
+     * 最大递归深度（超出后仅写入类名，避免循环引用）
+     */
+    private static final int MAX_DEPTH = 8;
+
+    private static final int INITIAL_BUFFER_SIZE = 256;
+
+    private static final int MAX_CACHED_BUFFER_SIZE = 64 * 1024;
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    /**
+     * 不支持按字段遍历的类型标记（使用 toString）
+     */
+    private static final Field[] UNSUPPORTED = new Field[0];
+
+    /**
+     * 不支持按字段遍历且未重写 toString 的类型标记（写入类名及实例标识，避免不同对象哈希值相同）
+     */
+    private static final Field[] OPAQUE = new Field[0];
+
+    /**
+     * 不按字段遍历的包（JDK 及容器、框架内部对象，如请求、上传文件）
+     */
+    private static final String[] UNSUPPORTED_PACKAGES = {"java.", "javax.", "jakarta.", "sun.", "org.springframework.",
+        "org.apache."};
+
+    private static final ThreadLocal<Buffer> BUFFER = ThreadLocal.withInitial(() -> new Buffer(INITIAL_BUFFER_SIZE));
+
+    private static final ConcurrentMap<Class<?>, Field[]> FIELDS = new ConcurrentHashMap<>();
+
+    private ArgumentHasher() {
+    }
+
+    /**
+     * 计算参数哈希值
+     *
+     * @param args 参数
+     * @return 32 位十六进制哈希值
+     */
+    public static String hash(Object... args) {
+        Buffer buffer = BUFFER.get();
+        buffer.reset();
+        try {
+            Object[] values = args != null ? args : new Object[0];
+            buffer.writeInt(values.length);
+            for (Object value : values) {
+                write(buffer, value, 0);
+            }
+            long[] hash = murmur3(buffer.data, 0, buffer.size);
+            char[] chars = new char[32];
+            writeHex(hash[0], chars, 0);
+            writeHex(hash[1], chars, 16);
+            return new String(chars);
+        } finally {
+            if (buffer.data.length > MAX_CACHED_BUFFER_SIZE) {
+                BUFFER.remove();
+            }
+        }
+    }
+
+    /**
+     * 按结构写入参数
+     */
+    private static void write(Buffer buffer, Object value, int depth) {
+        if (value == null) {
+            buffer.writeByte(0);
+        } else if (value instanceof CharSequence str) {
+            buffer.writeByte(1);
+            buffer.writeString(str);
+        } else if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            buffer.writeByte(2);
+            buffer.writeLong(((Number)value).longValue());
+        } else if (value instanceof Double || value instanceof Float) {
+            buffer.writeByte(3);
+            buffer.writeLong(Double.doubleToLongBits(((Number)value).doubleValue()));
+        } else if (value instanceof Boolean bool) {
+            buffer.writeByte(bool ? 4 : 5);
+        } else if (value instanceof Character ch) {
+            buffer.writeByte(6);
+            buffer.writeChar(ch);
+        } else if (value instanceof Enum<?> enumValue) {
+            buffer.writeByte(7);
+            buffer.writeString(enumValue.getDeclaringClass().getName());
+            buffer.writeString(enumValue.name());
+        } else if (value instanceof Date date) {
+            buffer.writeByte(8);
+            buffer.writeLong(date.getTime());
+        } else if (value instanceof MultipartFile file) {
+            buffer.writeByte(15);
+            buffer.writeString(file.getName());
+            buffer.writeString(String.valueOf(file.getOriginalFilename()));
+            buffer.writeLong(file.getSize());
+            buffer.writeString(String.valueOf(file.getContentType()));
+        } else if (value instanceof ServletRequest || value instanceof ServletResponse) {
+            // 请求、响应对象不参与区分
+            buffer.writeByte(9);
+            buffer.writeString(value.getClass().getName());
+        } else if (depth >= MAX_DEPTH) {
+            buffer.writeByte(9);
+            buffer.writeString(value.getClass().getName());
+        } else if (value.getClass().isArray()) {
+            int length = Array.getLength(value);
+            buffer.writeByte(10);
+            buffer.writeInt(length);
+            for (int i = 0; i < length; i++) {
+                write(buffer, Array.get(value, i), depth + 1);
+            }
+        } else if (value instanceof Set<?> set) {
+            buffer.writeByte(17);
+            buffer.writeInt(set.size());
+            long h1 = 0;
+            long h2 = 0;
+            for (Object element : set) {
+                int mark = buffer.size;
+                write(buffer, element, depth + 1);
+                long[] hash = murmur3(buffer.data, mark, buffer.size - mark);
+                h1 += hash[0];
+                h2 += hash[1];
+                buffer.size = mark;
+            }
+            buffer.writeLong(h1);
+            buffer.writeLong(h2);
+        } else if (value instanceof Collection<?> collection) {
+            buffer.writeByte(11);
+            buffer.writeInt(collection.size());
+            for (Object element : collection) {
+                write(buffer, element, depth + 1);
+            }
+        } else if (value instanceof Map<?, ?> map) {
+            // 按条目哈希求和合并，与遍历顺序无关（不同节点上 HashMap 等的遍历顺序可能不同）
+            buffer.writeByte(12);
+            buffer.writeInt(map.size());
+            long h1 = 0;
+            long h2 = 0;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                int mark = buffer.size;
+                write(buffer, entry.getKey(), depth + 1);
+                write(buffer, entry.getValue(), depth + 1);
+                long[] hash = murmur3(buffer.data, mark, buffer.size - mark);
+                h1 += hash[0];
+                h2 += hash[1];
+                buffer.size = mark;
+            }
+            buffer.writeLong(h1);
+            buffer.writeLong(h2);
+        } else {
+            Field[] valueFields = FIELDS.computeIfAbsent(value.getClass(), ArgumentHasher::resolveFields);
+            if (valueFields == OPAQUE) {
+                buffer.writeByte(16);
+                buffer.writeString(value.getClass().getName());
+                buffer.writeInt(System.identityHashCode(value));
+                return;
+            }
+            if (valueFields == UNSUPPORTED) {
+                // 不支持按字段遍历的类型使用 toString
+                buffer.writeByte(13);
+                buffer.writeString(value.toString());
+                return;
+            }
+            buffer.writeByte(14);
+            buffer.writeString(value.getClass().getName());
+            for (Field field : valueFields) {
+                try {
+                    write(buffer, field.get(value), depth + 1);
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException("Cannot read field " + field, e);
+                }
+            }
+        }
+    }
+
+    /**
+     * 解析对象字段（含父类，不含静态及 transient 字段）
+     */
+    private static Field[] resolveFields(Class<?> clazz) {
+        String className = clazz.getName();
+        for (String prefix : UNSUPPORTED_PACKAGES) {
+            if (className.startsWith(prefix)) {
+                return hasCustomToString(clazz) ? UNSUPPORTED : OPAQUE;
+            }
+        }
+        List<Field> list = new ArrayList<>();
+        try {
+            for (Class<?> c = clazz; c != null && c != Object.class; c = c.getSuperclass()) {
+                for (Field field : c.getDeclaredFields()) {
+                    int modifiers = field.getModifiers();
+                    if (!Modifier.isStatic(modifiers) && !Modifier.isTransient(modifiers)) {
+                        field.setAccessible(true);
+                        list.add(field);
+                    }
+                }
+            }
+        } catch (InaccessibleObjectException | SecurityException e) {
+            return hasCustomToString(clazz) ? UNSUPPORTED : OPAQUE;
+        }
+        return list.toArray(new Field[0]);
+    }
+
+    private static boolean hasCustomToString(Class<?> clazz) {
+        try {
+            return clazz.getMethod("toString").getDeclaringClass() != Object.class;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    private static void writeHex(long value, char[] dest, int offset) {
+        for (int i = 15; i >= 0; i--) {
+            dest[offset + i] = HEX[(int)(value & 0xF)];
+            value >>>= 4;
+        }
+    }
+
+    /**
+     * MurmurHash3 x64 128 位哈希
+     */
+    private static long[] murmur3(byte[] data, int start, int length) {
+        final long c1 = 0x87c37b91114253d5L;
+        final long c2 = 0x4cf5ad432745937fL;
+        long h1 = 0;
+        long h2 = 0;
+        int blocks = length >> 4;
+        for (int i = 0; i < blocks; i++) {
+            int offset = start + (i << 4);
+            long k1 = getLong(data, offset);
+            long k2 = getLong(data, offset + 8);
+            k1 *= c1;
+            k1 = Long.rotateLeft(k1, 31);
+            k1 *= c2;
+            h1 ^= k1;
+            h1 = Long.rotateLeft(h1, 27);
+            h1 += h2;
+            h1 = h1 * 5 + 0x52dce729;
+            k2 *= c2;
+            k2 = Long.rotateLeft(k2, 33);
+            k2 *= c1;
+            h2 ^= k2;
+            h2 = Long.rotateLeft(h2, 31);
+            h2 += h1;
+            h2 = h2 * 5 + 0x38495ab5;
+        }
+        int tail = start + (blocks << 4);
+        long k1 = 0;
+        long k2 = 0;
+        switch (length & 15) {
+            case 15:
+                k2 ^= (long)(data[tail + 14] & 0xff) << 48;
+            case 14:
+                k2 ^= (long)(data[tail + 13] & 0xff) << 40;
+            case 13:
+                k2 ^= (long)(data[tail + 12] & 0xff) << 32;
+            case 12:
+                k2 ^= (long)(data[tail + 11] & 0xff) << 24;
+            case 11:
+                k2 ^= (long)(data[tail + 10] & 0xff) << 16;
+            case 10:
+                k2 ^= (long)(data[tail + 9] & 0xff) << 8;
+            case 9:
+                k2 ^= data[tail + 8] & 0xff;
+                k2 *= c2;
+                k2 = Long.rotateLeft(k2, 33);
+                k2 *= c1;
+                h2 ^= k2;
+            case 8:
+                k1 ^= (long)(data[tail + 7] & 0xff) << 56;
+            case 7:
+                k1 ^= (long)(data[tail + 6] & 0xff) << 48;
+            case 6:
+                k1 ^= (long)(data[tail + 5] & 0xff) << 40;
+            case 5:
+                k1 ^= (long)(data[tail + 4] & 0xff) << 32;
+            case 4:
+                k1 ^= (long)(data[tail + 3] & 0xff) << 24;
+            case 3:
+                k1 ^= (long)(data[tail + 2] & 0xff) << 16;
+            case 2:
+                k1 ^= (long)(data[tail + 1] & 0xff) << 8;
+            case 1:
+                k1 ^= data[tail] & 0xff;
+                k1 *= c1;
+                k1 = Long.rotateLeft(k1, 31);
+                k1 *= c2;
+                h1 ^= k1;
+            default:
+                break;
+        }
+        h1 ^= length;
+        h2 ^= length;
+        h1 += h2;
+        h2 += h1;
+        h1 = fmix64(h1);
+        h2 = fmix64(h2);
+        h1 += h2;
+        h2 += h1;
+        return new long[] {h1, h2};
+    }
+
+    private static long getLong(byte[] data, int offset) {
+        return (data[offset] & 0xffL) | (data[offset + 1] & 0xffL) << 8 | (data[offset + 2] & 0xffL) << 16 | (data[offset + 3] & 0xffL) << 24 | (data[offset + 4] & 0xffL) << 32 | (data[offset + 5] & 0xffL) << 40 | (data[offset + 6] & 0xffL) << 48 | (data[offset + 7] & 0xffL) << 56;
+    }
+
+    private static long fmix64(long k) {
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb9fe1a85ec53L;
+        k ^= k >>> 33;
+        return k;
+    }
+
+    /**
+     * 可复用的字节缓冲区
+     */
+    private static class Buffer {
+
+        private byte[] data;
+        private int size;
+
+        Buffer(int capacity) {
+            this.data = new byte[capacity];
+        }
+
+        void reset() {
+            size = 0;
+        }
+
+        void writeByte(int b) {
+            ensureCapacity(1);
+            data[size++] = (byte)b;
+        }
+
+        void writeChar(char c) {
+            ensureCapacity(2);
+            data[size++] = (byte)c;
+            data[size++] = (byte)(c >>> 8);
+        }
+
+        void writeInt(int v) {
+            ensureCapacity(4);
+            for (int i = 0; i < 4; i++) {
+                data[size++] = (byte)(v >>> (i << 3));
+            }
+        }
+
+        void writeLong(long v) {
+            ensureCapacity(8);
+            for (int i = 0; i < 8; i++) {
+                data[size++] = (byte)(v >>> (i << 3));
+            }
+        }
+
+        void writeString(CharSequence str) {
+            int length = str.length();
+            writeInt(length);
+            ensureCapacity(length << 1);
+            for (int i = 0; i < length; i++) {
+                char c = str.charAt(i);
+                data[size++] = (byte)c;
+                data[size++] = (byte)(c >>> 8);
+            }
+        }
+
+        private void ensureCapacity(int extra) {
+            if (size + extra > data.length) {
+                byte[] newData = new byte[Math.max(data.length << 1, size + extra)];
+                System.arraycopy(data, 0, newData, 0, size);
+                data = newData;
+            }
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package com.leepandar.starter.core.util;
+
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 预编译路径匹配器
+ * <p>
+ * 由一组匹配模式（{@link PathPattern} 语法）构建一次，可重复使用。模式按 “/” 拆分为段，前缀中的纯文本段构建为前缀树，
+ * 路径按段沿前缀树查找（时间复杂度与路径长度相关，与模式数量无关），仅在遇到含通配符（*、?、{}）的段时使用
+ * {@link PathPattern} 匹配；同时缓存最近的路径匹配结果
+ * </p>
+ */
+public class CompiledPathMatcher {
+
+    /**
+     * 默认匹配结果缓存容量
+     */
+    private static final int DEFAULT_CACHE_SIZE = 1024;
+
+    private final List<String> patterns;
+    private final Node root = new Node();
+
+    /**
+     * 所有模式（路径含编码字符或路径参数时逐个匹配）
+     */
+    private final List<PathPattern> pathPatterns;
+    private final LruCache<String, Boolean> decisions;
+
+    /**
+     * @param patterns 匹配模式列表
+     */
+    public CompiledPathMatcher(Collection<String> patterns) {
+        this(patterns, DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * @param patterns  匹配模式列表
+     * @param cacheSize 匹配结果缓存容量（小于等于 0 表示不缓存）
+     */
+    public CompiledPathMatcher(Collection<String> patterns, int cacheSize) {
+        this.patterns = List.copyOf(patterns);
+        this.pathPatterns = new ArrayList<>(this.patterns.size());
+        for (String pattern : this.patterns) {
+            PathPattern pathPattern = PathPatternParser.defaultInstance.parse(pattern);
+            pathPatterns.add(pathPattern);
+            this.insert(pattern, pathPattern);
+        }
+        this.decisions = cacheSize > 0 ? new LruCache<>(cacheSize) : null;
+    }
+
+    /**
+     * 路径是否匹配任一模式
+     *
+     * @param path 路径
+     * @return 是否匹配
+     */
+    public boolean matches(String path) {
+        if (decisions == null) {
+            return this.doMatch(path);
+        }
+        Boolean cached = decisions.get(path);
+        if (cached != null) {
+            return cached;
+        }
+        boolean result = this.doMatch(path);
+        decisions.put(path, result);
+        return result;
+    }
+
+    /**
+     * 获取匹配模式列表
+     */
+    public List<String> getPatterns() {
+        return patterns;
+    }
+
+    private boolean doMatch(String path) {
+        if (pathPatterns.isEmpty()) {
+            return false;
+        }
+        // 含编码字符或路径参数时，纯文本比较与 PathPattern 语义不一致，逐个匹配
+        if (path.indexOf('%') >= 0 || path.indexOf(';') >= 0) {
+            PathContainer pathContainer = PathContainer.parsePath(path);
+            for (PathPattern pathPattern : pathPatterns) {
+                if (pathPattern.matches(pathContainer)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        PathContainer pathContainer = null;
+        Node node = root;
+        int start = 0;
+        while (true) {
+            if (node.wildcardPatterns != null) {
+                if (pathContainer == null) {
+                    pathContainer = PathContainer.parsePath(path);
+                }
+                for (PathPattern pathPattern : node.wildcardPatterns) {
+                    if (pathPattern.matches(pathContainer)) {
+                        return true;
+                    }
+                }
+            }
+            if (start > path.length()) {
+                return node.terminal;
+            }
+            int end = path.indexOf('/', start);
+            if (end < 0) {
+                end = path.length();
+            }
+            node = node.children != null ? node.children.get(path.substring(start, end)) : null;
+            if (node == null) {
+                return false;
+            }
+            start = end + 1;
+        }
+    }
+
+    /**
+     * 将模式插入前缀树
+     */
+    private void insert(String pattern, PathPattern pathPattern) {
+        Node node = root;
+        int start = 0;
+        while (start <= pattern.length()) {
+            int end = pattern.indexOf('/', start);
+            if (end < 0) {
+                end = pattern.length();
+            }
+            String segment = pattern.substring(start, end);
+            if (!isLiteral(segment)) {
+                node.addWildcardPattern(pathPattern);
+                return;
+            }
+            node = node.child(segment);
+            start = end + 1;
+        }
+        node.terminal = true;
+    }
+
+    private static boolean isLiteral(String segment) {
+        for (int i = 0; i < segment.length(); i++) {
+            char c = segment.charAt(i);
+            if (c == '*' || c == '?' || c == '{' || c == '}' || c == '\\') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 前缀树节点
+     */
+    private static class Node {
+
+        private Map<String, Node> children;
+
+        /**
+         * 从该节点开始包含通配符的模式
+         */
+        private List<PathPattern> wildcardPatterns;
+
+        /**
+         * 是否有纯文本模式在该节点结束
+         */
+        private boolean terminal;
+
+        Node child(String segment) {
+            if (children == null) {
+                children = new HashMap<>();
+            }
+            return children.computeIfAbsent(segment, k -> new Node());
+        }
+
+        void addWildcardPattern(PathPattern pathPattern) {
+            if (wildcardPatterns == null) {
+                wildcardPatterns = new ArrayList<>();
+            }
+            wildcardPatterns.add(pathPattern);
+        }
+    }
+}
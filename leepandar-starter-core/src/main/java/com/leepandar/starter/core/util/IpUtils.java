@@ -8,6 +8,9 @@ import com.leepandar.starter.core.constant.StringConstants;
 import net.dreamlu.mica.ip2region.core.Ip2regionSearcher;
 import net.dreamlu.mica.ip2region.core.IpInfo;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
@@ -16,6 +19,23 @@ import java.util.Set;
  */
 public class IpUtils {
 
+    /**
+     * 可缓存的最大 IP 长度（IPv6 最长 45 个字符）
+     */
+    private static final int MAX_CACHEABLE_IP_LENGTH = 64;
+
+    /**
+     * 未查询到归属地标记
+     */
+    private static final String UNKNOWN_REGION = "";
+
+    /**
+     * IP 归属地缓存
+     */
+    private static final LruCache<String, String> REGION_CACHE = new LruCache<>(10000);
+
+    private static volatile Ip2regionSearcher searcher;
+
     private IpUtils() {
     }
 
@@ -26,11 +46,53 @@ public class IpUtils {
      * @return IP 归属地
      */
     public static String getIpv4Address(String ip) {
+        if (ip == null || ip.length() > MAX_CACHEABLE_IP_LENGTH) {
+            return searchRegion(ip);
+        }
+        String region = REGION_CACHE.get(ip);
+        if (region == null) {
+            region = searchRegion(ip);
+            REGION_CACHE.put(ip, region != null ? region : UNKNOWN_REGION);
+        }
+        return UNKNOWN_REGION.equals(region) ? null : region;
+    }
+
+    /**
+     * 批量查询 IP 归属地（本地库解析，适用于离线日志补全）
+     *
+     * @param ips IP 地址列表
+     * @return IP 地址与归属地映射（按入参顺序，已去重）
+     */
+    public static Map<String, String> getIpv4Addresses(Collection<String> ips) {
+        Map<String, String> result = new LinkedHashMap<>(Math.max(16, (int)(ips.size() / 0.75f) + 1));
+        for (String ip : ips) {
+            if (!result.containsKey(ip)) {
+                result.put(ip, getIpv4Address(ip));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 获取 IP 归属地缓存（可用于查看命中率等指标）
+     *
+     * @return IP 归属地缓存
+     */
+    public static LruCache<String, String> getRegionCache() {
+        return REGION_CACHE;
+    }
+
+    /**
+     * 查询 IP 归属地（不使用缓存）
+     *
+     * @param ip IP 地址
+     * @return IP 归属地
+     */
+    private static String searchRegion(String ip) {
         if (isInnerIpv4(ip)) {
             return "内网IP";
         }
-        Ip2regionSearcher ip2regionSearcher = SpringUtil.getBean(Ip2regionSearcher.class);
-        IpInfo ipInfo = ip2regionSearcher.memorySearch(ip);
+        IpInfo ipInfo = getSearcher().memorySearch(ip);
         if (ipInfo == null) {
             return null;
         }
@@ -40,6 +102,18 @@ public class IpUtils {
         return String.join(StringConstants.PIPE, regionSet);
     }
 
+    /**
+     * 获取 IP 查询器（仅从容器获取一次）
+     */
+    private static Ip2regionSearcher getSearcher() {
+        Ip2regionSearcher current = searcher;
+        if (current == null) {
+            current = SpringUtil.getBean(Ip2regionSearcher.class);
+            searcher = current;
+        }
+        return current;
+    }
+
     /**
      * 是否为内网 IPv4
      *
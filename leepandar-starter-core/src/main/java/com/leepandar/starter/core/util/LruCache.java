@@ -0,0 +1,347 @@
+package com.leepandar.starter.core.util;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * 本地 LRU 缓存
+ * <p>
+ * 容量有界、支持按条目设置过期时间的线程安全缓存。按 key 哈希分段加锁，降低并发读写竞争；
+ * 超出容量时淘汰段内最久未访问的条目，过期条目在访问时惰性清除，也可调用 {@link #cleanUp()} 主动清除。可选访问后续期（空闲过期）。不缓存 null 值。
+ * </p>
+ *
+ * @param <K> 键类型
+ * @param <V> 值类型
+ */
+public class LruCache<K, V> {
+
+    /**
+     * 启用分段的最小容量
+     */
+    private static final int MIN_SEGMENTED_SIZE = 64;
+
+    private static final int SEGMENT_COUNT = 16;
+
+    private final Segment<K, V>[] segments;
+    private final long defaultTtlMillis;
+    private final boolean expireAfterAccess;
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final LongAdder expiredCount = new LongAdder();
+
+    /**
+     * 创建永不过期的缓存
+     *
+     * @param maxSize 最大条目数
+     */
+    public LruCache(int maxSize) {
+        this(maxSize, 0);
+    }
+
+    /**
+     * 创建缓存
+     *
+     * @param maxSize          最大条目数
+     * @param defaultTtlMillis 默认过期时间（毫秒），小于等于 0 表示永不过期
+     */
+    public LruCache(int maxSize, long defaultTtlMillis) {
+        this(maxSize, defaultTtlMillis, false);
+    }
+
+    /**
+     * 创建缓存
+     *
+     * @param maxSize           最大条目数
+     * @param defaultTtlMillis  默认过期时间（毫秒），小于等于 0 表示永不过期
+     * @param expireAfterAccess 是否在访问后续期（即按空闲时间过期）
+     */
+    @SuppressWarnings("unchecked")
+    public LruCache(int maxSize, long defaultTtlMillis, boolean expireAfterAccess) {
+        int size = Math.max(1, maxSize);
+        int segmentCount = size >= MIN_SEGMENTED_SIZE ? SEGMENT_COUNT : 1;
+        this.segments = new Segment[segmentCount];
+        int segmentSize = Math.max(1, size / segmentCount);
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment<>(segmentSize, evictionCount, expiredCount);
+        }
+        this.defaultTtlMillis = defaultTtlMillis;
+        this.expireAfterAccess = expireAfterAccess;
+    }
+
+    /**
+     * 获取缓存
+     *
+     * @param key 键
+     * @return 值，不存在或已过期时返回 null
+     */
+    public V get(K key) {
+        V value = segmentFor(key).get(key, System.currentTimeMillis(), expireAfterAccess);
+        if (value != null) {
+            hitCount.increment();
+        } else {
+            missCount.increment();
+        }
+        return value;
+    }
+
+    /**
+     * 获取缓存，不存在时加载并缓存（加载在锁外执行，并发时可能重复加载）
+     *
+     * @param key    键
+     * @param loader 加载函数，返回 null 时不缓存
+     * @return 值
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        V value = get(key);
+        if (value != null) {
+            return value;
+        }
+        value = loader.apply(key);
+        if (value != null) {
+            put(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * 原子地计算缓存值（在分段锁内执行，计算函数应简短且不能访问本缓存）
+     *
+     * @param key               键
+     * @param remappingFunction 计算函数，参数为键及当前值（不存在或已过期时为 null），返回 null 时移除
+     * @return 计算后的值
+     */
+    public V compute(K key, BiFunction<? super K, ? super V, ? extends V> remappingFunction) {
+        return segmentFor(key).compute(key, remappingFunction, System
+            .currentTimeMillis(), defaultTtlMillis, expireAfterAccess, hitCount, missCount);
+    }
+
+    /**
+     * 放入缓存（使用默认过期时间）
+     *
+     * @param key   键
+     * @param value 值
+     */
+    public void put(K key, V value) {
+        put(key, value, defaultTtlMillis);
+    }
+
+    /**
+     * 放入缓存
+     *
+     * @param key       键
+     * @param value     值
+     * @param ttlMillis 过期时间（毫秒），小于等于 0 表示永不过期
+     */
+    public void put(K key, V value, long ttlMillis) {
+        if (value == null) {
+            return;
+        }
+        long expireAt = ttlMillis > 0 ? System.currentTimeMillis() + ttlMillis : Long.MAX_VALUE;
+        segmentFor(key).put(key, value, ttlMillis, expireAt);
+    }
+
+    /**
+     * 移除缓存
+     *
+     * @param key 键
+     * @return 被移除的值
+     */
+    public V remove(K key) {
+        return segmentFor(key).remove(key);
+    }
+
+    /**
+     * 清空缓存
+     */
+    public void clear() {
+        for (Segment<K, V> segment : segments) {
+            segment.clear();
+        }
+    }
+
+    /**
+     * 清除所有已过期条目
+     */
+    public void cleanUp() {
+        long now = System.currentTimeMillis();
+        for (Segment<K, V> segment : segments) {
+            segment.cleanUp(now);
+        }
+    }
+
+    /**
+     * 获取当前条目数（包含尚未清除的过期条目，需要准确数量时先调用 {@link #cleanUp()}）
+     */
+    public int size() {
+        int size = 0;
+        for (Segment<K, V> segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    /**
+     * 获取命中次数
+     */
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    /**
+     * 获取未命中次数
+     */
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    /**
+     * 获取淘汰次数（容量淘汰）
+     */
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    /**
+     * 获取过期清除次数
+     */
+    public long getExpiredCount() {
+        return expiredCount.sum();
+    }
+
+    /**
+     * 获取命中率
+     */
+    public double getHitRate() {
+        long hits = hitCount.sum();
+        long total = hits + missCount.sum();
+        return total == 0 ? 0 : (double)hits / total;
+    }
+
+    private Segment<K, V> segmentFor(K key) {
+        if (segments.length == 1) {
+            return segments[0];
+        }
+        int h = key.hashCode();
+        h ^= (h >>> 16);
+        return segments[h & (segments.length - 1)];
+    }
+
+    /**
+     * 缓存分段
+     */
+    private static class Segment<K, V> {
+
+        private final LinkedHashMap<K, Node<V>> map;
+        private final LongAdder expiredCount;
+
+        Segment(int maxSize, LongAdder evictionCount, LongAdder expiredCount) {
+            this.expiredCount = expiredCount;
+            this.map = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<K, Node<V>> eldest) {
+                    if (size() > maxSize) {
+                        evictionCount.increment();
+                        return true;
+                    }
+                    return false;
+                }
+            };
+        }
+
+        synchronized V get(K key, long now, boolean expireAfterAccess) {
+            Node<V> node = map.get(key);
+            if (node == null) {
+                return null;
+            }
+            if (node.expireAt <= now) {
+                map.remove(key);
+                expiredCount.increment();
+                return null;
+            }
+            if (expireAfterAccess && node.ttlMillis > 0) {
+                node.expireAt = now + node.ttlMillis;
+            }
+            return node.value;
+        }
+
+        synchronized V compute(K key,
+                               BiFunction<? super K, ? super V, ? extends V> remappingFunction,
+                               long now,
+                               long ttlMillis,
+                               boolean expireAfterAccess,
+                               LongAdder hitCount,
+                               LongAdder missCount) {
+            Node<V> node = map.get(key);
+            if (node != null && node.expireAt <= now) {
+                map.remove(key);
+                expiredCount.increment();
+                node = null;
+            }
+            V oldValue = node != null ? node.value : null;
+            V newValue = remappingFunction.apply(key, oldValue);
+            if (newValue == null) {
+                map.remove(key);
+                missCount.increment();
+                return null;
+            }
+            if (newValue == oldValue) {
+                hitCount.increment();
+                if (expireAfterAccess && node.ttlMillis > 0) {
+                    node.expireAt = now + node.ttlMillis;
+                }
+                return newValue;
+            }
+            missCount.increment();
+            map.put(key, new Node<>(newValue, ttlMillis, ttlMillis > 0 ? now + ttlMillis : Long.MAX_VALUE));
+            return newValue;
+        }
+
+        synchronized void cleanUp(long now) {
+            Iterator<Node<V>> iterator = map.values().iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().expireAt <= now) {
+                    iterator.remove();
+                    expiredCount.increment();
+                }
+            }
+        }
+
+        synchronized void put(K key, V value, long ttlMillis, long expireAt) {
+            map.put(key, new Node<>(value, ttlMillis, expireAt));
+        }
+
+        synchronized V remove(K key) {
+            Node<V> node = map.remove(key);
+            return node != null ? node.value : null;
+        }
+
+        synchronized void clear() {
+            map.clear();
+        }
+
+        synchronized int size() {
+            return map.size();
+        }
+    }
+
+    /**
+     * 缓存节点
+     */
+    private static class Node<V> {
+
+        private final V value;
+        private final long ttlMillis;
+        private long expireAt;
+
+        Node(V value, long ttlMillis, long expireAt) {
+            this.value = value;
+            this.ttlMillis = ttlMillis;
+            this.expireAt = expireAt;
+        }
+    }
+}
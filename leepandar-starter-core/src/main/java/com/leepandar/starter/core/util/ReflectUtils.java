@@ -1,16 +1,22 @@
 package com.leepandar.starter.core.util;
 
+import cn.hutool.core.text.CharSequenceUtil;
 import cn.hutool.core.util.ReflectUtil;
 import com.leepandar.starter.core.constant.StringConstants;
 import com.leepandar.starter.core.exception.BusinessException;
 
-import java.lang.invoke.MethodHandleProxies;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -19,6 +25,16 @@ import java.util.stream.Collectors;
  */
 public class ReflectUtils {
 
+    /**
+     * Getter 方法引用缓存（按类缓存，类卸载时随之释放）
+     */
+    private static final ClassValue<Map<String, Function<?, ?>>> GETTER_CACHE = new ClassValue<>() {
+        @Override
+        protected Map<String, Function<?, ?>> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
     private ReflectUtils() {
     }
 
@@ -48,8 +64,27 @@ public class ReflectUtils {
         return Arrays.stream(fields).filter(f -> !Modifier.isStatic(f.getModifiers())).collect(Collectors.toList());
     }
 
+    /**
+     * 获取字段 Getter 方法引用（按类、字段名缓存）
+     *
+     * @param clazz     实体类类型
+     * @param fieldName 字段名
+     * @param <T>       实体类类型
+     * @param <K>       返回值类型
+     * @return Function<T, K> 方法引用
+     * @since 2.13.2
+     */
+    @SuppressWarnings("unchecked")
+    public static <T, K> Function<T, K> getGetter(Class<T> clazz, String fieldName) {
+        return (Function<T, K>)GETTER_CACHE.get(clazz)
+            .computeIfAbsent(fieldName, k -> createMethodReference(clazz, CharSequenceUtil.genGetter(k)));
+    }
+
     /**
      * 通过反射创建方法引用，支持在父类中查找方法
+     * <p>
+     * 优先通过 {@link LambdaMetafactory} 生成方法引用（调用开销与直接调用相当），无法生成时（如跨类加载器）回退为 {@link MethodHandle} 调用
+     * </p>
      *
      * @param clazz      实体类类型
      * @param methodName 方法名
@@ -62,12 +97,34 @@ public class ReflectUtils {
      */
     @SuppressWarnings("unchecked")
     public static <T, K> Function<T, K> createMethodReference(Class<T> clazz, String methodName) {
+        MethodHandle handle;
         try {
             Method method = ReflectUtil.getMethodByName(clazz, methodName);
             method.setAccessible(true);
-            return MethodHandleProxies.asInterfaceInstance(Function.class, MethodHandles.lookup().unreflect(method));
+            handle = MethodHandles.lookup().unreflect(method);
+            try {
+                MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(method.getDeclaringClass(), MethodHandles
+                    .lookup());
+                CallSite callSite = LambdaMetafactory.metafactory(lookup, "apply", MethodType
+                    .methodType(Function.class), MethodType.methodType(Object.class, Object.class), lookup
+                        .unreflect(method), handle.type().wrap());
+                return (Function<T, K>)callSite.getTarget().invoke();
+            } catch (Throwable ignored) {
+                // 回退为 MethodHandle 调用
+            }
         } catch (Exception e) {
             throw new BusinessException("创建方法引用失败：" + clazz.getName() + StringConstants.DOT + methodName, e);
         }
+        MethodHandle genericHandle = handle.asType(MethodType.methodType(Object.class, Object.class));
+        return t -> {
+            try {
+                Object value = genericHandle.invokeExact((Object)t);
+                return (K)value;
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new BusinessException("调用方法失败：" + clazz.getName() + StringConstants.DOT + methodName, e);
+            }
+        };
     }
 }
@@ -31,9 +31,44 @@ import java.util.Objects;
  */
 public class ServletUtils extends JakartaServletUtil {
 
+    /**
+     * 可缓存的最大 User-Agent 长度
+     */
+    private static final int MAX_CACHEABLE_USER_AGENT_LENGTH = 512;
+
+    /**
+     * User-Agent 解析结果缓存
+     */
+    private static final LruCache<String, UserAgentInfo> USER_AGENT_CACHE = new LruCache<>(4096);
+
     private ServletUtils() {
     }
 
+    /**
+     * 解析 User-Agent（结果缓存）
+     *
+     * @param userAgentString User-Agent 字符串
+     * @return 解析结果，无法解析时返回 {@link UserAgentInfo#EMPTY}
+     */
+    public static UserAgentInfo getUserAgentInfo(String userAgentString) {
+        if (CharSequenceUtil.isBlank(userAgentString)) {
+            return UserAgentInfo.EMPTY;
+        }
+        if (userAgentString.length() > MAX_CACHEABLE_USER_AGENT_LENGTH) {
+            return parseUserAgent(userAgentString);
+        }
+        return USER_AGENT_CACHE.get(userAgentString, ServletUtils::parseUserAgent);
+    }
+
+    /**
+     * 获取 User-Agent 解析结果缓存（可用于查看命中率等指标）
+     *
+     * @return User-Agent 解析结果缓存
+     */
+    public static LruCache<String, UserAgentInfo> getUserAgentCache() {
+        return USER_AGENT_CACHE;
+    }
+
     /**
      * 获取浏览器及其版本信息
      *
@@ -54,17 +89,7 @@ public class ServletUtils extends JakartaServletUtil {
      * @return 浏览器及其版本信息
      */
     public static String getBrowser(String userAgentString) {
-        try {
-            UserAgent userAgent = UserAgentUtil.parse(userAgentString);
-            if (userAgent == null || userAgent.getBrowser() == null) {
-                return null;
-            }
-            String browserName = userAgent.getBrowser().getName();
-            String version = userAgent.getVersion();
-            return CharSequenceUtil.isBlank(version) ? browserName : browserName + StringConstants.SPACE + version;
-        } catch (Exception e) {
-            return null;
-        }
+        return getUserAgentInfo(userAgentString).getBrowser();
     }
 
     /**
@@ -87,15 +112,7 @@ public class ServletUtils extends JakartaServletUtil {
      * @return 操作系统
      */
     public static String getOs(String userAgentString) {
-        try {
-            UserAgent userAgent = UserAgentUtil.parse(userAgentString);
-            if (userAgent == null || userAgent.getOs() == null) {
-                return null;
-            }
-            return userAgent.getOs().getName();
-        } catch (Exception e) {
-            return null;
-        }
+        return getUserAgentInfo(userAgentString).getOs();
     }
 
     /**
@@ -195,6 +212,20 @@ public class ServletUtils extends JakartaServletUtil {
         return null;
     }
 
+    /**
+     * 获取请求 body 参数预览（仅读取前 N 个字节，请求体超出预览大小时返回 null，用于日志记录）
+     *
+     * @return {@link String }
+     */
+    public static String getRequestBodyPreview() {
+        HttpServletRequest request = getRequest();
+        if (request instanceof RepeatReadRequestWrapper wrapper && !wrapper.isMultipartContent(request)) {
+            String body = wrapper.getContentPreview();
+            return JSONUtil.isTypeJSON(body) ? body : null;
+        }
+        return null;
+    }
+
     /**
      * 获取请求参数
      *
@@ -202,10 +233,16 @@ public class ServletUtils extends JakartaServletUtil {
      * @since 2.11.0
      */
     public static Map<String, Object> getRequestParams() {
-        String body = getRequestBody();
-        return CharSequenceUtil.isNotBlank(body) && JSONUtil.isTypeJSON(body)
-            ? JSONUtil.toBean(body, Map.class)
-            : Collections.unmodifiableMap(JakartaServletUtil.getParamMap(Objects.requireNonNull(getRequest())));
+        return toRequestParams(getRequestBody());
+    }
+
+    /**
+     * 获取请求参数预览（请求体仅读取前 N 个字节，用于日志记录）
+     *
+     * @return {@link Map }<{@link String }, {@link Object }>
+     */
+    public static Map<String, Object> getRequestParamsPreview() {
+        return toRequestParams(getRequestBodyPreview());
     }
 
     /**
@@ -239,12 +276,27 @@ public class ServletUtils extends JakartaServletUtil {
     }
 
     /**
-     * 获取响应 body 参数
+     * 获取响应 body 参数（响应体超过包装器捕获大小时返回 null）
      *
      * @return {@link String }
      * @since 2.11.0
      */
     public static String getResponseBody() {
+        HttpServletResponse response = getResponse();
+        if (response instanceof RepeatReadResponseWrapper wrapper && !wrapper.isStreamingResponse() && !wrapper
+            .isTruncated()) {
+            String body = wrapper.getResponseContent();
+            return JSONUtil.isTypeJSON(body) ? body : null;
+        }
+        return null;
+    }
+
+    /**
+     * 获取响应 body 参数预览（包装器捕获的前 N 个字节，响应体超出预览大小时返回 null，用于日志记录）
+     *
+     * @return {@link String }
+     */
+    public static String getResponseBodyPreview() {
         HttpServletResponse response = getResponse();
         if (response instanceof RepeatReadResponseWrapper wrapper && !wrapper.isStreamingResponse()) {
             String body = wrapper.getResponseContent();
@@ -264,6 +316,16 @@ public class ServletUtils extends JakartaServletUtil {
         return CharSequenceUtil.isNotBlank(body) && JSONUtil.isTypeJSON(body) ? JSONUtil.toBean(body, Map.class) : null;
     }
 
+    /**
+     * 获取响应参数预览（响应体仅使用捕获的前 N 个字节，用于日志记录）
+     *
+     * @return {@link Map }<{@link String }, {@link Object }>
+     */
+    public static Map<String, Object> getResponseParamsPreview() {
+        String body = getResponseBodyPreview();
+        return CharSequenceUtil.isNotBlank(body) && JSONUtil.isTypeJSON(body) ? JSONUtil.toBean(body, Map.class) : null;
+    }
+
     /**
      * 获取 HTTP Session
      *
@@ -345,4 +407,39 @@ public class ServletUtils extends JakartaServletUtil {
             .append(StringConstants.QUESTION_MARK)
             .append(queryString);
     }
+
+    /**
+     * 解析 User-Agent
+     *
+     * @param userAgentString User-Agent 字符串
+     * @return 解析结果
+     */
+    private static UserAgentInfo parseUserAgent(String userAgentString) {
+        try {
+            UserAgent userAgent = UserAgentUtil.parse(userAgentString);
+            if (userAgent == null) {
+                return UserAgentInfo.EMPTY;
+            }
+            String browser = null;
+            if (userAgent.getBrowser() != null) {
+                String browserName = userAgent.getBrowser().getName();
+                String version = userAgent.getVersion();
+                browser = CharSequenceUtil.isBlank(version) ? browserName : browserName + StringConstants.SPACE + version;
+            }
+            String os = userAgent.getOs() != null ? userAgent.getOs().getName() : null;
+            String device = userAgent.getPlatform() != null ? userAgent.getPlatform().getName() : null;
+            return new UserAgentInfo(browser, os, device, userAgent.isMobile());
+        } catch (Exception e) {
+            return UserAgentInfo.EMPTY;
+        }
+    }
+
+    /**
+     * 将请求体转换为请求参数（请求体不是 JSON 时使用请求参数）
+     */
+    private static Map<String, Object> toRequestParams(String body) {
+        return CharSequenceUtil.isNotBlank(body) && JSONUtil.isTypeJSON(body)
+            ? JSONUtil.toBean(body, Map.class)
+            : Collections.unmodifiableMap(JakartaServletUtil.getParamMap(Objects.requireNonNull(getRequest())));
+    }
 }
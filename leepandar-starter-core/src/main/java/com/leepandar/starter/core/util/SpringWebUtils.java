@@ -34,8 +34,21 @@ public class SpringWebUtils {
 
     private static final AntPathMatcher matcher = new AntPathMatcher();
 
+    /**
+     * 预编译路径匹配器缓存（按模式列表内容缓存，模式变更后自动使用新的匹配器）
+     */
+    private static final LruCache<List<String>, CompiledPathMatcher> MATCHER_CACHE = new LruCache<>(64);
+
+    /**
+     * 路径模式缓存
+     */
+    private static final LruCache<String, PathPattern> PATTERN_CACHE = new LruCache<>(1024);
+
     /**
      * 路径是否匹配
+     * <p>
+     * 每次调用按模式列表内容查找匹配器缓存（需计算列表哈希值并比较），高频调用场景请持有 {@link CompiledPathMatcher} 复用
+     * </p>
      *
      * @param path     路径
      * @param patterns 匹配模式列表
@@ -43,11 +56,17 @@ public class SpringWebUtils {
      * @since 2.6.0
      */
     public static boolean isMatch(String path, List<String> patterns) {
-        return patterns.stream().anyMatch(pattern -> isMatch(path, pattern));
+        if (patterns == null || patterns.isEmpty()) {
+            return false;
+        }
+        return getMatcher(patterns).matches(path);
     }
 
     /**
      * 路径是否匹配
+     * <p>
+     * 每次调用按模式列表内容查找匹配器缓存（需计算列表哈希值并比较），高频调用场景请持有 {@link CompiledPathMatcher} 复用
+     * </p>
      *
      * @param path     路径
      * @param patterns 匹配模式列表
@@ -55,7 +74,22 @@ public class SpringWebUtils {
      * @since 2.6.0
      */
     public static boolean isMatch(String path, String... patterns) {
-        return Arrays.stream(patterns).anyMatch(pattern -> isMatch(path, pattern));
+        return isMatch(path, Arrays.asList(patterns));
+    }
+
+    /**
+     * 获取预编译路径匹配器
+     *
+     * @param patterns 匹配模式列表
+     * @return 预编译路径匹配器
+     */
+    public static CompiledPathMatcher getMatcher(List<String> patterns) {
+        CompiledPathMatcher compiledPathMatcher = MATCHER_CACHE.get(patterns);
+        if (compiledPathMatcher == null) {
+            compiledPathMatcher = new CompiledPathMatcher(patterns);
+            MATCHER_CACHE.put(compiledPathMatcher.getPatterns(), compiledPathMatcher);
+        }
+        return compiledPathMatcher;
     }
 
     /**
@@ -67,7 +101,7 @@ public class SpringWebUtils {
      * @since 2.4.0
      */
     public static boolean isMatch(String path, String pattern) {
-        PathPattern pathPattern = PathPatternParser.defaultInstance.parse(pattern);
+        PathPattern pathPattern = PATTERN_CACHE.get(pattern, PathPatternParser.defaultInstance::parse);
         PathContainer pathContainer = PathContainer.parsePath(path);
         return pathPattern.matches(pathContainer);
     }
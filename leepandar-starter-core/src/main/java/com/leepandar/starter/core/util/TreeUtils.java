@@ -5,15 +5,16 @@ import cn.hutool.core.lang.tree.Tree;
 import cn.hutool.core.lang.tree.TreeNodeConfig;
 import cn.hutool.core.lang.tree.TreeUtil;
 import cn.hutool.core.lang.tree.parser.NodeParser;
+import cn.hutool.core.map.MapUtil;
 import cn.hutool.core.text.CharSequenceUtil;
 import cn.hutool.core.util.ReflectUtil;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
 import java.util.function.Function;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 /**
  * 树工具类
@@ -100,19 +101,15 @@ public class TreeUtils extends TreeUtil {
                                                       Function<T, K> getId,
                                                       Function<T, K> getParentId,
                                                       NodeParser<T, K> parser) {
-        if (CollUtil.isEmpty(list)) {
-            return new ArrayList<>(0);
-        }
-        Set<K> rootParentIds = CollUtils.mapToSet(list, getParentId);
-        rootParentIds.removeAll(CollUtils.mapToSet(list, getId));
-        // 构建每一个根 parentId 下的树，并合并成最终结果列表
-        return rootParentIds.stream()
-            .flatMap(rootParentId -> TreeUtil.build(list, rootParentId, parser).stream())
-            .collect(Collectors.toList());
+        return buildMultiRoot(list, getId, getParentId, TreeNodeConfig.DEFAULT_CONFIG, parser);
     }
 
     /**
      * 构建多根节点的树结构（支持多个顶级节点）
+     * <p>
+     * 一次遍历按 ID 建立索引并挂载到父节点（父节点不存在的节点作为顶级节点），时间复杂度 O(n)；同级节点按权重稳定排序，
+     * 逐层（非递归）处理，层级较深时不会栈溢出
+     * </p>
      *
      * @param <T>            原始数据类型（如实体类、DTO 等）
      * @param <K>            节点 ID 类型（如 Long、String）
@@ -131,12 +128,59 @@ public class TreeUtils extends TreeUtil {
         if (CollUtil.isEmpty(list)) {
             return new ArrayList<>(0);
         }
-        Set<K> rootParentIds = CollUtils.mapToSet(list, getParentId);
-        rootParentIds.removeAll(CollUtils.mapToSet(list, getId));
-        // 构建每一个根 parentId 下的树，并合并成最终结果列表
-        return rootParentIds.stream()
-            .flatMap(rootParentId -> TreeUtil.build(list, rootParentId, treeNodeConfig, parser).stream())
-            .collect(Collectors.toList());
+        Integer deep = treeNodeConfig.getDeep();
+        if (deep != null && deep == 0) {
+            return new ArrayList<>(0);
+        }
+        // 解析节点并按 ID 建立索引（ID 重复时以最后一个为准）
+        int size = list.size();
+        List<K> ids = new ArrayList<>(size);
+        List<K> parentIds = new ArrayList<>(size);
+        List<Tree<K>> nodes = new ArrayList<>(size);
+        Map<K, Tree<K>> nodeMap = MapUtil.newHashMap(size);
+        for (T item : list) {
+            Tree<K> node = new Tree<>(treeNodeConfig);
+            parser.parse(item, node);
+            K id = getId.apply(item);
+            ids.add(id);
+            parentIds.add(getParentId.apply(item));
+            nodes.add(node);
+            nodeMap.put(id, node);
+        }
+        // 挂载到父节点，父节点不存在的作为顶级节点
+        List<Tree<K>> roots = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            Tree<K> node = nodes.get(i);
+            if (nodeMap.get(ids.get(i)) != node) {
+                continue;
+            }
+            Tree<K> parent = nodeMap.get(parentIds.get(i));
+            if (parent == null) {
+                roots.add(node);
+            } else {
+                parent.addChildren(node);
+            }
+        }
+        // 逐层按权重排序，超出最大递归深度的子节点被裁剪
+        roots.sort(Tree::compareTo);
+        List<Tree<K>> level = roots;
+        for (int depth = 1; !level.isEmpty(); depth++) {
+            List<Tree<K>> nextLevel = new ArrayList<>();
+            for (Tree<K> node : level) {
+                List<Tree<K>> children = node.getChildren();
+                if (children == null) {
+                    continue;
+                }
+                if (deep != null && deep > 0 && depth >= deep) {
+                    node.setChildren(null);
+                    continue;
+                }
+                children.sort(Tree::compareTo);
+                nextLevel.addAll(children);
+            }
+            level = nextLevel;
+        }
+        return roots;
     }
 
     /**
@@ -150,23 +194,23 @@ public class TreeUtils extends TreeUtil {
         if (CollUtil.isEmpty(nodes)) {
             return new ArrayList<>(0);
         }
-        return nodes.stream().flatMap(TreeUtils::extractLeafNodes).collect(Collectors.toList());
-    }
-
-    /**
-     * 获取指定节点下的所有叶子节点
-     *
-     * @param <K>  节点ID的类型
-     * @param node 要查找叶子节点的根节点
-     * @return 包含所有叶子节点的列表
-     */
-    private static <K> Stream<Tree<K>> extractLeafNodes(Tree<K> node) {
-        if (!node.hasChild()) {
-            return Stream.of(node);
-        } else {
-            // 递归调用，获取所有子节点的叶子节点
-            return node.getChildren().stream().flatMap(TreeUtils::extractLeafNodes);
+        // 深度优先（非递归）遍历，保持节点原有顺序
+        List<Tree<K>> leafNodes = new ArrayList<>();
+        Deque<Tree<K>> stack = new ArrayDeque<>();
+        for (int i = nodes.size() - 1; i >= 0; i--) {
+            stack.push(nodes.get(i));
         }
+        while (!stack.isEmpty()) {
+            Tree<K> node = stack.pop();
+            if (!node.hasChild()) {
+                leafNodes.add(node);
+                continue;
+            }
+            List<Tree<K>> children = node.getChildren();
+            for (int i = children.size() - 1; i >= 0; i--) {
+                stack.push(children.get(i));
+            }
+        }
+        return leafNodes;
     }
-
 }
@@ -0,0 +1,55 @@
+package com.leepandar.starter.core.util;
+
+/**
+ * User-Agent 解析结果
+ */
+public class UserAgentInfo {
+
+    /**
+     * 空结果（无法解析）
+     */
+    public static final UserAgentInfo EMPTY = new UserAgentInfo(null, null, null, false);
+
+    /**
+     * 浏览器及其版本
+     */
+    private final String browser;
+
+    /**
+     * 操作系统
+     */
+    private final String os;
+
+    /**
+     * 设备平台
+     */
+    private final String device;
+
+    /**
+     * 是否为移动端
+     */
+    private final boolean mobile;
+
+    public UserAgentInfo(String browser, String os, String device, boolean mobile) {
+        this.browser = browser;
+        this.os = os;
+        this.device = device;
+        this.mobile = mobile;
+    }
+
+    public String getBrowser() {
+        return browser;
+    }
+
+    public String getOs() {
+        return os;
+    }
+
+    public String getDevice() {
+        return device;
+    }
+
+    public boolean isMobile() {
+        return mobile;
+    }
+}
@@ -5,14 +5,22 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.lang.reflect.Method;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * 表达式解析工具类
+ * <p>
+ * 解析器按（表达式、方法、目标类）缓存，表达式只解析、编译一次，方法参数名只获取一次
+ * </p>
  */
 public class ExpressionUtils {
 
     private static final Logger log = LoggerFactory.getLogger(ExpressionUtils.class);
 
+    private static final ConcurrentMap<EvaluatorKey, ExpressionEvaluator> EVALUATOR_CACHE = new ConcurrentHashMap<>();
+
     private ExpressionUtils() {
     }
 
@@ -30,7 +38,11 @@ public class ExpressionUtils {
             if (CharSequenceUtil.isBlank(script)) {
                 return null;
             }
-            ExpressionEvaluator expressionEvaluator = new ExpressionEvaluator(script, method);
+            EvaluatorKey key = new EvaluatorKey(script, method, target != null ? target.getClass() : null);
+            ExpressionEvaluator expressionEvaluator = EVALUATOR_CACHE.get(key);
+            if (expressionEvaluator == null) {
+                expressionEvaluator = EVALUATOR_CACHE.computeIfAbsent(key, k -> new ExpressionEvaluator(script, method));
+            }
             ExpressionInvokeContext invokeContext = new ExpressionInvokeContext(method, args, target);
             return expressionEvaluator.apply(invokeContext);
         } catch (Exception e) {
@@ -38,4 +50,38 @@ public class ExpressionUtils {
             return null;
         }
     }
+
+    /**
+     * 解析器缓存 Key
+     */
+    private static final class EvaluatorKey {
+
+        private final String script;
+        private final Method method;
+        private final Class<?> targetClass;
+        private final int hashCode;
+
+        EvaluatorKey(String script, Method method, Class<?> targetClass) {
+            this.script = script;
+            this.method = method;
+            this.targetClass = targetClass;
+            this.hashCode = Objects.hash(script, method, targetClass);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof EvaluatorKey other)) {
+                return false;
+            }
+            return script.equals(other.script) && method.equals(other.method) && targetClass == other.targetClass;
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
 }
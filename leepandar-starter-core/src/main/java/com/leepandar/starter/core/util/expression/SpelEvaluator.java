@@ -2,42 +2,104 @@ package com.leepandar.starter.core.util.expression;
 
 import org.springframework.core.DefaultParameterNameDiscoverer;
 import org.springframework.core.ParameterNameDiscoverer;
-import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.Expression;
 import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.MethodResolver;
+import org.springframework.expression.PropertyAccessor;
+import org.springframework.expression.TypeConverter;
+import org.springframework.expression.TypeLocator;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.expression.spel.support.ReflectiveMethodResolver;
+import org.springframework.expression.spel.support.ReflectivePropertyAccessor;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.expression.spel.support.StandardTypeConverter;
+import org.springframework.expression.spel.support.StandardTypeLocator;
 
 import java.lang.reflect.Method;
+import java.util.List;
 import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * Spring EL 表达式解析器
+ * <p>
+ * 表达式使用 MIXED 模式编译（编译失败时回退解释执行）；解析上下文共享属性访问器、方法解析器等（保留其反射缓存）。
+ * 仅引用方法参数（如 {@code #id}）或字符串字面量（如 {@code 'abc'}）的表达式直接取值，不经过 Spring EL
+ * </p>
  */
 public class SpelEvaluator implements Function<Object, Object> {
 
     private static final ExpressionParser PARSER;
     private static final ParameterNameDiscoverer PARAMETER_NAME_DISCOVERER;
 
+    /**
+     * 参数引用表达式（如 #id）
+     */
+    private static final Pattern VARIABLE_PATTERN = Pattern.compile("^\\s*#([A-Za-z_$][A-Za-z0-9_$]*)\\s*$");
+
+    /**
+     * 字符串字面量表达式（如 'abc'）
+     */
+    private static final Pattern LITERAL_PATTERN = Pattern.compile("^\\s*'([^']*)'\\s*$");
+
+    private static final List<PropertyAccessor> PROPERTY_ACCESSORS = List.of(new ReflectivePropertyAccessor());
+    private static final List<MethodResolver> METHOD_RESOLVERS = List.of(new ReflectiveMethodResolver());
+    private static final TypeLocator TYPE_LOCATOR = new StandardTypeLocator();
+    private static final TypeConverter TYPE_CONVERTER = new StandardTypeConverter();
+
     static {
-        PARSER = new SpelExpressionParser();
+        PARSER = new SpelExpressionParser(new SpelParserConfiguration(SpelCompilerMode.MIXED, SpelEvaluator.class
+            .getClassLoader()));
         PARAMETER_NAME_DISCOVERER = new DefaultParameterNameDiscoverer();
     }
 
     private final Expression expression;
     private String[] parameterNames;
 
+    /**
+     * 直接取值的参数索引（-1 表示不适用）
+     */
+    private int variableIndex = -1;
+
+    /**
+     * 字符串字面量值
+     */
+    private String literal;
+
     public SpelEvaluator(String script, Method defineMethod) {
-        expression = PARSER.parseExpression(script);
         if (defineMethod.getParameterCount() > 0) {
             parameterNames = PARAMETER_NAME_DISCOVERER.getParameterNames(defineMethod);
         }
+        Matcher literalMatcher = LITERAL_PATTERN.matcher(script);
+        if (literalMatcher.matches()) {
+            literal = literalMatcher.group(1);
+            expression = null;
+            return;
+        }
+        Matcher variableMatcher = VARIABLE_PATTERN.matcher(script);
+        if (variableMatcher.matches() && parameterNames != null) {
+            variableIndex = indexOf(parameterNames, variableMatcher.group(1));
+        }
+        expression = variableIndex >= 0 ? null : PARSER.parseExpression(script);
     }
 
     @Override
     public Object apply(Object rootObject) {
-        EvaluationContext context = new StandardEvaluationContext(rootObject);
         ExpressionInvokeContext invokeContext = (ExpressionInvokeContext)rootObject;
+        if (literal != null) {
+            return literal;
+        }
+        if (variableIndex >= 0) {
+            return invokeContext.getArgs()[variableIndex];
+        }
+        StandardEvaluationContext context = new StandardEvaluationContext(rootObject);
+        context.setPropertyAccessors(PROPERTY_ACCESSORS);
+        context.setMethodResolvers(METHOD_RESOLVERS);
+        context.setTypeLocator(TYPE_LOCATOR);
+        context.setTypeConverter(TYPE_CONVERTER);
         if (parameterNames != null) {
             for (int i = 0; i < parameterNames.length; i++) {
                 context.setVariable(parameterNames[i], invokeContext.getArgs()[i]);
@@ -45,4 +107,13 @@ public class SpelEvaluator implements Function<Object, Object> {
         }
         return expression.getValue(context);
     }
-}
\ No newline at end of file
+
+    private static int indexOf(String[] names, String name) {
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
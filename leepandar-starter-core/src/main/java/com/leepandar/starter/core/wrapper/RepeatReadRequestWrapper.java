@@ -22,29 +22,41 @@ import java.util.Map;
 /**
  * 可重复读取请求体的包装器 支持文件流直接透传，非文件流可重复读取
  * <p>
- * 虽然这里可以多次读取流里面的数据， 但是建议还是调用getContentAsString()/getCachedContent() 方法， 已经把内容缓存在内存中了。
+ * 请求体不超过内存阈值时缓存在内存中，超过后转存到临时文件，每次 {@link #getInputStream()} 均返回从头读取的新流。
+ * 默认构造函数始终缓存在内存中；日志等场景建议调用 {@link #getContentPreview()} 获取前 N 个字节的预览；
+ * 使用完毕后需调用 {@link #close()} 删除临时文件。
  * </p>
  *
  * @author Jasmine
  * @since 2.12.1
  */
-public class RepeatReadRequestWrapper extends HttpServletRequestWrapper {
+public class RepeatReadRequestWrapper extends HttpServletRequestWrapper implements Closeable {
+
+    /**
+     * 默认内存阈值（1MB）
+     */
+    public static final long DEFAULT_MEMORY_THRESHOLD = 1024 * 1024;
+
+    /**
+     * 默认预览大小（64KB）
+     */
+    public static final int DEFAULT_PREVIEW_SIZE = 64 * 1024;
 
     /**
      * 缓存内容
      */
-    private final FastByteArrayOutputStream cachedContent;
+    private final SpillableContent cachedContent;
 
-    /*** 用于缓存输入流 */
-    private ContentCachingInputStream contentCachingInputStream;
+    /**
+     * 预览大小（字节）
+     */
+    private final int previewSize;
 
     /**
      * 字符编码
      */
     private final String characterEncoding;
 
-    // private BufferedReader reader;
-
     /**
      * Constructs a request object wrapping the given request.
      *
@@ -52,22 +64,38 @@ public class RepeatReadRequestWrapper extends HttpServletRequestWrapper {
      * @throws IllegalArgumentException if the request is null
      */
     public RepeatReadRequestWrapper(HttpServletRequest request) throws IOException {
+        this(request, Long.MAX_VALUE, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Constructs a request object wrapping the given request.
+     *
+     * @param request         the {@link HttpServletRequest} to be wrapped.
+     * @param memoryThreshold 内存阈值（字节），超过后转存到临时文件
+     * @param previewSize     预览大小（字节，{@link #getContentPreview()} 使用）
+     * @throws IllegalArgumentException if the request is null
+     */
+    public RepeatReadRequestWrapper(HttpServletRequest request,
+                                    long memoryThreshold,
+                                    int previewSize) throws IOException {
         super(request);
         this.characterEncoding = request.getCharacterEncoding() != null
             ? request.getCharacterEncoding()
             : StandardCharsets.UTF_8.name();
-        int contentLength = super.getRequest().getContentLength();
-        cachedContent = (contentLength > 0)
-            ? new FastByteArrayOutputStream(contentLength)
-            : new FastByteArrayOutputStream();
+        this.previewSize = previewSize;
+        this.cachedContent = new SpillableContent(memoryThreshold, super.getRequest().getContentLength());
         // 判断是否为文件上传请求
         if (!isMultipartContent(request)) {
-            if (isFormRequest()) {
-                writeRequestParametersToCachedContent();
-            } else {
-                StreamUtils.copy(request.getInputStream(), cachedContent);
+            try {
+                if (isFormRequest()) {
+                    writeRequestParametersToCachedContent();
+                } else {
+                    StreamUtils.copy(request.getInputStream(), cachedContent);
+                }
+            } catch (IOException | RuntimeException e) {
+                cachedContent.close();
+                throw e;
             }
-            contentCachingInputStream = new ContentCachingInputStream(cachedContent.toByteArray());
         }
     }
 
@@ -78,8 +106,7 @@ public class RepeatReadRequestWrapper extends HttpServletRequestWrapper {
             return super.getRequest().getInputStream();
         }
         synchronized (this) {
-            contentCachingInputStream.reset();
-            return contentCachingInputStream;
+            return new ContentCachingInputStream(cachedContent.openInputStream());
         }
     }
 
@@ -129,12 +156,91 @@ public class RepeatReadRequestWrapper extends HttpServletRequestWrapper {
         return this.characterEncoding;
     }
 
+    /**
+     * 获取完整请求体
+     *
+     * @return 请求体
+     */
     public String getContentAsString() {
-        return this.cachedContent.toString(Charset.forName(getCharacterEncoding()));
+        try {
+            return new String(cachedContent.preview((int)Math.min(cachedContent.size(), Integer.MAX_VALUE)), Charset
+                .forName(getCharacterEncoding()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read cached content", e);
+        }
     }
 
+    /**
+     * 获取请求体预览（前 N 个字节，截断时去除末尾不完整的 UTF-8 字符）
+     *
+     * @return 请求体预览
+     */
+    public String getContentPreview() {
+        try {
+            byte[] bytes = cachedContent.preview(previewSize);
+            Charset charset = Charset.forName(getCharacterEncoding());
+            int length = bytes.length;
+            if (length < cachedContent.size() && StandardCharsets.UTF_8.equals(charset)) {
+                length = RepeatReadResponseWrapper.utf8Boundary(bytes, length);
+            }
+            return new String(bytes, 0, length, charset);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read cached content", e);
+        }
+    }
+
+    /**
+     * 获取缓存内容
+     * <p>
+     * 请求体已转存到临时文件时会将其完整读入内存
+     * </p>
+     *
+     * @return 缓存内容
+     * @deprecated 请求体可能已转存到临时文件，请使用 {@link #getInputStream()} 读取
+     */
+    @Deprecated
     public FastByteArrayOutputStream getCachedContent() {
-        return cachedContent;
+        FastByteArrayOutputStream memory = cachedContent.getMemory();
+        if (memory != null) {
+            return memory;
+        }
+        FastByteArrayOutputStream content = new FastByteArrayOutputStream();
+        try (InputStream inputStream = cachedContent.openInputStream()) {
+            StreamUtils.copy(inputStream, content);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read cached content", e);
+        }
+        return content;
+    }
+
+    /**
+     * 获取请求体大小（字节）
+     *
+     * @return 请求体大小
+     */
+    public long getContentSize() {
+        return cachedContent.size();
+    }
+
+    /**
+     * 请求体是否已转存到临时文件
+     *
+     * @return 是否已转存到临时文件
+     */
+    public boolean isSpilled() {
+        return cachedContent.isSpilled();
+    }
+
+    /**
+     * 删除临时文件
+     *
+     * @throws IOException IO 异常
+     */
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            cachedContent.close();
+        }
     }
 
     /**
@@ -159,13 +265,14 @@ public class RepeatReadRequestWrapper extends HttpServletRequestWrapper {
     private static class ContentCachingInputStream extends ServletInputStream {
 
         private final InputStream delegate;
+        private boolean finished = false;
 
-        public ContentCachingInputStream(byte[] body) {
-            this.delegate = new ByteArrayInputStream(body);
+        public ContentCachingInputStream(InputStream delegate) {
+            this.delegate = delegate;
         }
 
         public boolean isFinished() {
-            return false;
+            return this.finished;
         }
 
         public boolean isReady() {
@@ -177,15 +284,23 @@ public class RepeatReadRequestWrapper extends HttpServletRequestWrapper {
         }
 
         public int read() throws IOException {
-            return this.delegate.read();
+            int b = this.delegate.read();
+            if (b == -1) {
+                this.finished = true;
+            }
+            return b;
         }
 
         public int read(byte[] b, int off, int len) throws IOException {
-            return this.delegate.read(b, off, len);
+            int count = this.delegate.read(b, off, len);
+            if (count == -1) {
+                this.finished = true;
+            }
+            return count;
         }
 
         public int read(byte[] b) throws IOException {
-            return this.delegate.read(b);
+            return this.read(b, 0, b.length);
         }
 
         public long skip(long n) throws IOException {
@@ -5,27 +5,66 @@ import jakarta.servlet.WriteListener;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.servlet.http.HttpServletResponseWrapper;
 import org.springframework.http.MediaType;
+import org.springframework.util.FastByteArrayOutputStream;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 
 /**
  * 可重复读取响应内容的包装器
- * 支持缓存响应内容，便于日志记录和后续处理 (不缓存SSE)
+ * <p>
+ * 响应内容直接写入原始响应，同时捕获前 N 个字节（默认捕获完整响应体），便于日志记录和后续处理 (不捕获SSE)
+ * </p>
  */
 public class RepeatReadResponseWrapper extends HttpServletResponseWrapper {
 
-    private final ByteArrayOutputStream cachedOutputStream = new ByteArrayOutputStream();
-    private final PrintWriter writer = new PrintWriter(cachedOutputStream, true);
+    /**
+     * 默认预览大小（64KB）
+     */
+    public static final int DEFAULT_PREVIEW_SIZE = 64 * 1024;
+
+    /**
+     * 预览大小（字节）
+     */
+    private final int previewSize;
+
+    /**
+     * 捕获的响应内容（最多 previewSize 字节）
+     */
+    private final FastByteArrayOutputStream capturedContent = new FastByteArrayOutputStream(256);
+
+    /**
+     * 响应内容总大小（字节）
+     */
+    private long contentSize = 0;
+
+    private ServletOutputStream outputStream;
+    private PrintWriter writer;
+
     /**
      * 是否为流式响应
      */
     private boolean isStreamingResponse = false;
 
+    /**
+     * 捕获完整响应体
+     *
+     * @param response 响应对象
+     */
     public RepeatReadResponseWrapper(HttpServletResponse response) {
+        this(response, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param response    响应对象
+     * @param previewSize 预览大小（字节，超出部分不捕获）
+     */
+    public RepeatReadResponseWrapper(HttpServletResponse response, int previewSize) {
         super(response);
+        this.previewSize = Math.max(0, previewSize);
         checkStreamingResponse();
     }
 
@@ -54,31 +93,10 @@ public class RepeatReadResponseWrapper extends HttpServletResponseWrapper {
         if (isStreamingResponse) {
             return super.getOutputStream();
         }
-        return new ServletOutputStream() {
-            @Override
-            public boolean isReady() {
-                return true;
-            }
-
-            @Override
-            public void setWriteListener(WriteListener writeListener) {
-            }
-
-            @Override
-            public void write(int b) throws IOException {
-                cachedOutputStream.write(b);
-            }
-
-            @Override
-            public void write(byte[] b) throws IOException {
-                cachedOutputStream.write(b);
-            }
-
-            @Override
-            public void write(byte[] b, int off, int len) throws IOException {
-                cachedOutputStream.write(b, off, len);
-            }
-        };
+        if (outputStream == null) {
+            outputStream = new TeeServletOutputStream(super.getOutputStream());
+        }
+        return outputStream;
     }
 
     @Override
@@ -88,30 +106,72 @@ public class RepeatReadResponseWrapper extends HttpServletResponseWrapper {
             // 对于 SSE 流式响应，直接返回原始响应写入器，不做额外处理
             return super.getWriter();
         }
+        if (writer == null) {
+            writer = new PrintWriter(new OutputStreamWriter(getOutputStream(), Charset
+                .forName(getCharacterEncoding())));
+        }
         return writer;
     }
 
+    @Override
+    public void flushBuffer() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+        super.flushBuffer();
+    }
+
     /**
-     * 获取缓存的响应内容
+     * 获取捕获的响应内容（前 N 个字节，截断时去除末尾不完整的 UTF-8 字符）
      *
-     * @return 缓存的响应内容
+     * @return 捕获的响应内容
      */
     public String getResponseContent() {
         if (!isStreamingResponse) {
-            writer.flush();
-            return cachedOutputStream.toString(StandardCharsets.UTF_8);
+            if (writer != null) {
+                writer.flush();
+            }
+            if (!isTruncated()) {
+                return capturedContent.toString(StandardCharsets.UTF_8);
+            }
+            byte[] bytes = capturedContent.toByteArrayUnsafe();
+            return new String(bytes, 0, utf8Boundary(bytes, capturedContent.size()), StandardCharsets.UTF_8);
         }
         return null;
     }
 
     /**
-     * 将缓存的响应内容复制到原始响应中
+     * 捕获的响应内容是否不完整（响应内容超过预览大小）
+     *
+     * @return 是否不完整
+     */
+    public boolean isTruncated() {
+        if (writer != null) {
+            writer.flush();
+        }
+        return contentSize > capturedContent.size();
+    }
+
+    /**
+     * 获取响应内容总大小（字节）
+     *
+     * @return 响应内容总大小
+     */
+    public long getContentSize() {
+        return contentSize;
+    }
+
+    /**
+     * 刷新响应内容到原始响应
+     * <p>
+     * 响应内容已直接写入原始响应，此处仅刷新写入器中尚未输出的内容
+     * </p>
      *
      * @throws IOException IO 异常
      */
     public void copyBodyToResponse() throws IOException {
-        if (!isStreamingResponse && cachedOutputStream.size() > 0) {
-            getResponse().getOutputStream().write(cachedOutputStream.toByteArray());
+        if (writer != null) {
+            writer.flush();
         }
     }
 
@@ -123,4 +183,85 @@ public class RepeatReadResponseWrapper extends HttpServletResponseWrapper {
     public boolean isStreamingResponse() {
         return isStreamingResponse;
     }
+
+    /**
+     * 获取不超过指定长度的最后一个完整 UTF-8 字符边界
+     */
+    static int utf8Boundary(byte[] bytes, int length) {
+        int index = length - 1;
+        int continuation = 0;
+        while (index >= 0 && continuation < 3 && (bytes[index] & 0xC0) == 0x80) {
+            index--;
+            continuation++;
+        }
+        if (index < 0) {
+            return length;
+        }
+        int lead = bytes[index] & 0xFF;
+        int expected = lead >= 0xF0 ? 4 : lead >= 0xE0 ? 3 : lead >= 0xC0 ? 2 : 1;
+        return index + expected > length ? index : length;
+    }
+
+    /**
+     * 捕获前 N 个字节
+     */
+    private void capture(byte[] b, int off, int len) {
+        contentSize += len;
+        int remaining = previewSize - capturedContent.size();
+        if (remaining > 0) {
+            capturedContent.write(b, off, Math.min(remaining, len));
+        }
+    }
+
+    /**
+     * 写入原始响应的同时捕获前 N 个字节
+     */
+    private class TeeServletOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream delegate;
+
+        TeeServletOutputStream(ServletOutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setWriteListener(WriteListener writeListener) {
+            delegate.setWriteListener(writeListener);
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            delegate.write(b);
+            contentSize++;
+            if (capturedContent.size() < previewSize) {
+                capturedContent.write(b);
+            }
+        }
+
+        @Override
+        public void write(byte[] b) throws IOException {
+            this.write(b, 0, b.length);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            delegate.write(b, off, len);
+            capture(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            delegate.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+    }
 }
@@ -0,0 +1,151 @@
+package com.leepandar.starter.core.wrapper;
+
+import org.springframework.util.FastByteArrayOutputStream;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 可溢出到磁盘的内容缓存
+ * <p>
+ * 内容不超过内存阈值时保存在内存中，超过后整体转存到临时文件；读取时每次返回从头开始的新输入流。使用完毕后需调用 {@link #close()} 删除临时文件
+ * </p>
+ */
+class SpillableContent extends OutputStream implements Closeable {
+
+    private static final int FILE_BUFFER_SIZE = 8192;
+
+    private final long memoryThreshold;
+    private FastByteArrayOutputStream memory;
+    private Path file;
+    private OutputStream fileOutputStream;
+    private final List<InputStream> fileInputStreams = new ArrayList<>();
+    private long size;
+
+    /**
+     * @param memoryThreshold 内存阈值（字节）
+     * @param initialCapacity 初始容量（字节）
+     */
+    SpillableContent(long memoryThreshold, int initialCapacity) {
+        this.memoryThreshold = memoryThreshold;
+        this.memory = new FastByteArrayOutputStream((int)Math.max(256, Math.min(initialCapacity, memoryThreshold)));
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        this.ensureCapacity(1);
+        this.current().write(b);
+        size++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        this.ensureCapacity(len);
+        this.current().write(b, off, len);
+        size += len;
+    }
+
+    /**
+     * 内容大小（字节）
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * 是否已转存到临时文件
+     */
+    public boolean isSpilled() {
+        return file != null;
+    }
+
+    /**
+     * 内存中的内容（已转存到临时文件时返回 null）
+     */
+    public FastByteArrayOutputStream getMemory() {
+        return memory;
+    }
+
+    /**
+     * 打开从头开始读取的输入流
+     */
+    public InputStream openInputStream() throws IOException {
+        if (file == null) {
+            return memory.getInputStream();
+        }
+        fileOutputStream.flush();
+        InputStream inputStream = Files.newInputStream(file);
+        synchronized (fileInputStreams) {
+            fileInputStreams.add(inputStream);
+        }
+        return inputStream;
+    }
+
+    /**
+     * 读取前 N 个字节
+     *
+     * @param maxBytes 最大字节数
+     * @return 内容
+     */
+    public byte[] preview(int maxBytes) throws IOException {
+        int length = (int)Math.min(size, Math.max(0, maxBytes));
+        if (file == null && length == size) {
+            return memory.toByteArray();
+        }
+        byte[] bytes = new byte[length];
+        try (InputStream inputStream = this.openInputStream()) {
+            int read = inputStream.readNBytes(bytes, 0, length);
+            return read == length ? bytes : Arrays.copyOf(bytes, read);
+        }
+    }
+
+    /**
+     * 关闭已打开的文件输入流并删除临时文件
+     */
+    @Override
+    public void close() throws IOException {
+        if (file == null) {
+            return;
+        }
+        try {
+            synchronized (fileInputStreams) {
+                for (InputStream inputStream : fileInputStreams) {
+                    inputStream.close();
+                }
+                fileInputStreams.clear();
+            }
+            fileOutputStream.close();
+        } finally {
+            Files.deleteIfExists(file);
+            file = null;
+            fileOutputStream = null;
+            memory = new FastByteArrayOutputStream();
+            size = 0;
+        }
+    }
+
+    private OutputStream current() {
+        return file != null ? fileOutputStream : memory;
+    }
+
+    /**
+     * 超过内存阈值时转存到临时文件
+     */
+    private void ensureCapacity(int length) throws IOException {
+        if (file != null || size + length <= memoryThreshold) {
+            return;
+        }
+        file = Files.createTempFile("repeat-read-", ".tmp");
+        fileOutputStream = new BufferedOutputStream(Files.newOutputStream(file), FILE_BUFFER_SIZE);
+        memory.writeTo(fileOutputStream);
+        memory = null;
+    }
+}
@@ -7,6 +7,7 @@ import cn.hutool.core.convert.Convert;
 import cn.hutool.core.lang.tree.Tree;
 import cn.hutool.core.lang.tree.TreeNodeConfig;
 import cn.hutool.core.lang.tree.TreeUtil;
+import cn.hutool.core.lang.tree.parser.NodeParser;
 import cn.hutool.core.map.MapUtil;
 import cn.hutool.core.text.CharSequenceUtil;
 import cn.hutool.core.util.ReflectUtil;
@@ -99,18 +100,15 @@ public class CrudServiceImpl<M extends BaseMapper<T>, T extends BaseIdDO, L, D,
             treeNodeConfig = treeDictModel.genTreeNodeConfig(treeField);
             rootId = treeField.rootId();
         }
+        NodeParser<L, Long> nodeParser = this.getTreeNodeParser(isSimple, treeField);
         if (isSingleRoot) {
             // 构建单根节点树
-            return TreeUtil.build(list, rootId, treeNodeConfig, (node,
-                                                                 tree) -> buildTreeField(isSimple, node, tree, treeField));
+            return TreeUtil.build(list, rootId, treeNodeConfig, nodeParser);
         } else {
-            Function<L, Long> getId = ReflectUtils.createMethodReference(listClass, CharSequenceUtil.genGetter(treeField
-                .value()));
-            Function<L, Long> getParentId = ReflectUtils.createMethodReference(listClass, CharSequenceUtil
-                .genGetter(treeField.parentIdKey()));
+            Function<L, Long> getId = ReflectUtils.getGetter(listClass, treeField.value());
+            Function<L, Long> getParentId = ReflectUtils.getGetter(listClass, treeField.parentIdKey());
             // 构建多根节点树
-            return TreeUtils.buildMultiRoot(list, getId, getParentId, treeNodeConfig, (node,
-                                                                                       tree) -> buildTreeField(isSimple, node, tree, treeField));
+            return TreeUtils.buildMultiRoot(list, getId, getParentId, treeNodeConfig, nodeParser);
         }
     }
 
@@ -368,25 +366,34 @@ public class CrudServiceImpl<M extends BaseMapper<T>, T extends BaseIdDO, L, D,
     }
 
     /**
-     * 构建树字段
+     * 获取树节点解析器
+     * <p>
+     * 字段 Getter 方法引用按类缓存，扩展字段列表每次构建仅解析一次
+     * </p>
      *
      * @param isSimple  是否简单树结构
-     * @param node      节点
-     * @param tree      树
      * @param treeField 树字段
+     * @return 树节点解析器
      */
-    private void buildTreeField(boolean isSimple, L node, Tree<Long> tree, TreeField treeField) {
-        tree.setId(ReflectUtil.invoke(node, CharSequenceUtil.genGetter(treeField.value())));
-        tree.setParentId(ReflectUtil.invoke(node, CharSequenceUtil.genGetter(treeField.parentIdKey())));
-        tree.setName(ReflectUtil.invoke(node, CharSequenceUtil.genGetter(treeField.nameKey())));
-        tree.setWeight(ReflectUtil.invoke(node, CharSequenceUtil.genGetter(treeField.weightKey())));
+    private NodeParser<L, Long> getTreeNodeParser(boolean isSimple, TreeField treeField) {
+        Function<L, Long> getId = ReflectUtils.getGetter(listClass, treeField.value());
+        Function<L, Long> getParentId = ReflectUtils.getGetter(listClass, treeField.parentIdKey());
+        Function<L, CharSequence> getName = ReflectUtils.getGetter(listClass, treeField.nameKey());
+        Function<L, Comparable<?>> getWeight = ReflectUtils.getGetter(listClass, treeField.weightKey());
         // 如果构建简单树结构，则不包含扩展字段
+        Map<String, Function<L, Object>> extraGetters = new LinkedHashMap<>();
         if (!isSimple) {
             List<Field> fieldList = ReflectUtils.getNonStaticFields(listClass);
             fieldList.removeIf(f -> CharSequenceUtil.equalsAnyIgnoreCase(f.getName(), treeField.value(), treeField
                 .parentIdKey(), treeField.nameKey(), treeField.weightKey(), treeField.childrenKey()));
-            fieldList.forEach(f -> tree.putExtra(f.getName(), ReflectUtil.invoke(node, CharSequenceUtil.genGetter(f
-                .getName()))));
+            fieldList.forEach(f -> extraGetters.put(f.getName(), ReflectUtils.getGetter(listClass, f.getName())));
         }
+        return (node, tree) -> {
+            tree.setId(getId.apply(node));
+            tree.setParentId(getParentId.apply(node));
+            tree.setName(getName.apply(node));
+            tree.setWeight(getWeight.apply(node));
+            extraGetters.forEach((name, getter) -> tree.putExtra(name, getter.apply(node)));
+        };
     }
 }
@@ -22,7 +22,7 @@ public @interface Idempotent {
     String key() default "";
 
     /**
-     * 超时时间
+     * 超时时间（重放模式下同时为执行中标记的有效时长）
      */
     int timeout() default 1000;
 
@@ -31,6 +31,16 @@ public @interface Idempotent {
      */
     TimeUnit unit() default TimeUnit.MILLISECONDS;
 
+    /**
+     * 是否重放结果（重复请求返回首次执行的结果，而不是提示重复操作）
+     */
+    boolean replay() default false;
+
+    /**
+     * 重放模式下等待执行中请求完成的最长时间（时间单位同超时时间，小于 0 表示与超时时间相同，不能大于超时时间）
+     */
+    int waitTimeout() default -1;
+
     /**
      * 提示信息
      */
@@ -6,10 +6,14 @@ import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import com.leepandar.starter.cache.redisson.util.RedisUtils;
+import com.leepandar.starter.core.util.LruCache;
 import com.leepandar.starter.core.util.expression.ExpressionUtils;
 import com.leepandar.starter.idempotent.annotation.Idempotent;
 import com.leepandar.starter.idempotent.autoconfigure.IdempotentProperties;
+import com.leepandar.starter.idempotent.core.IdempotentRecord;
 import com.leepandar.starter.idempotent.exception.IdempotentException;
 import com.leepandar.starter.idempotent.generator.IdempotentNameGenerator;
 
@@ -22,12 +26,22 @@ import java.time.Duration;
 @Aspect
 public class IdempotentAspect {
 
+    private static final Logger log = LoggerFactory.getLogger(IdempotentAspect.class);
+
+    /**
+     * 等待执行中请求完成的最大轮询间隔（毫秒）
+     */
+    private static final long MAX_POLL_INTERVAL = 200;
+
     private final IdempotentProperties properties;
     private final IdempotentNameGenerator nameGenerator;
+    private final LruCache<String, Boolean> recentKeys;
 
     public IdempotentAspect(IdempotentProperties properties, IdempotentNameGenerator nameGenerator) {
         this.properties = properties;
         this.nameGenerator = nameGenerator;
+        IdempotentProperties.LocalFilter localFilter = properties.getLocalFilter();
+        this.recentKeys = localFilter.isEnabled() ? new LruCache<>(localFilter.getMaxSize()) : null;
     }
 
     /**
@@ -41,19 +55,112 @@ public class IdempotentAspect {
     @Around("@annotation(idempotent)")
     public Object around(ProceedingJoinPoint joinPoint, Idempotent idempotent) throws Throwable {
         String cacheKey = this.getCacheKey(joinPoint, idempotent);
+        Duration timeout = Duration.ofMillis(idempotent.unit().toMillis(idempotent.timeout()));
+        if (idempotent.replay()) {
+            // 执行中标记需在重复请求的等待期间内有效，否则标记过期后重复请求会再次执行
+            if (idempotent.waitTimeout() > idempotent.timeout()) {
+                throw new IdempotentException("幂等重放等待时间不能大于超时时间");
+            }
+            return this.proceedWithReplay(joinPoint, idempotent, cacheKey, timeout);
+        }
+        // 本节点近期已占用该键，直接拒绝
+        if (recentKeys != null && recentKeys.get(cacheKey) != null) {
+            throw new IdempotentException(idempotent.message());
+        }
         // 如果键已存在，则抛出异常
-        if (!RedisUtils.setIfAbsent(cacheKey, cacheKey, Duration.ofMillis(idempotent.unit()
-            .toMillis(idempotent.timeout())))) {
+        if (!RedisUtils.setIfAbsent(cacheKey, cacheKey, timeout)) {
             throw new IdempotentException(idempotent.message());
         }
+        if (recentKeys != null) {
+            recentKeys.put(cacheKey, Boolean.TRUE, timeout.toMillis());
+        }
         // 执行目标方法
         try {
             return joinPoint.proceed();
         } catch (Throwable e) {
             // 删除键
+            RedisUtils.delete(cacheKey);
+            if (recentKeys != null) {
+                recentKeys.remove(cacheKey);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 结果重放模式处理
+     * <p>
+     * 首次请求标记为执行中，执行成功后保存结果；重复请求等待执行中的请求完成后返回保存的结果
+     * </p>
+     *
+     * @param joinPoint  切点
+     * @param idempotent 幂等注解
+     * @param cacheKey   缓存 Key
+     * @param timeout    超时时间
+     * @return 目标方法的执行结果
+     * @throws Throwable /
+     */
+    private Object proceedWithReplay(ProceedingJoinPoint joinPoint,
+                                     Idempotent idempotent,
+                                     String cacheKey,
+                                     Duration timeout) throws Throwable {
+        if (!RedisUtils.setIfAbsent(cacheKey, IdempotentRecord.processing(), timeout)) {
+            return this.awaitResult(joinPoint, idempotent, cacheKey);
+        }
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable e) {
             RedisUtils.delete(cacheKey);
             throw e;
         }
+        try {
+            RedisUtils.set(cacheKey, IdempotentRecord.completed(result), timeout);
+        } catch (Exception e) {
+            // 结果无法保存时删除键，避免重复请求一直等待
+            log.warn("Save idempotent result failed: {}", cacheKey, e);
+            RedisUtils.delete(cacheKey);
+        }
+        return result;
+    }
+
+    /**
+     * 等待执行中的请求完成并返回其结果
+     *
+     * @param joinPoint  切点
+     * @param idempotent 幂等注解
+     * @param cacheKey   缓存 Key
+     * @return 首次执行的结果
+     */
+    private Object awaitResult(ProceedingJoinPoint joinPoint, Idempotent idempotent, String cacheKey) {
+        int waitTimeout = idempotent.waitTimeout() < 0 ? idempotent.timeout() : idempotent.waitTimeout();
+        long deadline = System.currentTimeMillis() + idempotent.unit().toMillis(waitTimeout);
+        long interval = 10;
+        while (true) {
+            Object value = RedisUtils.get(cacheKey);
+            // 首次请求执行失败（键已删除）或非重放模式写入的键
+            if (!(value instanceof IdempotentRecord record)) {
+                throw new IdempotentException(idempotent.message());
+            }
+            if (record.isCompleted()) {
+                Method method = ((MethodSignature)joinPoint.getSignature()).getMethod();
+                Object result = record.getResult();
+                return result == null || method.getReturnType().isInstance(result)
+                    ? result
+                    : Convert.convert(method.getGenericReturnType(), result);
+            }
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                throw new IdempotentException(idempotent.message());
+            }
+            try {
+                Thread.sleep(Math.min(interval, remaining));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IdempotentException(idempotent.message(), e);
+            }
+            interval = Math.min(interval * 2, MAX_POLL_INTERVAL);
+        }
     }
 
     /**
@@ -84,4 +191,4 @@ public class IdempotentAspect {
         }
         return RedisUtils.formatKey(properties.getKeyPrefix(), name, key);
     }
-}
\ No newline at end of file
+}
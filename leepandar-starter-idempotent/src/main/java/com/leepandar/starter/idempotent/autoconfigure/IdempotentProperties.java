@@ -14,6 +14,11 @@ public class IdempotentProperties {
      */
     private String keyPrefix = "Idempotent";
 
+    /**
+     * 本地过滤配置
+     */
+    private LocalFilter localFilter = new LocalFilter();
+
     public String getKeyPrefix() {
         return keyPrefix;
     }
@@ -21,4 +26,47 @@ public class IdempotentProperties {
     public void setKeyPrefix(String keyPrefix) {
         this.keyPrefix = keyPrefix;
     }
+
+    public LocalFilter getLocalFilter() {
+        return localFilter;
+    }
+
+    public void setLocalFilter(LocalFilter localFilter) {
+        this.localFilter = localFilter;
+    }
+
+    /**
+     * 本地过滤配置
+     * <p>
+     * 记录本节点近期已占用的幂等 Key，重复提交直接拒绝，无需访问 Redis（不适用于结果重放模式）
+     * </p>
+     */
+    public static class LocalFilter {
+
+        /**
+         * 是否启用
+         */
+        private boolean enabled = true;
+
+        /**
+         * 最大记录数
+         */
+        private int maxSize = 10000;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMaxSize() {
+            return maxSize;
+        }
+
+        public void setMaxSize(int maxSize) {
+            this.maxSize = maxSize;
+        }
+    }
 }
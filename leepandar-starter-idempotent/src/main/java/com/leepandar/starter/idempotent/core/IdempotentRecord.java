@@ -0,0 +1,57 @@
+package com.leepandar.starter.idempotent.core;
+
+/**
+ * 幂等记录（结果重放模式）
+ */
+public class IdempotentRecord {
+
+    /**
+     * 是否已执行完成（未完成表示执行中）
+     */
+    private boolean completed;
+
+    /**
+     * 执行结果
+     */
+    private Object result;
+
+    public IdempotentRecord() {
+    }
+
+    public IdempotentRecord(boolean completed, Object result) {
+        this.completed = completed;
+        this.result = result;
+    }
+
+    /**
+     * 执行中
+     */
+    public static IdempotentRecord processing() {
+        return new IdempotentRecord(false, null);
+    }
+
+    /**
+     * 执行完成
+     *
+     * @param result 执行结果
+     */
+    public static IdempotentRecord completed(Object result) {
+        return new IdempotentRecord(true, result);
+    }
+
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    public void setCompleted(boolean completed) {
+        this.completed = completed;
+    }
+
+    public Object getResult() {
+        return result;
+    }
+
+    public void setResult(Object result) {
+        this.result = result;
+    }
+}
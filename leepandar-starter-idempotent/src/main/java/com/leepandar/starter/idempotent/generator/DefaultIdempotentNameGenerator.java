@@ -1,9 +1,8 @@
 package com.leepandar.starter.idempotent.generator;
 
 import cn.hutool.core.util.ClassUtil;
-import cn.hutool.crypto.digest.DigestUtil;
-import cn.hutool.json.JSONUtil;
 import com.leepandar.starter.core.constant.StringConstants;
+import com.leepandar.starter.core.util.ArgumentHasher;
 
 import java.lang.reflect.Method;
 
@@ -23,9 +22,8 @@ public class DefaultIdempotentNameGenerator implements IdempotentNameGenerator {
         // 添加参数信息的哈希值（如果有参数）
         if (args != null && args.length > 0) {
             nameSb.append(StringConstants.COLON);
-            // 使用JSONUtil序列化参数，然后计算哈希值以确保唯一性
-            String argsJson = JSONUtil.toJsonStr(args);
-            nameSb.append(DigestUtil.md5Hex(argsJson));
+            // 按结构计算参数哈希值，无需先序列化为 JSON
+            nameSb.append(ArgumentHasher.hash(args));
         }
         return nameSb.toString();
     }
@@ -39,20 +39,28 @@ public class LogFilter extends OncePerRequestFilter {
         boolean isExcludeUri = logProperties.isMatch(request.getRequestURI());
 
         // 处理可重复读取的请求
+        int previewSize = (int)Math.min(Integer.MAX_VALUE, logProperties.getBodyPreviewSize().toBytes());
         HttpServletRequest requestWrapper = (isExcludeUri || !this.isRequestWrapper(request))
             ? request
-            : new RepeatReadRequestWrapper(request);
+            : new RepeatReadRequestWrapper(request, logProperties.getBodyMemoryThreshold().toBytes(), previewSize);
 
         // 处理可重复读取的响应
         HttpServletResponse responseWrapper = (isExcludeUri || !this.isResponseWrapper(response))
             ? response
-            : new RepeatReadResponseWrapper(response);
+            : new RepeatReadResponseWrapper(response, previewSize);
 
-        filterChain.doFilter(requestWrapper, responseWrapper);
+        try {
+            filterChain.doFilter(requestWrapper, responseWrapper);
 
-        // 如果响应被包装了，复制缓存数据到原始响应
-        if (responseWrapper instanceof RepeatReadResponseWrapper wrappedResponse) {
-            wrappedResponse.copyBodyToResponse();
+            // 如果响应被包装了，刷新尚未输出的响应内容
+            if (responseWrapper instanceof RepeatReadResponseWrapper wrappedResponse) {
+                wrappedResponse.copyBodyToResponse();
+            }
+        } finally {
+            // 删除请求体临时文件（请求被包装时）
+            if (requestWrapper instanceof RepeatReadRequestWrapper wrappedRequest && requestWrapper != request) {
+                wrappedRequest.close();
+            }
         }
     }
 
@@ -2,9 +2,11 @@ package com.leepandar.starter.log.model;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.NestedConfigurationProperty;
+import org.springframework.util.unit.DataSize;
 import com.leepandar.starter.core.constant.PropertiesConstants;
 import com.leepandar.starter.log.enums.Include;
-import com.leepandar.starter.core.util.SpringWebUtils;
+import com.leepandar.starter.core.util.CompiledPathMatcher;
+import com.leepandar.starter.core.wrapper.RepeatReadRequestWrapper;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -37,6 +39,21 @@ public class LogProperties {
      */
     private List<String> excludePatterns = new ArrayList<>();
 
+    /**
+     * 请求体内存阈值（超过后转存到临时文件）
+     */
+    private DataSize bodyMemoryThreshold = DataSize.ofBytes(RepeatReadRequestWrapper.DEFAULT_MEMORY_THRESHOLD);
+
+    /**
+     * 请求体/响应体预览大小（仅捕获前 N 个字节用于日志记录）
+     */
+    private DataSize bodyPreviewSize = DataSize.ofBytes(RepeatReadRequestWrapper.DEFAULT_PREVIEW_SIZE);
+
+    /**
+     * 放行路由匹配器（首次匹配时构建，放行路由变更时重建）
+     */
+    private volatile CompiledPathMatcher excludeMatcher;
+
     public boolean isEnabled() {
         return enabled;
     }
@@ -59,6 +76,23 @@ public class LogProperties {
 
     public void setExcludePatterns(List<String> excludePatterns) {
         this.excludePatterns = excludePatterns;
+        this.excludeMatcher = null;
+    }
+
+    public DataSize getBodyMemoryThreshold() {
+        return bodyMemoryThreshold;
+    }
+
+    public void setBodyMemoryThreshold(DataSize bodyMemoryThreshold) {
+        this.bodyMemoryThreshold = bodyMemoryThreshold;
+    }
+
+    public DataSize getBodyPreviewSize() {
+        return bodyPreviewSize;
+    }
+
+    public void setBodyPreviewSize(DataSize bodyPreviewSize) {
+        this.bodyPreviewSize = bodyPreviewSize;
     }
 
     public AccessLogProperties getAccessLog() {
@@ -76,6 +110,15 @@ public class LogProperties {
      * @return 是否匹配
      */
     public boolean isMatch(String uri) {
-        return this.getExcludePatterns().stream().anyMatch(pattern -> SpringWebUtils.isMatch(uri, pattern));
+        List<String> patterns = this.getExcludePatterns();
+        if (patterns == null || patterns.isEmpty()) {
+            return false;
+        }
+        CompiledPathMatcher matcher = excludeMatcher;
+        if (matcher == null) {
+            matcher = new CompiledPathMatcher(patterns);
+            excludeMatcher = matcher;
+        }
+        return matcher.matches(uri);
     }
 }
@@ -67,9 +67,9 @@ public class LogRequest {
         this.ip = ServletUtils.getRequestIp();
         this.headers = (includes.contains(Include.REQUEST_HEADERS)) ? ServletUtils.getRequestHeaders() : null;
         if (includes.contains(Include.REQUEST_BODY)) {
-            this.body = ServletUtils.getRequestBody();
+            this.body = ServletUtils.getRequestBodyPreview();
         } else if (includes.contains(Include.REQUEST_PARAM)) {
-            this.param = ServletUtils.getRequestParams();
+            this.param = ServletUtils.getRequestParamsPreview();
         }
         this.address = (includes.contains(Include.IP_ADDRESS))
             ? ExceptionUtils.exToNull(() -> IpUtils.getIpv4Address(this.ip))
@@ -35,9 +35,9 @@ public class LogResponse {
         this.status = ServletUtils.getResponseStatus();
         this.headers = (includes.contains(Include.RESPONSE_HEADERS)) ? ServletUtils.getResponseHeaders() : null;
         if (includes.contains(Include.RESPONSE_BODY)) {
-            this.body = ServletUtils.getResponseBody();
+            this.body = ServletUtils.getResponseBodyPreview();
         } else if (includes.contains(Include.RESPONSE_PARAM)) {
-            this.param = ServletUtils.getResponseParams();
+            this.param = ServletUtils.getResponseParamsPreview();
         }
     }
 
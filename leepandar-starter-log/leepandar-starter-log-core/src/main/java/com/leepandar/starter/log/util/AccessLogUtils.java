@@ -170,7 +170,7 @@ public class AccessLogUtils {
      * @return {@link Object }
      */
     private static Object getAccessLogReqParam() {
-        String body = ServletUtils.getRequestBody();
+        String body = ServletUtils.getRequestBodyPreview();
         if (CharSequenceUtil.isNotBlank(body) && JSONUtil.isTypeJSON(body)) {
             try {
                 if (JSONUtil.isTypeJSONArray(body)) {
@@ -182,6 +182,6 @@ public class AccessLogUtils {
                 return null;
             }
         }
-        return Collections.unmodifiableMap(ServletUtils.getRequestParams());
+        return Collections.unmodifiableMap(ServletUtils.getRequestParamsPreview());
     }
 }
@@ -1,6 +1,8 @@
 package com.leepandar.starter.ratelimiter.annotation;
 
 import com.leepandar.starter.ratelimiter.enums.LimitType;
+import com.leepandar.starter.ratelimiter.enums.RateLimitAlgorithm;
+import com.leepandar.starter.ratelimiter.enums.RateLimitMode;
 
 import java.lang.annotation.*;
 import java.util.concurrent.TimeUnit;
@@ -18,6 +20,16 @@ public @interface RateLimiter {
      */
     LimitType type() default LimitType.DEFAULT;
 
+    /**
+     * 算法（默认：令牌桶）
+     */
+    RateLimitAlgorithm algorithm() default RateLimitAlgorithm.TOKEN_BUCKET;
+
+    /**
+     * 模式（默认：严格模式，仅令牌桶算法有效）
+     */
+    RateLimitMode mode() default RateLimitMode.STRICT;
+
     /**
      * 名称
      */
@@ -29,15 +41,20 @@ public @interface RateLimiter {
     String key() default "";
 
     /**
-     * 速率（指定时间间隔产生的令牌数）
+     * 速率（指定时间间隔产生的令牌数；并发数算法为最大并发数）
      */
     int rate() default Integer.MAX_VALUE;
 
     /**
-     * 速率间隔（时间间隔）
+     * 速率间隔（时间间隔，滑动窗口及漏桶算法必须大于 0；并发数算法为租约时长，未指定时为 60 秒）
      */
     int interval() default 0;
 
+    /**
+     * 漏桶容量（仅漏桶算法有效，默认等于速率）
+     */
+    int capacity() default 0;
+
     /**
      * 速率间隔时间单位（默认：毫秒）
      */
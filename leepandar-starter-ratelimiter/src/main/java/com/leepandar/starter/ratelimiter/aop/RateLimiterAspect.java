@@ -2,19 +2,30 @@ package com.leepandar.starter.ratelimiter.aop;
 
 import cn.hutool.core.convert.Convert;
 import cn.hutool.core.text.CharSequenceUtil;
+import cn.hutool.core.thread.ThreadUtil;
+import cn.hutool.core.util.IdUtil;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
 import org.aspectj.lang.reflect.MethodSignature;
-import org.redisson.api.*;
+import org.redisson.api.RateType;
+import org.redisson.api.RedissonClient;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import com.leepandar.starter.cache.redisson.util.RedisUtils;
 import com.leepandar.starter.core.constant.StringConstants;
 import com.leepandar.starter.core.util.expression.ExpressionUtils;
 import com.leepandar.starter.ratelimiter.annotation.RateLimiter;
 import com.leepandar.starter.ratelimiter.annotation.RateLimiters;
 import com.leepandar.starter.ratelimiter.autoconfigure.RateLimiterProperties;
+import com.leepandar.starter.ratelimiter.core.HybridTokenBucket;
+import com.leepandar.starter.ratelimiter.core.RateLimiterHolder;
+import com.leepandar.starter.ratelimiter.core.RateLimiterRegistry;
+import com.leepandar.starter.ratelimiter.core.ScriptRateLimiter;
+import com.leepandar.starter.ratelimiter.enums.RateLimitAlgorithm;
+import com.leepandar.starter.ratelimiter.enums.RateLimitMode;
 import com.leepandar.starter.ratelimiter.generator.RateLimiterNameGenerator;
 import com.leepandar.starter.ratelimiter.enums.LimitType;
 import com.leepandar.starter.ratelimiter.exception.RateLimiterException;
@@ -22,8 +33,12 @@ import com.leepandar.starter.core.util.ServletUtils;
 
 import java.lang.reflect.Method;
 import java.time.Duration;
-import java.util.Objects;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 限流器切面
@@ -31,17 +46,28 @@ import java.util.concurrent.ConcurrentHashMap;
 @Aspect
 public class RateLimiterAspect {
 
-    private static final ConcurrentHashMap<String, RRateLimiter> RATE_LIMITER_CACHE = new ConcurrentHashMap<>();
+    private static final Logger log = LoggerFactory.getLogger(RateLimiterAspect.class);
     private final RateLimiterProperties properties;
     private final RateLimiterNameGenerator nameGenerator;
     private final RedissonClient redissonClient;
+    private final RateLimiterRegistry registry;
+    private final ScriptRateLimiter scriptRateLimiter;
+    private final ThreadPoolExecutor refillExecutor;
 
     public RateLimiterAspect(RateLimiterProperties properties,
                              RateLimiterNameGenerator nameGenerator,
-                             RedissonClient redissonClient) {
+                             RedissonClient redissonClient,
+                             RateLimiterRegistry registry) {
         this.properties = properties;
         this.nameGenerator = nameGenerator;
         this.redissonClient = redissonClient;
+        this.registry = registry;
+        this.scriptRateLimiter = new ScriptRateLimiter(redissonClient);
+        RateLimiterProperties.Hybrid hybrid = properties.getHybrid();
+        int threads = Math.max(1, hybrid.getRefillThreads());
+        this.refillExecutor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(Math
+            .max(1, hybrid.getRefillQueueCapacity())), ThreadUtil.newNamedThreadFactory("rate-limiter-refill-", true));
+        this.refillExecutor.allowCoreThreadTimeOut(true);
     }
 
     /**
@@ -68,10 +94,7 @@ public class RateLimiterAspect {
      */
     @Around("@annotation(rateLimiter)")
     public Object aroundRateLimiter(ProceedingJoinPoint joinPoint, RateLimiter rateLimiter) throws Throwable {
-        if (isRateLimited(joinPoint, rateLimiter)) {
-            throw new RateLimiterException(rateLimiter.message());
-        }
-        return joinPoint.proceed();
+        return this.proceed(joinPoint, new RateLimiter[] {rateLimiter});
     }
 
     /**
@@ -84,12 +107,60 @@ public class RateLimiterAspect {
      */
     @Around("@annotation(rateLimiters)")
     public Object aroundRateLimiters(ProceedingJoinPoint joinPoint, RateLimiters rateLimiters) throws Throwable {
-        for (RateLimiter rateLimiter : rateLimiters.value()) {
-            if (isRateLimited(joinPoint, rateLimiter)) {
-                throw new RateLimiterException(rateLimiter.message());
+        return this.proceed(joinPoint, rateLimiters.value());
+    }
+
+    /**
+     * 限流后执行目标方法
+     * <p>
+     * 令牌桶算法逐个判断；其他算法合并为一次脚本调用判断，并发数许可在方法执行结束后释放
+     * </p>
+     *
+     * @param joinPoint    切点
+     * @param rateLimiters 限流注解
+     * @return 目标方法的执行结果
+     * @throws Throwable /
+     */
+    private Object proceed(ProceedingJoinPoint joinPoint, RateLimiter[] rateLimiters) throws Throwable {
+        List<ScriptRateLimiter.Rule> rules = Collections.emptyList();
+        List<RateLimiter> ruleLimiters = Collections.emptyList();
+        for (RateLimiter rateLimiter : rateLimiters) {
+            if (rateLimiter.algorithm() == RateLimitAlgorithm.TOKEN_BUCKET) {
+                if (this.isRateLimited(joinPoint, rateLimiter)) {
+                    throw new RateLimiterException(rateLimiter.message());
+                }
+                continue;
+            }
+            if (rules.isEmpty()) {
+                rules = new ArrayList<>(rateLimiters.length);
+                ruleLimiters = new ArrayList<>(rateLimiters.length);
+            }
+            rules.add(this.getRule(joinPoint, rateLimiter));
+            ruleLimiters.add(rateLimiter);
+        }
+        if (rules.isEmpty()) {
+            return joinPoint.proceed();
+        }
+        String permitId = IdUtil.fastSimpleUUID();
+        int rejected;
+        try {
+            rejected = scriptRateLimiter.tryAcquire(rules, permitId);
+        } catch (Exception e) {
+            throw new RateLimiterException("服务器限流异常，请稍候再试", e);
+        }
+        if (rejected >= 0) {
+            throw new RateLimiterException(ruleLimiters.get(rejected).message());
+        }
+        try {
+            return joinPoint.proceed();
+        } finally {
+            try {
+                scriptRateLimiter.release(rules, permitId);
+            } catch (Exception e) {
+                // 释放失败时许可在租约到期后自动释放
+                log.warn("Release rate limiter permit failed: {}", permitId, e);
             }
         }
-        return joinPoint.proceed();
     }
 
     /**
@@ -102,24 +173,51 @@ public class RateLimiterAspect {
     private boolean isRateLimited(ProceedingJoinPoint joinPoint, RateLimiter rateLimiter) {
         try {
             String cacheKey = this.getCacheKey(joinPoint, rateLimiter);
-            RRateLimiter rRateLimiter = RATE_LIMITER_CACHE.computeIfAbsent(cacheKey, key -> redissonClient
-                .getRateLimiter(cacheKey));
             // 限流器配置
             RateType rateType = rateLimiter.type() == LimitType.CLUSTER ? RateType.PER_CLIENT : RateType.OVERALL;
             int rate = rateLimiter.rate();
             Duration rateInterval = Duration.ofMillis(rateLimiter.unit().toMillis(rateLimiter.interval()));
-            // 判断是否需要更新限流器
-            if (this.isConfigurationUpdateNeeded(rRateLimiter, rateType, rate, rateInterval)) {
-                // 更新限流器
-                rRateLimiter.setRate(rateType, rate, rateInterval);
+            // 获取限流器（配置变更时重新设置速率）
+            RateLimiterHolder holder = registry.get(cacheKey, rateType, rate, rateInterval);
+            // 混合模式：本地令牌桶消费预取的令牌
+            if (rateLimiter.mode() == RateLimitMode.HYBRID) {
+                return !holder.getTokenBucket(this::createTokenBucket).tryAcquire();
             }
             // 尝试获取令牌
-            return !rRateLimiter.tryAcquire();
+            return !holder.tryAcquire(1);
         } catch (Exception e) {
             throw new RateLimiterException("服务器限流异常，请稍候再试", e);
         }
     }
 
+    /**
+     * 获取脚本限流规则
+     *
+     * @param joinPoint   切点
+     * @param rateLimiter 限流注解
+     * @return 限流规则
+     */
+    private ScriptRateLimiter.Rule getRule(ProceedingJoinPoint joinPoint, RateLimiter rateLimiter) {
+        RateLimitAlgorithm algorithm = rateLimiter.algorithm();
+        String key = RedisUtils.formatKey(this.getCacheKey(joinPoint, rateLimiter), algorithm.name().toLowerCase());
+        return new ScriptRateLimiter.Rule(key, algorithm, rateLimiter.rate(), rateLimiter.unit()
+            .toMillis(rateLimiter.interval()), rateLimiter.capacity());
+    }
+
+    /**
+     * 创建混合模式令牌桶
+     *
+     * @param holder 限流器持有者
+     * @return 令牌桶
+     */
+    private HybridTokenBucket createTokenBucket(RateLimiterHolder holder) {
+        RateLimiterProperties.Hybrid hybrid = properties.getHybrid();
+        long leaseSize = Math.min((long)Math.ceil(holder.getRate() * hybrid.getLeaseFraction()), hybrid
+            .getMaxLeaseSize());
+        long refillThreshold = (long)(leaseSize * hybrid.getRefillThreshold());
+        return new HybridTokenBucket(holder, leaseSize, refillThreshold, refillExecutor);
+    }
+
     /**
      * 获取缓存 Key
      *
@@ -154,22 +252,4 @@ public class RateLimiterAspect {
         };
         return RedisUtils.formatKey(properties.getKeyPrefix(), name, key, suffix);
     }
-
-    /**
-     * 判断是否需要更新限流器配置
-     *
-     * @param rRateLimiter 限流器
-     * @param rateType     限流类型（OVERALL：全局限流；PER_CLIENT：单机限流）
-     * @param rate         速率（指定时间间隔产生的令牌数）
-     * @param rateInterval 速率间隔
-     * @return 是否需要更新配置
-     */
-    private boolean isConfigurationUpdateNeeded(RRateLimiter rRateLimiter,
-                                                RateType rateType,
-                                                long rate,
-                                                Duration rateInterval) {
-        RateLimiterConfig config = rRateLimiter.getConfig();
-        return !Objects.equals(config.getRateType(), rateType) || !Objects.equals(config.getRate(), rate) || !Objects
-            .equals(config.getRateInterval(), rateInterval.toMillis());
-    }
 }
@@ -12,6 +12,7 @@ import org.springframework.context.annotation.Bean;
 import com.leepandar.starter.cache.redisson.autoconfigure.RedissonAutoConfiguration;
 import com.leepandar.starter.core.constant.PropertiesConstants;
 import com.leepandar.starter.ratelimiter.aop.RateLimiterAspect;
+import com.leepandar.starter.ratelimiter.core.RateLimiterRegistry;
 import com.leepandar.starter.ratelimiter.generator.DefaultRateLimiterNameGenerator;
 import com.leepandar.starter.ratelimiter.generator.RateLimiterNameGenerator;
 
@@ -31,8 +32,19 @@ public class RateLimiterAutoConfiguration {
     @Bean
     public RateLimiterAspect rateLimiterAspect(RateLimiterProperties properties,
                                                RateLimiterNameGenerator rateLimiterNameGenerator,
-                                               RedissonClient redissonClient) {
-        return new RateLimiterAspect(properties, rateLimiterNameGenerator, redissonClient);
+                                               RedissonClient redissonClient,
+                                               RateLimiterRegistry rateLimiterRegistry) {
+        return new RateLimiterAspect(properties, rateLimiterNameGenerator, redissonClient, rateLimiterRegistry);
+    }
+
+    /**
+     * 限流器注册表
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public RateLimiterRegistry rateLimiterRegistry(RateLimiterProperties properties, RedissonClient redissonClient) {
+        RateLimiterProperties.Registry registry = properties.getRegistry();
+        return new RateLimiterRegistry(redissonClient, registry.getMaxSize(), registry.getIdleTimeout());
     }
 
     /**
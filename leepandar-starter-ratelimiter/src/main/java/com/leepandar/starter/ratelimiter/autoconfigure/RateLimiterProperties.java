@@ -3,6 +3,8 @@ package com.leepandar.starter.ratelimiter.autoconfigure;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import com.leepandar.starter.core.constant.PropertiesConstants;
 
+import java.time.Duration;
+
 /**
  * 限流器配置属性
  */
@@ -19,6 +21,16 @@ public class RateLimiterProperties {
      */
     private String keyPrefix = "RateLimiter";
 
+    /**
+     * 本地限流器注册表配置
+     */
+    private Registry registry = new Registry();
+
+    /**
+     * 混合模式配置
+     */
+    private Hybrid hybrid = new Hybrid();
+
     public boolean isEnabled() {
         return enabled;
     }
@@ -34,4 +46,123 @@ public class RateLimiterProperties {
     public void setKeyPrefix(String keyPrefix) {
         this.keyPrefix = keyPrefix;
     }
+
+    public Registry getRegistry() {
+        return registry;
+    }
+
+    public void setRegistry(Registry registry) {
+        this.registry = registry;
+    }
+
+    public Hybrid getHybrid() {
+        return hybrid;
+    }
+
+    public void setHybrid(Hybrid hybrid) {
+        this.hybrid = hybrid;
+    }
+
+    /**
+     * 本地限流器注册表配置
+     */
+    public static class Registry {
+
+        /**
+         * 最大限流器数（超出时淘汰最久未使用的限流器）
+         */
+        private int maxSize = 10000;
+
+        /**
+         * 空闲淘汰时长
+         */
+        private Duration idleTimeout = Duration.ofMinutes(10);
+
+        public int getMaxSize() {
+            return maxSize;
+        }
+
+        public void setMaxSize(int maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        public Duration getIdleTimeout() {
+            return idleTimeout;
+        }
+
+        public void setIdleTimeout(Duration idleTimeout) {
+            this.idleTimeout = idleTimeout;
+        }
+    }
+
+    /**
+     * 混合模式配置
+     */
+    public static class Hybrid {
+
+        /**
+         * 每次预取令牌数占速率的比例（越大 Redis 访问越少，但节点间分配越不均匀）
+         */
+        private double leaseFraction = 0.1;
+
+        /**
+         * 每次预取的最大令牌数
+         */
+        private int maxLeaseSize = 1000;
+
+        /**
+         * 本地剩余令牌低于预取数的该比例时异步补充
+         */
+        private double refillThreshold = 0.2;
+
+        /**
+         * 异步补充线程数
+         */
+        private int refillThreads = 2;
+
+        /**
+         * 异步补充队列容量（队列已满时放弃本次补充）
+         */
+        private int refillQueueCapacity = 1000;
+
+        public double getLeaseFraction() {
+            return leaseFraction;
+        }
+
+        public void setLeaseFraction(double leaseFraction) {
+            this.leaseFraction = leaseFraction;
+        }
+
+        public int getMaxLeaseSize() {
+            return maxLeaseSize;
+        }
+
+        public void setMaxLeaseSize(int maxLeaseSize) {
+            this.maxLeaseSize = maxLeaseSize;
+        }
+
+        public double getRefillThreshold() {
+            return refillThreshold;
+        }
+
+        public void setRefillThreshold(double refillThreshold) {
+            this.refillThreshold = refillThreshold;
+        }
+
+        public int getRefillThreads() {
+            return refillThreads;
+        }
+
+        public void setRefillThreads(int refillThreads) {
+            this.refillThreads = refillThreads;
+        }
+
+        public int getRefillQueueCapacity() {
+            return refillQueueCapacity;
+        }
+
+        public void setRefillQueueCapacity(int refillQueueCapacity) {
+            this.refillQueueCapacity = refillQueueCapacity;
+        }
+    }
 }
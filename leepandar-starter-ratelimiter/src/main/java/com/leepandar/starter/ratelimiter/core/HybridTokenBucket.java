@@ -0,0 +1,162 @@
+package com.leepandar.starter.ratelimiter.core;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 混合模式令牌桶
+ * <p>
+ * 从 Redis 限流器批量预取令牌，在本地无锁消费；剩余令牌低于阈值时异步补充，本地令牌耗尽时同步预取。
+ * 预取的令牌仅在一个速率间隔内有效，过期后丢弃，避免节点囤积令牌突破全局速率
+ * </p>
+ */
+public class HybridTokenBucket {
+
+    private static final Logger log = LoggerFactory.getLogger(HybridTokenBucket.class);
+
+    private final RateLimiterHolder holder;
+    private final long rateIntervalMillis;
+    private final long leaseSize;
+    private final long refillThreshold;
+    private final Executor refillExecutor;
+    private final AtomicLong tokens = new AtomicLong();
+    private final AtomicBoolean refilling = new AtomicBoolean();
+    private volatile long expireAt;
+
+    /**
+     * @param holder          限流器持有者
+     * @param leaseSize       每次预取令牌数
+     * @param refillThreshold 异步补充阈值（剩余令牌数）
+     * @param refillExecutor  异步补充线程池
+     */
+    public HybridTokenBucket(RateLimiterHolder holder, long leaseSize, long refillThreshold, Executor refillExecutor) {
+        this.holder = holder;
+        this.rateIntervalMillis = holder.getRateIntervalMillis();
+        this.leaseSize = Math.max(1, Math.min(leaseSize, holder.getRate()));
+        this.refillThreshold = Math.max(0, Math.min(refillThreshold, this.leaseSize - 1));
+        this.refillExecutor = refillExecutor;
+    }
+
+    /**
+     * 尝试获取令牌
+     *
+     * @return 是否获取成功
+     */
+    public boolean tryAcquire() {
+        this.discardIfExpired();
+        long remaining = this.tryConsume();
+        if (remaining >= 0) {
+            if (remaining <= refillThreshold) {
+                this.refillAsync();
+            }
+            return true;
+        }
+        return this.leaseAndAcquire();
+    }
+
+    /**
+     * 本地剩余令牌数
+     */
+    public long getAvailableTokens() {
+        return tokens.get();
+    }
+
+    /**
+     * 本地消费令牌
+     *
+     * @return 消费后剩余令牌数，-1 表示无可用令牌
+     */
+    private long tryConsume() {
+        while (true) {
+            long current = tokens.get();
+            if (current <= 0) {
+                return -1;
+            }
+            if (tokens.compareAndSet(current, current - 1)) {
+                return current - 1;
+            }
+        }
+    }
+
+    /**
+     * 丢弃已过期的预取令牌
+     */
+    private void discardIfExpired() {
+        if (System.currentTimeMillis() < expireAt) {
+            return;
+        }
+        long current = tokens.get();
+        if (current > 0) {
+            tokens.compareAndSet(current, 0);
+        }
+    }
+
+    /**
+     * 同步预取令牌并消费一个
+     */
+    private synchronized boolean leaseAndAcquire() {
+        // 其他线程可能已完成预取
+        if (this.tryConsume() >= 0) {
+            return true;
+        }
+        long leased = this.lease();
+        if (leased <= 0) {
+            return false;
+        }
+        this.deposit(leased - 1);
+        return true;
+    }
+
+    /**
+     * 异步补充令牌
+     */
+    private void refillAsync() {
+        if (!refilling.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            refillExecutor.execute(() -> {
+                try {
+                    long leased = this.lease();
+                    if (leased > 0) {
+                        this.deposit(leased);
+                    }
+                } catch (Exception e) {
+                    log.warn("Refill rate limiter tokens failed: {}", holder.getName(), e);
+                } finally {
+                    refilling.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refilling.set(false);
+        }
+    }
+
+    private void deposit(long count) {
+        expireAt = System.currentTimeMillis() + rateIntervalMillis;
+        if (count > 0) {
+            tokens.addAndGet(count);
+        }
+    }
+
+    /**
+     * 从 Redis 预取令牌（不足一批时取剩余可用令牌）
+     *
+     * @return 预取到的令牌数
+     */
+    private long lease() {
+        if (holder.tryAcquire(leaseSize)) {
+            return leaseSize;
+        }
+        if (leaseSize == 1) {
+            return 0;
+        }
+        long available = Math.min(holder.availablePermits(), leaseSize);
+        return available > 0 && holder.tryAcquire(available) ? available : 0;
+    }
+}
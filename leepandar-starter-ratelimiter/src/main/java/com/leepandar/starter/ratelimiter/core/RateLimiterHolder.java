@@ -0,0 +1,124 @@
+package com.leepandar.starter.ratelimiter.core;
+
+import org.redisson.api.RRateLimiter;
+import org.redisson.api.RateLimiterConfig;
+import org.redisson.api.RateType;
+import org.redisson.client.RedisException;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * 限流器持有者
+ * <p>
+ * 缓存已应用到 Redis 的限流配置，仅在首次使用或 Redis 限流器丢失时设置速率，避免每次调用读取配置
+ * </p>
+ */
+public class RateLimiterHolder {
+
+    private final RRateLimiter rateLimiter;
+    private final RateType rateType;
+    private final long rate;
+    private final long rateIntervalMillis;
+    private volatile boolean configured;
+    private volatile HybridTokenBucket tokenBucket;
+
+    public RateLimiterHolder(RRateLimiter rateLimiter, RateType rateType, long rate, Duration rateInterval) {
+        this.rateLimiter = rateLimiter;
+        this.rateType = rateType;
+        this.rate = rate;
+        this.rateIntervalMillis = rateInterval.toMillis();
+    }
+
+    /**
+     * 尝试获取令牌
+     *
+     * @param permits 令牌数
+     * @return 是否获取成功
+     */
+    public boolean tryAcquire(long permits) {
+        this.configure();
+        try {
+            return rateLimiter.tryAcquire(permits);
+        } catch (RedisException e) {
+            // Redis 限流器已被删除，重新设置速率后重试
+            if (!String.valueOf(e.getMessage()).contains("not initialized")) {
+                throw e;
+            }
+            configured = false;
+            this.configure();
+            return rateLimiter.tryAcquire(permits);
+        }
+    }
+
+    /**
+     * 获取 Redis 中可用令牌数
+     */
+    public long availablePermits() {
+        this.configure();
+        return rateLimiter.availablePermits();
+    }
+
+    /**
+     * 获取混合模式令牌桶（不存在时创建）
+     *
+     * @param factory 令牌桶创建函数
+     * @return 令牌桶
+     */
+    public HybridTokenBucket getTokenBucket(Function<RateLimiterHolder, HybridTokenBucket> factory) {
+        HybridTokenBucket bucket = tokenBucket;
+        if (bucket == null) {
+            synchronized (this) {
+                bucket = tokenBucket;
+                if (bucket == null) {
+                    bucket = factory.apply(this);
+                    tokenBucket = bucket;
+                }
+            }
+        }
+        return bucket;
+    }
+
+    /**
+     * 是否与指定配置一致
+     */
+    public boolean matches(RateType rateType, long rate, Duration rateInterval) {
+        return this.rateType == rateType && this.rate == rate && this.rateIntervalMillis == rateInterval.toMillis();
+    }
+
+    public String getName() {
+        return rateLimiter.getName();
+    }
+
+    public long getRate() {
+        return rate;
+    }
+
+    public long getRateIntervalMillis() {
+        return rateIntervalMillis;
+    }
+
+    /**
+     * 设置 Redis 限流器速率（已设置时跳过）
+     */
+    private void configure() {
+        if (configured) {
+            return;
+        }
+        synchronized (this) {
+            if (configured) {
+                return;
+            }
+            Duration rateInterval = Duration.ofMillis(rateIntervalMillis);
+            if (!rateLimiter.trySetRate(rateType, rate, rateInterval)) {
+                RateLimiterConfig config = rateLimiter.getConfig();
+                if (!Objects.equals(config.getRateType(), rateType) || !Objects.equals(config.getRate(), rate) || !Objects
+                    .equals(config.getRateInterval(), rateIntervalMillis)) {
+                    rateLimiter.setRate(rateType, rate, rateInterval);
+                }
+            }
+            configured = true;
+        }
+    }
+}
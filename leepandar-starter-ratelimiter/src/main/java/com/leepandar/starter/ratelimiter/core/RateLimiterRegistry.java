@@ -0,0 +1,97 @@
+package com.leepandar.starter.ratelimiter.core;
+
+import com.leepandar.starter.core.util.LruCache;
+import org.redisson.api.RateType;
+import org.redisson.api.RedissonClient;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 限流器注册表
+ * <p>
+ * 按容量及空闲时间淘汰限流器，避免按 IP、用户等维度限流时本地缓存无限增长。
+ * 空闲限流器除访问时惰性清除外，每隔空闲淘汰时长在获取限流器或读取限流器数时统一清除
+ * </p>
+ */
+public class RateLimiterRegistry {
+
+    private final RedissonClient redissonClient;
+    private final LruCache<String, RateLimiterHolder> limiters;
+    private final long cleanUpIntervalMillis;
+    private final AtomicLong nextCleanUpAt = new AtomicLong();
+
+    /**
+     * @param redissonClient Redisson 客户端
+     * @param maxSize        最大限流器数
+     * @param idleTimeout    空闲淘汰时长（为空或小于等于 0 表示不按空闲时间淘汰）
+     */
+    public RateLimiterRegistry(RedissonClient redissonClient, int maxSize, Duration idleTimeout) {
+        this.redissonClient = redissonClient;
+        long idleTimeoutMillis = idleTimeout != null ? idleTimeout.toMillis() : 0;
+        this.limiters = new LruCache<>(maxSize, idleTimeoutMillis, true);
+        this.cleanUpIntervalMillis = Math.max(0, idleTimeoutMillis);
+        this.nextCleanUpAt.set(System.currentTimeMillis() + cleanUpIntervalMillis);
+    }
+
+    /**
+     * 获取限流器（不存在或配置变更时创建）
+     *
+     * @param key          缓存 Key
+     * @param rateType     限流类型
+     * @param rate         速率
+     * @param rateInterval 速率间隔
+     * @return 限流器持有者
+     */
+    public RateLimiterHolder get(String key, RateType rateType, long rate, Duration rateInterval) {
+        this.cleanUpIfNecessary();
+        return limiters.compute(key, (k, holder) -> holder != null && holder.matches(rateType, rate, rateInterval)
+            ? holder
+            : new RateLimiterHolder(redissonClient.getRateLimiter(k), rateType, rate, rateInterval));
+    }
+
+    /**
+     * 获取当前限流器数（不包含已空闲过期的限流器）
+     */
+    public int getSize() {
+        if (cleanUpIntervalMillis > 0) {
+            limiters.cleanUp();
+        }
+        return limiters.size();
+    }
+
+    /**
+     * 获取容量淘汰次数
+     */
+    public long getEvictionCount() {
+        return limiters.getEvictionCount();
+    }
+
+    /**
+     * 获取空闲淘汰次数
+     */
+    public long getExpiredCount() {
+        return limiters.getExpiredCount();
+    }
+
+    /**
+     * 获取命中率
+     */
+    public double getHitRate() {
+        return limiters.getHitRate();
+    }
+
+    /**
+     * 到达清除时间时清除空闲过期的限流器（同一时刻只有一个线程执行）
+     */
+    private void cleanUpIfNecessary() {
+        if (cleanUpIntervalMillis <= 0) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long cleanUpAt = nextCleanUpAt.get();
+        if (now >= cleanUpAt && nextCleanUpAt.compareAndSet(cleanUpAt, now + cleanUpIntervalMillis)) {
+            limiters.cleanUp();
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package com.leepandar.starter.ratelimiter.core;
+
+import com.leepandar.starter.ratelimiter.enums.RateLimitAlgorithm;
+import com.leepandar.starter.ratelimiter.exception.RateLimiterException;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Lua 脚本限流器
+ * <p>
+ * 支持滑动窗口、并发数及漏桶算法。多个限流规则通过一次脚本调用原子判断：全部通过才记录，任一拒绝则均不记录。
+ * Redis 集群模式下多个 Key 可能不在同一槽位，此时逐个规则调用脚本，任一规则拒绝（或调用失败）时回滚已通过规则记录的许可
+ * </p>
+ */
+public class ScriptRateLimiter {
+
+    private static final Logger log = LoggerFactory.getLogger(ScriptRateLimiter.class);
+
+    /**
+     * 获取许可脚本
+     * <p>
+     * KEYS：限流 Key；ARGV[1]：许可 ID，其后每个 Key 依次为 算法、速率、间隔（毫秒）、容量
+     * </p>
+     * 返回 0 表示通过，否则为被拒绝的 Key 序号（从 1 开始）
+     */
+    private static final String ACQUIRE_SCRIPT = """
+        local time = redis.call('TIME')
+        local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+        local permitId = ARGV[1]
+        local levels = {}
+        for i = 1, #KEYS do
+            local base = 1 + (i - 1) * 4
+            local algorithm = ARGV[base + 1]
+            local rate = tonumber(ARGV[base + 2])
+            local interval = tonumber(ARGV[base + 3])
+            local capacity = tonumber(ARGV[base + 4])
+            if algorithm == 'LEAKY_BUCKET' then
+                local level = 0
+                local state = redis.call('HMGET', KEYS[i], 'level', 'ts')
+                if state[1] then
+                    level = math.max(0, tonumber(state[1]) - (now - tonumber(state[2])) * rate / interval)
+                end
+                if level + 1 > capacity then
+                    return i
+                end
+                levels[i] = level + 1
+            else
+                local min = now
+                if algorithm == 'SLIDING_WINDOW' then
+                    min = now - interval
+                end
+                redis.call('ZREMRANGEBYSCORE', KEYS[i], '-inf', min)
+                if redis.call('ZCARD', KEYS[i]) >= rate then
+                    return i
+                end
+            end
+        end
+        for i = 1, #KEYS do
+            local base = 1 + (i - 1) * 4
+            local algorithm = ARGV[base + 1]
+            local rate = tonumber(ARGV[base + 2])
+            local interval = tonumber(ARGV[base + 3])
+            if algorithm == 'SLIDING_WINDOW' then
+                redis.call('ZADD', KEYS[i], now, permitId)
+                redis.call('PEXPIRE', KEYS[i], interval)
+            elseif algorithm == 'CONCURRENCY' then
+                redis.call('ZADD', KEYS[i], now + interval, permitId)
+                redis.call('PEXPIRE', KEYS[i], interval)
+            else
+                redis.call('HSET', KEYS[i], 'level', tostring(levels[i]), 'ts', tostring(now))
+                redis.call('PEXPIRE', KEYS[i], math.ceil(levels[i] * interval / rate) + 1000)
+            end
+        end
+        return 0
+        """;
+
+    /**
+     * 释放许可脚本（并发数算法）
+     * <p>
+     * KEYS：限流 Key；ARGV[1]：许可 ID
+     * </p>
+     */
+    private static final String RELEASE_SCRIPT = """
+        for i = 1, #KEYS do
+            redis.call('ZREM', KEYS[i], ARGV[1])
+        end
+        return 0
+        """;
+
+    /**
+     * 回滚许可脚本（集群模式下逐个规则获取许可失败时使用）
+     * <p>
+     * KEYS：限流 Key；ARGV[1]：许可 ID；ARGV[2]：算法
+     * </p>
+     */
+    private static final String ROLLBACK_SCRIPT = """
+        if ARGV[2] == 'LEAKY_BUCKET' then
+            if redis.call('EXISTS', KEYS[1]) == 1 then
+                redis.call('HINCRBYFLOAT', KEYS[1], 'level', -1)
+            end
+        else
+            redis.call('ZREM', KEYS[1], ARGV[1])
+        end
+        return 0
+        """;
+
+    /**
+     * 并发数算法未指定租约时长时的默认租约时长（毫秒）
+     */
+    private static final long DEFAULT_LEASE_MILLIS = 60_000;
+
+    private final RScript script;
+    private final boolean cluster;
+
+    public ScriptRateLimiter(RedissonClient redissonClient) {
+        this.script = redissonClient.getScript(StringCodec.INSTANCE);
+        this.cluster = redissonClient.getConfig().isClusterConfig();
+    }
+
+    /**
+     * 尝试获取许可
+     *
+     * @param rules    限流规则
+     * @param permitId 许可 ID（释放并发数许可时使用）
+     * @return 被拒绝的规则序号（从 0 开始），-1 表示全部通过
+     */
+    public int tryAcquire(List<Rule> rules, String permitId) {
+        if (rules.isEmpty()) {
+            return -1;
+        }
+        if (!cluster || rules.size() == 1) {
+            long rejected = this.eval(rules, permitId);
+            return (int)rejected - 1;
+        }
+        int acquired = 0;
+        try {
+            for (; acquired < rules.size(); acquired++) {
+                if (this.eval(Collections.singletonList(rules.get(acquired)), permitId) != 0) {
+                    this.rollback(rules.subList(0, acquired), permitId);
+                    return acquired;
+                }
+            }
+        } catch (RuntimeException e) {
+            this.rollback(rules.subList(0, acquired), permitId);
+            throw e;
+        }
+        return -1;
+    }
+
+    /**
+     * 释放许可（仅并发数算法需要释放）
+     *
+     * @param rules    限流规则
+     * @param permitId 许可 ID
+     */
+    public void release(List<Rule> rules, String permitId) {
+        List<Object> keys = new ArrayList<>(rules.size());
+        for (Rule rule : rules) {
+            if (rule.getAlgorithm() == RateLimitAlgorithm.CONCURRENCY) {
+                keys.add(rule.getKey());
+            }
+        }
+        if (keys.isEmpty()) {
+            return;
+        }
+        if (!cluster || keys.size() == 1) {
+            script.eval(RScript.Mode.READ_WRITE, RELEASE_SCRIPT, RScript.ReturnType.INTEGER, keys, permitId);
+            return;
+        }
+        for (Object key : keys) {
+            script.eval(RScript.Mode.READ_WRITE, RELEASE_SCRIPT, RScript.ReturnType.INTEGER, Collections
+                .singletonList(key), permitId);
+        }
+    }
+
+    /**
+     * 回滚已通过规则记录的许可（回滚失败时许可在租约或窗口到期后自动释放）
+     *
+     * @param rules    已通过的限流规则
+     * @param permitId 许可 ID
+     */
+    private void rollback(List<Rule> rules, String permitId) {
+        for (Rule rule : rules) {
+            try {
+                script.eval(RScript.Mode.READ_WRITE, ROLLBACK_SCRIPT, RScript.ReturnType.INTEGER, Collections
+                    .singletonList(rule.getKey()), permitId, rule.getAlgorithm().name());
+            } catch (RuntimeException e) {
+                log.warn("Rollback rate limiter permit failed: {}, key: {}", permitId, rule.getKey(), e);
+            }
+        }
+    }
+
+    private long eval(List<Rule> rules, String permitId) {
+        List<Object> keys = new ArrayList<>(rules.size());
+        Object[] args = new Object[1 + rules.size() * 4];
+        args[0] = permitId;
+        int index = 1;
+        for (Rule rule : rules) {
+            keys.add(rule.getKey());
+            args[index++] = rule.getAlgorithm().name();
+            args[index++] = String.valueOf(rule.getRate());
+            args[index++] = String.valueOf(rule.getIntervalMillis());
+            args[index++] = String.valueOf(rule.getCapacity());
+        }
+        Long result = script.eval(RScript.Mode.READ_WRITE, ACQUIRE_SCRIPT, RScript.ReturnType.INTEGER, keys, args);
+        return result != null ? result : 0;
+    }
+
+    /**
+     * 限流规则
+     */
+    public static class Rule {
+
+        private final String key;
+        private final RateLimitAlgorithm algorithm;
+        private final long rate;
+        private final long intervalMillis;
+        private final long capacity;
+
+        /**
+         * @param key            限流 Key
+         * @param algorithm      算法
+         * @param rate           速率（并发数算法为最大并发数）
+         * @param intervalMillis 间隔（并发数算法为租约时长，小于等于 0 时为 60 秒；其他算法必须大于 0）
+         * @param capacity       漏桶容量（小于等于 0 时等于速率）
+         */
+        public Rule(String key, RateLimitAlgorithm algorithm, long rate, long intervalMillis, long capacity) {
+            if (intervalMillis <= 0 && algorithm != RateLimitAlgorithm.CONCURRENCY) {
+                throw new RateLimiterException("限流间隔必须大于 0：" + key);
+            }
+            this.key = key;
+            this.algorithm = algorithm;
+            this.rate = rate;
+            this.intervalMillis = intervalMillis > 0 ? intervalMillis : DEFAULT_LEASE_MILLIS;
+            this.capacity = capacity > 0 ? capacity : rate;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public RateLimitAlgorithm getAlgorithm() {
+            return algorithm;
+        }
+
+        public long getRate() {
+            return rate;
+        }
+
+        public long getIntervalMillis() {
+            return intervalMillis;
+        }
+
+        public long getCapacity() {
+            return capacity;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.leepandar.starter.ratelimiter.enums;
+
+/**
+ * 限流算法
+ */
+public enum RateLimitAlgorithm {
+
+    /**
+     * 令牌桶（Redisson RRateLimiter）
+     */
+    TOKEN_BUCKET,
+
+    /**
+     * 滑动窗口（任意时间窗口内请求数不超过速率，无窗口边界突发）
+     */
+    SLIDING_WINDOW,
+
+    /**
+     * 并发数（同时执行的请求数不超过速率，方法执行结束后释放，超过租约时长自动释放）
+     */
+    CONCURRENCY,
+
+    /**
+     * 漏桶（按速率匀速漏出，桶满后拒绝）
+     */
+    LEAKY_BUCKET
+}
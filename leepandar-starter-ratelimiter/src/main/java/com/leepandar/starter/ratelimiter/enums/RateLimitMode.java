@@ -0,0 +1,17 @@
+package com.leepandar.starter.ratelimiter.enums;
+
+/**
+ * 限流模式
+ */
+public enum RateLimitMode {
+
+    /**
+     * 严格模式（每次请求均访问 Redis 获取令牌）
+     */
+    STRICT,
+
+    /**
+     * 混合模式（各节点从 Redis 批量预取令牌，在本地令牌桶中消费，精度略低但延迟更小）
+     */
+    HYBRID
+}
@@ -63,7 +63,7 @@ public class StorageAutoConfiguration {
      */
     @Bean
     public StorageDecoratorManager storageDecoratorManager() {
-        return new StorageDecoratorManager(applicationContext);
+        return new StorageDecoratorManager(applicationContext, properties.getMetadataCache());
     }
 
     /**
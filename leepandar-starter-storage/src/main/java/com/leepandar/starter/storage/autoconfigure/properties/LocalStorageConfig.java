@@ -1,5 +1,7 @@
 package com.leepandar.starter.storage.autoconfigure.properties;
 
+import com.leepandar.starter.storage.common.enums.MultipartMergeMode;
+
 /**
  * 本地存储配置
  */
@@ -25,6 +27,16 @@ public class LocalStorageConfig {
      */
     private String endpoint;
 
+    /**
+     * 分片合并模式（MANIFEST 模式合并的文件不能通过访问路径直接访问）
+     */
+    private MultipartMergeMode multipartMergeMode = MultipartMergeMode.COPY;
+
+    /**
+     * 分片合并并发数
+     */
+    private int multipartMergeConcurrency = Math.max(2, Runtime.getRuntime().availableProcessors());
+
     public boolean isEnabled() {
         return enabled;
     }
@@ -56,4 +68,20 @@ public class LocalStorageConfig {
     public void setEndpoint(String endpoint) {
         this.endpoint = endpoint;
     }
+
+    public MultipartMergeMode getMultipartMergeMode() {
+        return multipartMergeMode;
+    }
+
+    public void setMultipartMergeMode(MultipartMergeMode multipartMergeMode) {
+        this.multipartMergeMode = multipartMergeMode;
+    }
+
+    public int getMultipartMergeConcurrency() {
+        return multipartMergeConcurrency;
+    }
+
+    public void setMultipartMergeConcurrency(int multipartMergeConcurrency) {
+        this.multipartMergeConcurrency = multipartMergeConcurrency;
+    }
 }
@@ -0,0 +1,86 @@
+package com.leepandar.starter.storage.autoconfigure.properties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 文件元数据缓存配置
+ * 缓存 getFileInfo / exists 结果，减少 HEAD 请求
+ */
+public class MetadataCacheConfig {
+
+    /**
+     * 是否启用
+     */
+    private boolean enabled = false;
+
+    /**
+     * 启用缓存的存储平台（为空则对所有平台启用）
+     */
+    private List<String> platforms = new ArrayList<>();
+
+    /**
+     * 每个平台最大缓存条目数
+     */
+    private int maxSize = 10000;
+
+    /**
+     * 缓存有效期（秒）
+     */
+    private long ttlSeconds = 60;
+
+    /**
+     * 文件不存在结果的缓存有效期（秒），0 表示不缓存
+     */
+    private long negativeTtlSeconds = 10;
+
+    /**
+     * 指定平台是否启用缓存
+     *
+     * @param platform 存储平台
+     * @return 是否启用
+     */
+    public boolean isEnabled(String platform) {
+        return enabled && (platforms == null || platforms.isEmpty() || platforms.contains(platform));
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public List<String> getPlatforms() {
+        return platforms;
+    }
+
+    public void setPlatforms(List<String> platforms) {
+        this.platforms = platforms;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    public long getTtlSeconds() {
+        return ttlSeconds;
+    }
+
+    public void setTtlSeconds(long ttlSeconds) {
+        this.ttlSeconds = ttlSeconds;
+    }
+
+    public long getNegativeTtlSeconds() {
+        return negativeTtlSeconds;
+    }
+
+    public void setNegativeTtlSeconds(long negativeTtlSeconds) {
+        this.negativeTtlSeconds = negativeTtlSeconds;
+    }
+}
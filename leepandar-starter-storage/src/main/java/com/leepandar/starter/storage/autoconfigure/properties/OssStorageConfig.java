@@ -62,6 +62,46 @@ public class OssStorageConfig {
      */
     private long multipartUploadPartSize = StorageConstant.DEFAULT_FILE_SIZE;
 
+    /**
+     * 分片并发上传数
+     */
+    private int multipartUploadConcurrency = StorageConstant.DEFAULT_MULTIPART_UPLOAD_CONCURRENCY;
+
+    /**
+     * 分片缓冲区最大占用内存（字节）
+     */
+    private long multipartUploadMaxMemory = StorageConstant.DEFAULT_MULTIPART_UPLOAD_MAX_MEMORY;
+
+    /**
+     * 单个分片最大重试次数
+     */
+    private int multipartUploadMaxRetries = StorageConstant.DEFAULT_MULTIPART_UPLOAD_MAX_RETRIES;
+
+    /**
+     * 批量下载并发预取数
+     */
+    private int batchDownloadConcurrency = StorageConstant.DEFAULT_BATCH_DOWNLOAD_CONCURRENCY;
+
+    /**
+     * 批量下载单个文件预读字节数
+     */
+    private int batchDownloadPrefetchSize = StorageConstant.DEFAULT_BATCH_DOWNLOAD_PREFETCH_SIZE;
+
+    /**
+     * 是否启用预签名URL缓存
+     */
+    private boolean presignCacheEnabled = true;
+
+    /**
+     * 预签名URL缓存最大条目数
+     */
+    private int presignCacheMaxSize = StorageConstant.DEFAULT_PRESIGN_CACHE_MAX_SIZE;
+
+    /**
+     * 预签名URL复用阈值（0~1），剩余有效期占比高于该值时复用已签名的URL
+     */
+    private double presignCacheReuseFraction = StorageConstant.DEFAULT_PRESIGN_CACHE_REUSE_FRACTION;
+
     /**
      * 请求超时时间（秒）
      */
@@ -165,6 +205,70 @@ public class OssStorageConfig {
         this.multipartUploadPartSize = multipartUploadPartSize;
     }
 
+    public int getMultipartUploadConcurrency() {
+        return multipartUploadConcurrency;
+    }
+
+    public void setMultipartUploadConcurrency(int multipartUploadConcurrency) {
+        this.multipartUploadConcurrency = multipartUploadConcurrency;
+    }
+
+    public long getMultipartUploadMaxMemory() {
+        return multipartUploadMaxMemory;
+    }
+
+    public void setMultipartUploadMaxMemory(long multipartUploadMaxMemory) {
+        this.multipartUploadMaxMemory = multipartUploadMaxMemory;
+    }
+
+    public int getMultipartUploadMaxRetries() {
+        return multipartUploadMaxRetries;
+    }
+
+    public void setMultipartUploadMaxRetries(int multipartUploadMaxRetries) {
+        this.multipartUploadMaxRetries = multipartUploadMaxRetries;
+    }
+
+    public int getBatchDownloadConcurrency() {
+        return batchDownloadConcurrency;
+    }
+
+    public void setBatchDownloadConcurrency(int batchDownloadConcurrency) {
+        this.batchDownloadConcurrency = batchDownloadConcurrency;
+    }
+
+    public int getBatchDownloadPrefetchSize() {
+        return batchDownloadPrefetchSize;
+    }
+
+    public void setBatchDownloadPrefetchSize(int batchDownloadPrefetchSize) {
+        this.batchDownloadPrefetchSize = batchDownloadPrefetchSize;
+    }
+
+    public boolean isPresignCacheEnabled() {
+        return presignCacheEnabled;
+    }
+
+    public void setPresignCacheEnabled(boolean presignCacheEnabled) {
+        this.presignCacheEnabled = presignCacheEnabled;
+    }
+
+    public int getPresignCacheMaxSize() {
+        return presignCacheMaxSize;
+    }
+
+    public void setPresignCacheMaxSize(int presignCacheMaxSize) {
+        this.presignCacheMaxSize = presignCacheMaxSize;
+    }
+
+    public double getPresignCacheReuseFraction() {
+        return presignCacheReuseFraction;
+    }
+
+    public void setPresignCacheReuseFraction(double presignCacheReuseFraction) {
+        this.presignCacheReuseFraction = presignCacheReuseFraction;
+    }
+
     public int getRequestTimeout() {
         return requestTimeout;
     }
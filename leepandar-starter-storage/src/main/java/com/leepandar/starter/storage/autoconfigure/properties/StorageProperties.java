@@ -34,6 +34,21 @@ public class StorageProperties {
      */
     private List<OssStorageConfig> oss = new ArrayList<>();
 
+    /**
+     * 上传配置
+     */
+    private UploadConfig upload = new UploadConfig();
+
+    /**
+     * 缩略图配置
+     */
+    private ThumbnailConfig thumbnail = new ThumbnailConfig();
+
+    /**
+     * 文件元数据缓存配置
+     */
+    private MetadataCacheConfig metadataCache = new MetadataCacheConfig();
+
     public String getDefaultPlatform() {
         return defaultPlatform;
     }
@@ -65,4 +80,28 @@ public class StorageProperties {
     public void setOss(List<OssStorageConfig> oss) {
         this.oss = oss;
     }
+
+    public UploadConfig getUpload() {
+        return upload;
+    }
+
+    public void setUpload(UploadConfig upload) {
+        this.upload = upload;
+    }
+
+    public ThumbnailConfig getThumbnail() {
+        return thumbnail;
+    }
+
+    public void setThumbnail(ThumbnailConfig thumbnail) {
+        this.thumbnail = thumbnail;
+    }
+
+    public MetadataCacheConfig getMetadataCache() {
+        return metadataCache;
+    }
+
+    public void setMetadataCache(MetadataCacheConfig metadataCache) {
+        this.metadataCache = metadataCache;
+    }
 }
@@ -0,0 +1,64 @@
+package com.leepandar.starter.storage.autoconfigure.properties;
+
+import com.leepandar.starter.storage.common.enums.ThumbnailRejectPolicy;
+
+/**
+ * 缩略图配置
+ */
+public class ThumbnailConfig {
+
+    /**
+     * 是否异步生成缩略图（不阻塞上传请求）
+     * <p>
+     * 异步模式下上传返回及首次保存的文件信息不包含缩略图信息，缩略图生成后通过 FileRecorder#update 更新
+     * </p>
+     */
+    private boolean async = false;
+
+    /**
+     * 缩略图线程数
+     */
+    private int threads = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+    /**
+     * 等待队列容量
+     */
+    private int queueCapacity = 200;
+
+    /**
+     * 队列已满时的拒绝策略
+     */
+    private ThumbnailRejectPolicy rejectPolicy = ThumbnailRejectPolicy.CALLER_RUNS;
+
+    public boolean isAsync() {
+        return async;
+    }
+
+    public void setAsync(boolean async) {
+        this.async = async;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public ThumbnailRejectPolicy getRejectPolicy() {
+        return rejectPolicy;
+    }
+
+    public void setRejectPolicy(ThumbnailRejectPolicy rejectPolicy) {
+        this.rejectPolicy = rejectPolicy;
+    }
+}
@@ -0,0 +1,70 @@
+package com.leepandar.starter.storage.autoconfigure.properties;
+
+import cn.hutool.core.util.StrUtil;
+import com.leepandar.starter.storage.common.constant.StorageConstant;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * 上传配置
+ */
+public class UploadConfig {
+
+    /**
+     * 是否启用流式上传（超过内存阈值的文件落盘暂存，不在堆内存中缓存整个文件）
+     */
+    private boolean streaming = true;
+
+    /**
+     * 内存阈值（字节），不超过该大小的文件直接缓存在堆内存中
+     */
+    private long memoryThreshold = StorageConstant.DEFAULT_MEMORY_THRESHOLD;
+
+    /**
+     * 暂存目录，为空则使用系统临时目录
+     */
+    private String spoolDir;
+
+    /**
+     * 获取实际生效的内存阈值
+     *
+     * @return 内存阈值，-1 表示不限制（全部缓存在堆内存中）
+     */
+    public long getEffectiveMemoryThreshold() {
+        return streaming ? memoryThreshold : -1;
+    }
+
+    /**
+     * 获取暂存目录
+     *
+     * @return {@link Path }
+     */
+    public Path getSpoolDirectory() {
+        return StrUtil.isBlank(spoolDir) ? Paths.get(System.getProperty("java.io.tmpdir")) : Paths.get(spoolDir);
+    }
+
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
+
+    public long getMemoryThreshold() {
+        return memoryThreshold;
+    }
+
+    public void setMemoryThreshold(long memoryThreshold) {
+        this.memoryThreshold = memoryThreshold;
+    }
+
+    public String getSpoolDir() {
+        return spoolDir;
+    }
+
+    public void setSpoolDir(String spoolDir) {
+        this.spoolDir = spoolDir;
+    }
+}
@@ -27,6 +27,46 @@ public class StorageConstant {
      */
     public static final Long DEFAULT_FILE_SIZE = 1024 * 1024 * 10L;
 
+    /**
+     * 默认内存阈值（超过该大小的上传文件落盘暂存）
+     */
+    public static final long DEFAULT_MEMORY_THRESHOLD = 1024 * 1024L;
+
+    /**
+     * 默认分片并发上传数
+     */
+    public static final int DEFAULT_MULTIPART_UPLOAD_CONCURRENCY = 4;
+
+    /**
+     * 默认分片缓冲区最大占用内存
+     */
+    public static final long DEFAULT_MULTIPART_UPLOAD_MAX_MEMORY = 1024 * 1024 * 64L;
+
+    /**
+     * 默认单个分片最大重试次数
+     */
+    public static final int DEFAULT_MULTIPART_UPLOAD_MAX_RETRIES = 3;
+
+    /**
+     * 默认批量下载并发预取数
+     */
+    public static final int DEFAULT_BATCH_DOWNLOAD_CONCURRENCY = 4;
+
+    /**
+     * 默认批量下载单个文件预读字节数
+     */
+    public static final int DEFAULT_BATCH_DOWNLOAD_PREFETCH_SIZE = 1024 * 1024;
+
+    /**
+     * 默认预签名URL缓存最大条目数
+     */
+    public static final int DEFAULT_PRESIGN_CACHE_MAX_SIZE = 10000;
+
+    /**
+     * 默认预签名URL复用阈值（剩余有效期占比高于该值时复用）
+     */
+    public static final double DEFAULT_PRESIGN_CACHE_REUSE_FRACTION = 0.5;
+
     /**
      * 默认的对象ACL
      */
@@ -0,0 +1,21 @@
+package com.leepandar.starter.storage.common.enums;
+
+/**
+ * 本地分片合并模式
+ */
+public enum MultipartMergeMode {
+
+    /**
+     * 复制合并：按偏移量将分片并行写入预分配的目标文件
+     */
+    COPY,
+
+    /**
+     * 清单合并：不复制数据，仅记录分片清单，下载时按顺序拼接分片
+     * <p>
+     * 合并后的文件不存在于存储桶中，静态资源映射（访问路径 / FileInfo.url）无法访问，仅适用于全部通过存储策略读取（download）的场景
+     * </p>
+     */
+    MANIFEST,
+
+}
@@ -0,0 +1,19 @@
+package com.leepandar.starter.storage.common.enums;
+
+/**
+ * 缩略图任务拒绝策略
+ * 缩略图线程池队列已满时的处理方式
+ */
+public enum ThumbnailRejectPolicy {
+
+    /**
+     * 由上传线程同步生成（反压，降低上传吞吐）
+     */
+    CALLER_RUNS,
+
+    /**
+     * 放弃生成缩略图
+     */
+    DISCARD,
+
+}
@@ -1,18 +1,23 @@
 package com.leepandar.starter.storage.core;
 
+import cn.hutool.core.thread.ThreadUtil;
 import cn.hutool.core.util.StrUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.web.multipart.MultipartFile;
 import com.leepandar.starter.core.constant.StringConstants;
 import com.leepandar.starter.storage.autoconfigure.properties.StorageProperties;
+import com.leepandar.starter.storage.autoconfigure.properties.ThumbnailConfig;
+import com.leepandar.starter.storage.autoconfigure.properties.UploadConfig;
 import com.leepandar.starter.storage.common.constant.StorageConstant;
+import com.leepandar.starter.storage.common.enums.ThumbnailRejectPolicy;
 import com.leepandar.starter.storage.common.exception.StorageException;
 import com.leepandar.starter.storage.domain.file.EnhancedMultipartFile;
 import com.leepandar.starter.storage.domain.file.FileWrapper;
 import com.leepandar.starter.storage.domain.file.ProgressAwareMultipartFile;
 import com.leepandar.starter.storage.domain.model.context.UploadContext;
 import com.leepandar.starter.storage.domain.model.req.ThumbnailInfo;
+import com.leepandar.starter.storage.domain.model.req.ThumbnailSize;
 import com.leepandar.starter.storage.domain.model.resp.*;
 import com.leepandar.starter.storage.processor.preprocess.*;
 import com.leepandar.starter.storage.processor.progress.UploadProgressListener;
@@ -23,8 +28,14 @@ import com.leepandar.starter.storage.service.FileRecorder;
 import com.leepandar.starter.storage.strategy.StorageStrategy;
 
 import java.io.InputStream;
+import java.nio.file.Path;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
@@ -44,6 +55,7 @@ public class FileStorageService {
     private final FileRecorder fileRecorder;
     private final ThreadLocal<List<FileProcessor>> tempProcessors = ThreadLocal.withInitial(ArrayList::new);
     private final ThreadLocal<UploadProgressListener> progressListener = new ThreadLocal<>();
+    private final ThreadPoolExecutor thumbnailExecutor;
 
     public FileStorageService(StorageStrategyRouter router,
                               StorageProperties storageProperties,
@@ -53,6 +65,25 @@ public class FileStorageService {
         this.storageProperties = storageProperties;
         this.processorRegistry = processorRegistry;
         this.fileRecorder = fileRecorder;
+        this.thumbnailExecutor = createThumbnailExecutor(storageProperties.getThumbnail());
+    }
+
+    /**
+     * 创建缩略图线程池（有界队列，队列已满时按拒绝策略处理）
+     */
+    private ThreadPoolExecutor createThumbnailExecutor(ThumbnailConfig thumbnailConfig) {
+        int threads = Math.max(1, thumbnailConfig.getThreads());
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new ArrayBlockingQueue<>(Math
+            .max(1, thumbnailConfig.getQueueCapacity())), ThreadUtil.newNamedThreadFactory("storage-thumbnail-", true));
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * 关闭缩略图线程池
+     */
+    public void shutdown() {
+        thumbnailExecutor.shutdown();
     }
 
     /**
@@ -136,7 +167,9 @@ public class FileStorageService {
             ? FileWrapper.of(source, filename, contentType)
             : FileWrapper.of(source);
 
-        return createPretreatment(wrapper.toMultipartFile(), null);
+        UploadConfig uploadConfig = storageProperties.getUpload();
+        return createPretreatment(wrapper.toMultipartFile(uploadConfig.getEffectiveMemoryThreshold(), uploadConfig
+            .getSpoolDirectory()), null);
     }
 
     /**
@@ -194,10 +227,14 @@ public class FileStorageService {
             // 6. 构建文件信息
             FileInfo fileInfo = buildFileInfo(platform, context);
 
-            // 7. 处理缩略图生成（缩略图阶段）
-            if (thumbnailProcessor != null && context.isGenerateThumbnail()) {
+            // 7. 处理缩略图生成（缩略图阶段，异步模式下在缩略图线程池中执行）
+            List<ThumbnailSize> thumbnailSizes = getThumbnailSizes(context);
+            boolean needThumbnail = thumbnailProcessor != null && context.isGenerateThumbnail() && !thumbnailSizes
+                .isEmpty();
+            boolean asyncThumbnail = needThumbnail && storageProperties.getThumbnail().isAsync();
+            if (needThumbnail && !asyncThumbnail) {
                 setFileReadPhase(context.getFile(), ProgressAwareMultipartFile.ReadPhase.THUMBNAIL);
-                processThumbnail(fileInfo, thumbnailProcessor, context);
+                processThumbnail(fileInfo, thumbnailProcessor, context, context.getFile(), thumbnailSizes);
             }
 
             // 8. 保存文件记录
@@ -206,7 +243,15 @@ public class FileStorageService {
             }
 
             // 9. 触发完成事件
-            triggerCompleteEvent(fileInfo, context, platform, customProcessors);
+            List<UploadCompleteProcessor> completeProcessors = collectProcessors(customProcessors, UploadCompleteProcessor.class, platform, context);
+            triggerCompleteEvent(fileInfo, context, completeProcessors);
+
+            // 10. 触发缩略图完成事件
+            if (asyncThumbnail) {
+                submitThumbnail(fileInfo, thumbnailProcessor, context, thumbnailSizes, completeProcessors);
+            } else if (needThumbnail && fileInfo.getThumbnailPath() != null) {
+                triggerThumbnailCompleteEvent(fileInfo, context, completeProcessors);
+            }
 
             return fileInfo;
 
@@ -229,12 +274,19 @@ public class FileStorageService {
         // 判断是否需要缓存
         boolean needCache = true;
 
-        // 如果有进度监听器，使用 ProgressAwareMultipartFile
+        // 流式上传：小文件缓存在堆内存中，超过阈值的文件只落盘一次，各阶段通过文件通道独立读取
+        UploadConfig uploadConfig = storageProperties.getUpload();
+        long memoryThreshold = uploadConfig.getEffectiveMemoryThreshold();
+        Path spoolDirectory = uploadConfig.getSpoolDirectory();
+
+        // 如果有进度监听器，使用 ProgressAwareMultipartFile（已是 EnhancedMultipartFile 时复用其缓存，不再重复暂存）
         if (listener != null) {
-            context.setFile(new ProgressAwareMultipartFile(file, needCache, listener));
+            context.setFile(file instanceof EnhancedMultipartFile
+                ? new ProgressAwareMultipartFile(file, false, listener)
+                : new ProgressAwareMultipartFile(file, needCache, memoryThreshold, spoolDirectory, listener));
         } else if (!(file instanceof EnhancedMultipartFile)) {
             // 否则只使用 EnhancedMultipartFile 提供缓存
-            context.setFile(EnhancedMultipartFile.wrap(file, needCache));
+            context.setFile(EnhancedMultipartFile.wrap(file, needCache, memoryThreshold, spoolDirectory));
         }
     }
 
@@ -325,10 +377,7 @@ public class FileStorageService {
      */
     private void triggerCompleteEvent(FileInfo fileInfo,
                                       UploadContext context,
-                                      String platform,
-                                      List<FileProcessor> customProcessors) {
-        List<UploadCompleteProcessor> completeProcessors = collectProcessors(customProcessors, UploadCompleteProcessor.class, platform, context);
-
+                                      List<UploadCompleteProcessor> completeProcessors) {
         for (UploadCompleteProcessor processor : completeProcessors) {
             if (processor.support(context)) {
                 processor.onComplete(fileInfo);
@@ -336,6 +385,23 @@ public class FileStorageService {
         }
     }
 
+    /**
+     * 触发缩略图生成完成事件
+     */
+    private void triggerThumbnailCompleteEvent(FileInfo fileInfo,
+                                               UploadContext context,
+                                               List<UploadCompleteProcessor> completeProcessors) {
+        for (UploadCompleteProcessor processor : completeProcessors) {
+            try {
+                if (processor.support(context)) {
+                    processor.onThumbnailComplete(fileInfo);
+                }
+            } catch (Exception e) {
+                log.warn("缩略图完成回调失败: {}", e.getMessage());
+            }
+        }
+    }
+
     /**
      * 收集指定类型的处理器
      */
@@ -344,18 +410,23 @@ public class FileStorageService {
                                                                 String platform,
                                                                 UploadContext context) {
 
-        List<T> processors = new ArrayList<>();
+        // 注册的处理器链已预先排序，是否支持由调用方判断
+        List<T> chain = processorRegistry.snapshot().getChain(processorClass, platform);
+        if (customProcessors == null || customProcessors.isEmpty()) {
+            return chain;
+        }
+
+        List<T> processors = new ArrayList<>(customProcessors.size() + chain.size());
 
         // 添加自定义处理器
-        if (customProcessors != null) {
-            customProcessors.stream()
-                .filter(processorClass::isInstance)
-                .map(processorClass::cast)
-                .forEach(processors::add);
+        for (FileProcessor processor : customProcessors) {
+            if (processorClass.isInstance(processor)) {
+                processors.add(processorClass.cast(processor));
+            }
         }
 
         // 添加注册的处理器
-        processors.addAll(processorRegistry.getProcessors(processorClass, platform, context));
+        processors.addAll(chain);
 
         return processors;
     }
@@ -370,13 +441,10 @@ public class FileStorageService {
 
         // 优先从自定义处理器中查找
         if (customProcessors != null) {
-            Optional<T> customProcessor = customProcessors.stream()
-                .filter(processorClass::isInstance)
-                .map(processorClass::cast)
-                .findFirst();
-
-            if (customProcessor.isPresent()) {
-                return customProcessor.get();
+            for (FileProcessor processor : customProcessors) {
+                if (processorClass.isInstance(processor)) {
+                    return processorClass.cast(processor);
+                }
             }
         }
 
@@ -385,19 +453,112 @@ public class FileStorageService {
     }
 
     /**
-     * 处理缩略图
+     * 获取缩略图尺寸列表
      */
-    private void processThumbnail(FileInfo fileInfo, ThumbnailProcessor processor, UploadContext context) {
+    private List<ThumbnailSize> getThumbnailSizes(UploadContext context) {
+        if (!context.getThumbnailSizes().isEmpty()) {
+            return context.getThumbnailSizes();
+        }
+        return context.getThumbnailSize() != null ? List.of(context.getThumbnailSize()) : List.of();
+    }
+
+    /**
+     * 提交异步缩略图任务
+     * <p>
+     * 上传完成后文件缓存会被清理，提交前将缓存内容转移给缩略图任务，任务结束后由任务清理
+     * </p>
+     */
+    private void submitThumbnail(FileInfo fileInfo,
+                                 ThumbnailProcessor processor,
+                                 UploadContext context,
+                                 List<ThumbnailSize> sizes,
+                                 List<UploadCompleteProcessor> completeProcessors) {
+        MultipartFile source;
         try {
             MultipartFile file = context.getFile();
+            source = file instanceof EnhancedMultipartFile enhancedFile
+                ? enhancedFile.detach()
+                : new EnhancedMultipartFile(file.getName(), file.getOriginalFilename(), file.getContentType(), file
+                    .getBytes());
+        } catch (Exception e) {
+            log.warn("缩略图处理失败: {}", e.getMessage());
+            return;
+        }
+
+        // 缩略图任务在副本上填充缩略图信息，不修改已返回给调用方的文件信息
+        FileInfo thumbnailFileInfo = copyFileInfo(fileInfo);
+        Runnable task = () -> {
+            try {
+                if (processThumbnail(thumbnailFileInfo, processor, context, source, sizes)) {
+                    if (fileRecorder != null) {
+                        fileRecorder.update(thumbnailFileInfo);
+                    }
+                    triggerThumbnailCompleteEvent(thumbnailFileInfo, context, completeProcessors);
+                }
+            } finally {
+                cleanupFileCache(source);
+            }
+        };
+        try {
+            thumbnailExecutor.execute(task);
+        } catch (RejectedExecutionException e) {
+            if (storageProperties.getThumbnail().getRejectPolicy() == ThumbnailRejectPolicy.CALLER_RUNS) {
+                task.run();
+            } else {
+                log.warn("缩略图任务队列已满，放弃生成缩略图: {}", fileInfo.getPath());
+                cleanupFileCache(source);
+            }
+        }
+    }
 
-            // 缩略图生成使用普通流
-            try (InputStream is = file.getInputStream()) {
-                ThumbnailInfo thumbnailInfo = processor.process(context, is);
+    /**
+     * 复制文件信息（元数据、缩略图映射同时复制）
+     */
+    private static FileInfo copyFileInfo(FileInfo source) {
+        FileInfo target = new FileInfo();
+        target.setPlatform(source.getPlatform());
+        target.setFileId(source.getFileId());
+        target.setBucket(source.getBucket());
+        target.setPath(source.getPath());
+        target.setOriginalFileName(source.getOriginalFileName());
+        target.setName(source.getName());
+        target.setThumbnailPath(source.getThumbnailPath());
+        target.setThumbnailSize(source.getThumbnailSize());
+        target.setThumbnails(source.getThumbnails() != null ? new LinkedHashMap<>(source.getThumbnails()) : null);
+        target.setFullPath(source.getFullPath());
+        target.setSize(source.getSize());
+        target.setContentType(source.getContentType());
+        target.setUrl(source.getUrl());
+        target.setUploadTime(source.getUploadTime());
+        target.setMetadata(source.getMetadata() != null ? new HashMap<>(source.getMetadata()) : null);
+        return target;
+    }
 
-                // 生成缩略图路径
-                String filePrefix = StrUtil.subBefore(fileInfo.getPath(), StringConstants.DOT, true);
-                String thumbnailPath = filePrefix + StorageConstant.THUMBNAIL_SUFFIX + thumbnailInfo.getFormat();
+    /**
+     * 处理缩略图（多个尺寸共用一次解码，第一个尺寸为主缩略图）
+     *
+     * @return 是否成功
+     */
+    private boolean processThumbnail(FileInfo fileInfo,
+                                     ThumbnailProcessor processor,
+                                     UploadContext context,
+                                     MultipartFile source,
+                                     List<ThumbnailSize> sizes) {
+        try {
+            List<ThumbnailInfo> thumbnailInfos = processor.process(context, source, sizes);
+
+            String filePrefix = StrUtil.subBefore(fileInfo.getPath(), StringConstants.DOT, true);
+            Map<String, String> thumbnails = new LinkedHashMap<>();
+            for (int i = 0; i < thumbnailInfos.size(); i++) {
+                ThumbnailInfo thumbnailInfo = thumbnailInfos.get(i);
+                ThumbnailSize size = sizes.get(i);
+                String sizeName = size.getWidth() + "x" + size.getHeight();
+
+                // 生成缩略图路径（主缩略图沿用原有路径，其余尺寸追加尺寸后缀）
+                String thumbnailPath = i == 0
+                    ? filePrefix + StorageConstant.THUMBNAIL_SUFFIX + thumbnailInfo.getFormat()
+                    : filePrefix + StorageConstant.THUMBNAIL_SUFFIX + sizeName + StringConstants.DOT + thumbnailInfo
+                        .getFormat();
                 String thumbnailFileName = StrUtil.subAfter(thumbnailPath, StringConstants.SLASH, true);
 
                 // 创建缩略图文件
@@ -407,11 +568,17 @@ public class FileStorageService {
                 // 上传缩略图
                 upload(context.getPlatform(), context.getBucket(), thumbnailPath, thumbnailFile);
 
-                fileInfo.setThumbnailPath(thumbnailPath);
-                fileInfo.setThumbnailSize((long)thumbnailInfo.getData().length);
+                if (i == 0) {
+                    fileInfo.setThumbnailPath(thumbnailPath);
+                    fileInfo.setThumbnailSize((long)thumbnailInfo.getData().length);
+                }
+                thumbnails.put(sizeName, thumbnailPath);
             }
+            fileInfo.setThumbnails(thumbnails);
+            return true;
         } catch (Exception e) {
             log.warn("缩略图处理失败: {}", e.getMessage());
+            return false;
         }
     }
 
@@ -428,12 +595,10 @@ public class FileStorageService {
     }
 
     /**
-     * 清理文件缓存
+     * 清理文件缓存（包括包装的 EnhancedMultipartFile）
      */
     private void cleanupFileCache(MultipartFile file) {
-        if (file instanceof ProgressAwareMultipartFile) {
-            ((ProgressAwareMultipartFile)file).clearCache();
-        } else if (file instanceof EnhancedMultipartFile) {
+        if (file instanceof EnhancedMultipartFile) {
             ((EnhancedMultipartFile)file).clearCache();
         }
     }
@@ -611,6 +776,19 @@ public class FileStorageService {
         router.route(platform).upload(bucket, path, file);
     }
 
+    /**
+     * 异步上传
+     *
+     * @param platform 平台
+     * @param bucket   存储桶
+     * @param path     路径
+     * @param file     文件
+     * @return {@link CompletableFuture }
+     */
+    public CompletableFuture<Void> uploadAsync(String platform, String bucket, String path, MultipartFile file) {
+        return router.routeAsync(platform).uploadAsync(bucket, path, file);
+    }
+
     /**
      * 下载文件
      */
@@ -625,6 +803,18 @@ public class FileStorageService {
         return download(storageProperties.getDefaultPlatform(), bucket, path);
     }
 
+    /**
+     * 异步下载
+     *
+     * @param platform 平台
+     * @param bucket   存储桶
+     * @param path     路径
+     * @return {@link CompletableFuture }<{@link InputStream }>
+     */
+    public CompletableFuture<InputStream> downloadAsync(String platform, String bucket, String path) {
+        return router.routeAsync(platform).downloadAsync(bucket, path);
+    }
+
     /**
      * 批量下载
      */
@@ -676,6 +866,13 @@ public class FileStorageService {
         return router.route(platform).list(bucket, prefix, maxKeys);
     }
 
+    /**
+     * 分页列出文件
+     */
+    public FileListResp list(String platform, String bucket, String prefix, int maxKeys, String continuationToken) {
+        return router.route(platform).list(bucket, prefix, maxKeys, continuationToken);
+    }
+
     /**
      * 复制文件
      */
@@ -697,6 +894,18 @@ public class FileStorageService {
         return router.route(platform).generatePresignedUrl(bucket, path, expireSeconds);
     }
 
+    /**
+     * 批量生成预签名URL
+     *
+     * @return 文件路径与预签名URL的映射（保持请求顺序）
+     */
+    public Map<String, String> generatePresignedUrls(String platform,
+                                                     String bucket,
+                                                     List<String> paths,
+                                                     long expireSeconds) {
+        return router.route(platform).generatePresignedUrls(bucket, paths, expireSeconds);
+    }
+
     /**
      * 动态注册存储策略
      */
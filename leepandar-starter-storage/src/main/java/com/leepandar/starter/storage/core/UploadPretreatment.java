@@ -99,8 +99,23 @@ public class UploadPretreatment {
      * @return {@link UploadPretreatment }
      */
     public UploadPretreatment thumbnail(int width, int height) {
-        context.setGenerateThumbnail(true);
-        context.setThumbnailSize(new ThumbnailSize(width, height));
+        return thumbnail(new ThumbnailSize(width, height));
+    }
+
+    /**
+     * 设置缩略图（多个尺寸共用一次解码，第一个尺寸为主缩略图）
+     *
+     * @param sizes 缩略图尺寸
+     * @return {@link UploadPretreatment }
+     */
+    public UploadPretreatment thumbnail(ThumbnailSize... sizes) {
+        for (ThumbnailSize size : sizes) {
+            if (context.getThumbnailSize() == null) {
+                context.setThumbnailSize(size);
+            }
+            context.getThumbnailSizes().add(size);
+        }
+        context.setGenerateThumbnail(sizes.length > 0 || context.isGenerateThumbnail());
         return this;
     }
 
@@ -6,7 +6,11 @@ import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 
 /**
  * 增强版 MultipartFile 实现，支持缓存和包装
@@ -14,6 +18,7 @@ import java.nio.file.Files;
  * 1. 缓存功能：避免重复读取文件内容
  * 2. 包装模式：可以包装现有的 MultipartFile
  * 3. 创建模式：可以直接从字节数组创建
+ * 4. 流式模式：超过内存阈值的文件只落盘一次，每次读取都基于文件通道打开独立视图
  */
 public class EnhancedMultipartFile implements MultipartFile {
 
@@ -25,10 +30,45 @@ public class EnhancedMultipartFile implements MultipartFile {
     private final boolean cacheEnabled;
     private final boolean isWrapped;
 
+    /**
+     * 内存阈值，-1 表示不限制（全部缓存在堆内存中）
+     */
+    private final long memoryThreshold;
+
+    /**
+     * 暂存目录
+     */
+    private final Path spoolDirectory;
+
+    /**
+     * 暂存文件
+     */
+    private volatile Path spoolFile;
+
+    /**
+     * 暂存文件大小
+     */
+    private long spoolSize;
+
     /**
      * 包装模式构造器 - 包装现有的 MultipartFile
      */
     public EnhancedMultipartFile(MultipartFile originalFile, boolean enableCache) {
+        this(originalFile, enableCache, -1, null);
+    }
+
+    /**
+     * 包装模式构造器 - 包装现有的 MultipartFile，超过内存阈值的文件落盘暂存
+     *
+     * @param originalFile    原始文件
+     * @param enableCache     是否启用缓存
+     * @param memoryThreshold 内存阈值（字节），-1 表示不限制
+     * @param spoolDirectory  暂存目录
+     */
+    public EnhancedMultipartFile(MultipartFile originalFile,
+                                 boolean enableCache,
+                                 long memoryThreshold,
+                                 Path spoolDirectory) {
         this.originalFile = originalFile;
         this.name = originalFile.getName();
         this.originalFilename = originalFile.getOriginalFilename();
@@ -36,6 +76,8 @@ public class EnhancedMultipartFile implements MultipartFile {
         this.cacheEnabled = enableCache;
         this.isWrapped = true;
         this.cachedBytes = null;
+        this.memoryThreshold = memoryThreshold;
+        this.spoolDirectory = spoolDirectory;
     }
 
     /**
@@ -49,16 +91,48 @@ public class EnhancedMultipartFile implements MultipartFile {
         this.cachedBytes = content;
         this.cacheEnabled = false;
         this.isWrapped = false;
+        this.memoryThreshold = -1;
+        this.spoolDirectory = null;
+    }
+
+    /**
+     * 创建模式构造器 - 直接从暂存文件创建（暂存文件在清理缓存时删除）
+     */
+    public EnhancedMultipartFile(String name,
+                                 String originalFilename,
+                                 String contentType,
+                                 Path spoolFile) throws IOException {
+        this.originalFile = null;
+        this.name = name;
+        this.originalFilename = originalFilename;
+        this.contentType = contentType;
+        this.cachedBytes = null;
+        this.cacheEnabled = false;
+        this.isWrapped = false;
+        this.memoryThreshold = -1;
+        this.spoolDirectory = spoolFile.getParent();
+        this.spoolFile = spoolFile;
+        this.spoolSize = Files.size(spoolFile);
     }
 
     /**
      * 便捷的静态工厂方法 - 包装已有文件并启用缓存
      */
     public static EnhancedMultipartFile wrap(MultipartFile file, boolean enableCache) {
+        return wrap(file, enableCache, -1, null);
+    }
+
+    /**
+     * 便捷的静态工厂方法 - 包装已有文件并启用缓存，超过内存阈值的文件落盘暂存
+     */
+    public static EnhancedMultipartFile wrap(MultipartFile file,
+                                             boolean enableCache,
+                                             long memoryThreshold,
+                                             Path spoolDirectory) {
         if (file instanceof EnhancedMultipartFile) {
             return (EnhancedMultipartFile)file;
         }
-        return new EnhancedMultipartFile(file, enableCache);
+        return new EnhancedMultipartFile(file, enableCache, memoryThreshold, spoolDirectory);
     }
 
     /**
@@ -95,6 +169,9 @@ public class EnhancedMultipartFile implements MultipartFile {
 
     @Override
     public boolean isEmpty() {
+        if (spoolFile != null) {
+            return spoolSize == 0;
+        }
         if (isWrapped) {
             return originalFile.isEmpty();
         }
@@ -106,6 +183,9 @@ public class EnhancedMultipartFile implements MultipartFile {
         if (cachedBytes != null) {
             return cachedBytes.length;
         }
+        if (spoolFile != null) {
+            return spoolSize;
+        }
         if (isWrapped) {
             return originalFile.getSize();
         }
@@ -130,10 +210,17 @@ public class EnhancedMultipartFile implements MultipartFile {
             return new ByteArrayInputStream(cachedBytes);
         }
 
+        // 已落盘暂存，每次打开独立的文件通道
+        if (spoolFile != null) {
+            return Channels.newInputStream(FileChannel.open(spoolFile, StandardOpenOption.READ));
+        }
+
         // 缓存模式且需要缓存
         if (cacheEnabled && isWrapped) {
             loadToCache();
-            return new ByteArrayInputStream(cachedBytes);
+            return cachedBytes != null
+                ? new ByteArrayInputStream(cachedBytes)
+                : Channels.newInputStream(FileChannel.open(spoolFile, StandardOpenOption.READ));
         }
 
         // 非缓存模式且是包装模式
@@ -147,32 +234,95 @@ public class EnhancedMultipartFile implements MultipartFile {
 
     @Override
     public void transferTo(File dest) throws IOException, IllegalStateException {
+        transferTo(dest.toPath());
+    }
+
+    @Override
+    public void transferTo(Path dest) throws IOException, IllegalStateException {
+        // 缓存模式下先加载缓存，避免原始文件被移动后无法再次读取
+        if (cacheEnabled && isWrapped) {
+            loadToCache();
+        }
         if (cachedBytes != null) {
             // 使用缓存的数据
-            Files.write(dest.toPath(), cachedBytes);
+            Files.write(dest, cachedBytes);
+        } else if (spoolFile != null) {
+            // 使用暂存文件（零拷贝）
+            transferSpoolFile(dest);
         } else if (isWrapped) {
             // 使用原始文件
-            originalFile.transferTo(dest);
+            originalFile.transferTo(dest.toFile());
         } else {
             // 创建模式但没有数据
-            dest.createNewFile();
+            Files.write(dest, new byte[0]);
         }
     }
 
     /**
-     * 清理缓存
+     * 清理缓存（包装的文件为 {@link EnhancedMultipartFile} 时一并清理）
      */
     public void clearCache() {
         if (cacheEnabled && isWrapped) {
             cachedBytes = null;
         }
+        if (originalFile instanceof EnhancedMultipartFile enhancedFile) {
+            enhancedFile.clearCache();
+        }
+        Path file = spoolFile;
+        if (file != null) {
+            spoolFile = null;
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException ignored) {
+                // 暂存文件删除失败时交由系统临时目录清理
+            }
+        }
+    }
+
+    /**
+     * 转移缓存内容
+     * <p>
+     * 返回持有当前缓存内容（堆内存或暂存文件）的新文件，当前文件清理缓存时不再删除已转移的暂存文件，
+     * 用于上传完成后仍需读取文件内容的异步任务，新文件使用完毕后需调用 {@link #clearCache()}
+     * </p>
+     *
+     * @return {@link EnhancedMultipartFile }
+     */
+    public synchronized EnhancedMultipartFile detach() throws IOException {
+        if (cacheEnabled && isWrapped) {
+            loadToCache();
+        }
+        Path file = spoolFile;
+        if (file != null) {
+            spoolFile = null;
+            return new EnhancedMultipartFile(name, originalFilename, contentType, file);
+        }
+        if (cachedBytes == null && originalFile instanceof EnhancedMultipartFile enhancedFile) {
+            // 内容由包装的文件持有（如已落盘暂存），直接转移，避免读入堆内存
+            return enhancedFile.detach();
+        }
+        return new EnhancedMultipartFile(name, originalFilename, contentType, getBytes());
     }
 
     /**
      * 判断是否已缓存
      */
     public boolean isCached() {
-        return cachedBytes != null;
+        return cachedBytes != null || spoolFile != null;
+    }
+
+    /**
+     * 判断是否已落盘暂存
+     */
+    public boolean isSpooled() {
+        return spoolFile != null;
+    }
+
+    /**
+     * 获取暂存文件（不触发加载）
+     */
+    public Path getSpoolFile() {
+        return spoolFile;
     }
 
     /**
@@ -200,16 +350,19 @@ public class EnhancedMultipartFile implements MultipartFile {
      * 获取字节数组 - 带缓存
      */
     private byte[] getBytesWithCache() throws IOException {
-        if (cachedBytes == null && isWrapped) {
+        if (!isCached() && isWrapped) {
             loadToCache();
         }
-        return cachedBytes;
+        return cachedBytes != null ? cachedBytes : Files.readAllBytes(spoolFile);
     }
 
     /**
      * 获取字节数组 - 不带缓存
      */
     private byte[] getBytesWithoutCache() throws IOException {
+        if (spoolFile != null) {
+            return Files.readAllBytes(spoolFile);
+        }
         if (isWrapped) {
             return originalFile.getBytes();
         }
@@ -219,10 +372,52 @@ public class EnhancedMultipartFile implements MultipartFile {
 
     /**
      * 加载文件内容到缓存
+     * <p>
+     * 不超过内存阈值的文件缓存在堆内存中，否则落盘暂存一次
+     * </p>
      */
-    private void loadToCache() throws IOException {
-        if (isWrapped && originalFile != null) {
+    private synchronized void loadToCache() throws IOException {
+        if (!isWrapped || originalFile == null || isCached()) {
+            return;
+        }
+        if (memoryThreshold < 0 || originalFile.getSize() <= memoryThreshold) {
             cachedBytes = originalFile.getBytes();
+            return;
+        }
+        spoolToFile();
+    }
+
+    /**
+     * 落盘暂存
+     * <p>
+     * Servlet 容器通常已将大文件写入磁盘，transferTo 可直接移动或以流方式写入，全程不经过堆内存
+     * </p>
+     */
+    private void spoolToFile() throws IOException {
+        Files.createDirectories(spoolDirectory);
+        Path target = Files.createTempFile(spoolDirectory, "upload-", ".spool").toAbsolutePath();
+        try {
+            originalFile.transferTo(target.toFile());
+            spoolSize = Files.size(target);
+            spoolFile = target;
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(target);
+            throw e;
+        }
+    }
+
+    /**
+     * 传输暂存文件到目标路径
+     */
+    private void transferSpoolFile(Path dest) throws IOException {
+        try (FileChannel source = FileChannel.open(spoolFile, StandardOpenOption.READ);
+             FileChannel target = FileChannel
+                 .open(dest, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            long position = 0;
+            long size = source.size();
+            while (position < size) {
+                position += source.transferTo(position, size - position, target);
+            }
         }
     }
 }
@@ -14,7 +14,10 @@ import com.leepandar.starter.storage.common.exception.StorageException;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Collection;
 
 /**
@@ -208,10 +211,25 @@ public class FileWrapper {
      * 转换为 MultipartFile
      */
     public MultipartFile toMultipartFile() {
+        return toMultipartFile(-1, null);
+    }
+
+    /**
+     * 转换为 MultipartFile，输入流超过内存阈值时落盘暂存
+     *
+     * @param memoryThreshold 内存阈值（字节），-1 表示不限制
+     * @param spoolDirectory  暂存目录
+     * @return {@link MultipartFile }
+     */
+    public MultipartFile toMultipartFile(long memoryThreshold, Path spoolDirectory) {
         if (multipartFile != null) {
             return multipartFile;
         }
 
+        if (inputStream != null && memoryThreshold >= 0) {
+            return spoolInputStream(memoryThreshold, spoolDirectory);
+        }
+
         if (bytes != null) {
             return new EnhancedMultipartFile(getFilenameWithoutExtension(originalFilename), originalFilename, contentType, bytes);
         }
@@ -228,6 +246,36 @@ public class FileWrapper {
         throw new IllegalStateException("无法转换为 MultipartFile");
     }
 
+    /**
+     * 读取输入流，不超过内存阈值时缓存在堆内存中，否则落盘暂存
+     */
+    private MultipartFile spoolInputStream(long memoryThreshold, Path spoolDirectory) {
+        String name = getFilenameWithoutExtension(originalFilename);
+        Path spoolFile = null;
+        try {
+            byte[] head = inputStream.readNBytes((int)Math.min(memoryThreshold + 1, Integer.MAX_VALUE - 8));
+            if (head.length <= memoryThreshold) {
+                return new EnhancedMultipartFile(name, originalFilename, contentType, head);
+            }
+            Files.createDirectories(spoolDirectory);
+            spoolFile = Files.createTempFile(spoolDirectory, "upload-", ".spool");
+            try (OutputStream out = Files.newOutputStream(spoolFile)) {
+                out.write(head);
+                inputStream.transferTo(out);
+            }
+            return new EnhancedMultipartFile(name, originalFilename, contentType, spoolFile);
+        } catch (IOException e) {
+            if (spoolFile != null) {
+                try {
+                    Files.deleteIfExists(spoolFile);
+                } catch (IOException ignored) {
+                    // 忽略删除暂存文件失败的错误
+                }
+            }
+            throw new StorageException("读取输入流失败", e);
+        }
+    }
+
     private static String getFilenameWithoutExtension(String filename) {
         int lastDotIndex = filename.lastIndexOf('.');
         return lastDotIndex > 0 ? filename.substring(0, lastDotIndex) : filename;
@@ -6,6 +6,8 @@ import com.leepandar.starter.storage.processor.progress.ProgressTracker;
 import com.leepandar.starter.storage.processor.progress.UploadProgressListener;
 
 import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 /**
  * 进度监听 MultipartFile 包装器
@@ -29,7 +31,15 @@ public class ProgressAwareMultipartFile extends EnhancedMultipartFile {
     public ProgressAwareMultipartFile(MultipartFile originalFile,
                                       boolean enableCache,
                                       UploadProgressListener progressListener) {
-        super(originalFile, enableCache);
+        this(originalFile, enableCache, -1, null, progressListener);
+    }
+
+    public ProgressAwareMultipartFile(MultipartFile originalFile,
+                                      boolean enableCache,
+                                      long memoryThreshold,
+                                      Path spoolDirectory,
+                                      UploadProgressListener progressListener) {
+        super(originalFile, enableCache, memoryThreshold, spoolDirectory);
         this.progressListener = progressListener;
     }
 
@@ -64,10 +74,10 @@ public class ProgressAwareMultipartFile extends EnhancedMultipartFile {
     }
 
     @Override
-    public void transferTo(File dest) throws IOException, IllegalStateException {
+    public void transferTo(Path dest) throws IOException, IllegalStateException {
         if (progressEnabled && progressTracker != null) {
             // 使用带进度的传输
-            try (InputStream in = getInputStream(); OutputStream out = new FileOutputStream(dest)) {
+            try (InputStream in = getInputStream(); OutputStream out = Files.newOutputStream(dest)) {
                 byte[] buffer = new byte[8192];
                 int bytesRead;
                 while ((bytesRead = in.read(buffer)) != -1) {
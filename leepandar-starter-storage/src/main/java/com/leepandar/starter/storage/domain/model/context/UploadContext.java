@@ -4,7 +4,9 @@ import org.springframework.web.multipart.MultipartFile;
 import com.leepandar.starter.storage.domain.model.req.ThumbnailSize;
 import com.leepandar.starter.storage.processor.progress.UploadProgressListener;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -47,6 +49,11 @@ public class UploadContext {
      */
     private ThumbnailSize thumbnailSize;
 
+    /**
+     * 缩略图尺寸列表（一次解码生成多个尺寸，第一个为主缩略图）
+     */
+    private List<ThumbnailSize> thumbnailSizes = new ArrayList<>();
+
     /**
      * 元数据
      */
@@ -125,6 +132,14 @@ public class UploadContext {
         this.thumbnailSize = thumbnailSize;
     }
 
+    public List<ThumbnailSize> getThumbnailSizes() {
+        return thumbnailSizes;
+    }
+
+    public void setThumbnailSizes(List<ThumbnailSize> thumbnailSizes) {
+        this.thumbnailSizes = thumbnailSizes;
+    }
+
     public Map<String, String> getMetadata() {
         return metadata;
     }
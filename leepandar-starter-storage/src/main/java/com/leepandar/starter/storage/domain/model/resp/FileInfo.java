@@ -48,6 +48,11 @@ public class FileInfo {
      */
     private Long thumbnailSize;
 
+    /**
+     * 缩略图路径（key 为尺寸，如 200x200）
+     */
+    private Map<String, String> thumbnails;
+
     /**
      * 完整路径
      */
@@ -166,6 +171,14 @@ public class FileInfo {
         this.thumbnailSize = thumbnailSize;
     }
 
+    public Map<String, String> getThumbnails() {
+        return thumbnails;
+    }
+
+    public void setThumbnails(Map<String, String> thumbnails) {
+        this.thumbnails = thumbnails;
+    }
+
     public String getUrl() {
         return url;
     }
@@ -0,0 +1,58 @@
+package com.leepandar.starter.storage.domain.model.resp;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 文件分页列表结果
+ */
+public class FileListResp {
+
+    /**
+     * 文件列表
+     */
+    private List<FileInfo> files = new ArrayList<>();
+
+    /**
+     * 是否还有更多数据
+     */
+    private boolean truncated;
+
+    /**
+     * 下一页的续传令牌（没有更多数据时为空）
+     */
+    private String nextContinuationToken;
+
+    public FileListResp() {
+    }
+
+    public FileListResp(List<FileInfo> files, boolean truncated, String nextContinuationToken) {
+        this.files = files;
+        this.truncated = truncated;
+        this.nextContinuationToken = nextContinuationToken;
+    }
+
+    public List<FileInfo> getFiles() {
+        return files;
+    }
+
+    public void setFiles(List<FileInfo> files) {
+        this.files = files;
+    }
+
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    public void setTruncated(boolean truncated) {
+        this.truncated = truncated;
+    }
+
+    public String getNextContinuationToken() {
+        return nextContinuationToken;
+    }
+
+    public void setNextContinuationToken(String nextContinuationToken) {
+        this.nextContinuationToken = nextContinuationToken;
+    }
+}
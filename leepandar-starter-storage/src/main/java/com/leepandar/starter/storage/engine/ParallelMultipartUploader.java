@@ -0,0 +1,363 @@
+package com.leepandar.starter.storage.engine;
+
+import cn.hutool.core.thread.ThreadUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.*;
+import com.leepandar.starter.storage.common.exception.StorageException;
+import com.leepandar.starter.storage.domain.model.resp.MultipartUploadResp;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 并行分片上传引擎
+ * <p>
+ * 按分片大小顺序读取数据到池化的直接内存缓冲区，通过有界线程池并发上传分片，
+ * 单个分片失败时单独重试，全部分片完成后自动合并
+ * </p>
+ */
+public class ParallelMultipartUploader {
+
+    private static final Logger log = LoggerFactory.getLogger(ParallelMultipartUploader.class);
+
+    private static final String CONTENT_TYPE_OCTET_STREAM = "application/octet-stream";
+
+    /**
+     * 重试基础间隔（毫秒）
+     */
+    private static final long RETRY_BACKOFF_MILLIS = 200;
+
+    private final S3Client s3Client;
+    private final int partSize;
+    private final int maxRetries;
+    private final PartBufferPool bufferPool;
+    private final ThreadPoolExecutor executor;
+
+    /**
+     * 构造函数
+     *
+     * @param s3Client    S3 客户端
+     * @param platform    存储平台
+     * @param partSize    分片大小（字节）
+     * @param concurrency 并发上传数
+     * @param maxMemory   分片缓冲区最大占用内存（字节）
+     * @param maxRetries  单个分片最大重试次数
+     */
+    public ParallelMultipartUploader(S3Client s3Client,
+                                     String platform,
+                                     long partSize,
+                                     int concurrency,
+                                     long maxMemory,
+                                     int maxRetries) {
+        if (partSize <= 0 || partSize > Integer.MAX_VALUE) {
+            throw new StorageException("无效的分片大小: " + partSize);
+        }
+        this.s3Client = s3Client;
+        this.partSize = (int)partSize;
+        this.maxRetries = Math.max(0, maxRetries);
+        int threads = Math.max(1, concurrency);
+        int maxBuffers = (int)Math.max(1, Math.min(Integer.MAX_VALUE, maxMemory / partSize));
+        this.bufferPool = new PartBufferPool(this.partSize, maxBuffers);
+        // 排队任务均持有缓冲区，队列长度受缓冲区数量约束
+        this.executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), ThreadUtil
+            .newNamedThreadFactory("storage-multipart-" + platform + "-", true));
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * 分片上传
+     *
+     * @param bucket      存储桶
+     * @param path        路径
+     * @param contentType 内容类型
+     * @param inputStream 输入流
+     */
+    public void upload(String bucket, String path, String contentType, InputStream inputStream) {
+        CreateMultipartUploadResponse createResponse = s3Client.createMultipartUpload(CreateMultipartUploadRequest
+            .builder()
+            .bucket(bucket)
+            .key(path)
+            .contentType(contentType)
+            .build());
+        String uploadId = createResponse.uploadId();
+
+        List<CompletableFuture<CompletedPart>> futures = new ArrayList<>();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        try (ReadableByteChannel channel = Channels.newChannel(inputStream)) {
+            int partNumber = 1;
+            boolean eof = false;
+            while (!eof && failure.get() == null) {
+                ByteBuffer buffer = bufferPool.acquire();
+                boolean submitted = false;
+                try {
+                    eof = fill(channel, buffer);
+                    if (buffer.position() == 0 && partNumber > 1) {
+                        break;
+                    }
+                    buffer.flip();
+                    int currentPartNumber = partNumber++;
+                    CompletableFuture<CompletedPart> future = CompletableFuture.supplyAsync(() -> {
+                        // 缓冲区在任务内释放，不依赖后续阶段（后续阶段被取消时不会执行）
+                        try {
+                            if (failure.get() != null) {
+                                throw new CancellationException("分片上传已取消: partNumber=" + currentPartNumber);
+                            }
+                            return uploadPartWithRetry(bucket, path, uploadId, currentPartNumber, buffer, failure);
+                        } finally {
+                            bufferPool.release(buffer);
+                        }
+                    }, executor);
+                    submitted = true;
+                    futures.add(future);
+                    future.whenComplete((part, e) -> {
+                        if (e != null) {
+                            failure.compareAndSet(null, e);
+                        }
+                    });
+                } finally {
+                    if (!submitted) {
+                        bufferPool.release(buffer);
+                    }
+                }
+            }
+
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+            List<CompletedPart> completedParts = futures.stream()
+                .map(CompletableFuture::join)
+                .sorted(Comparator.comparingInt(CompletedPart::partNumber))
+                .toList();
+
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .key(path)
+                .uploadId(uploadId)
+                .multipartUpload(CompletedMultipartUpload.builder().parts(completedParts).build())
+                .build());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abortQuietly(bucket, path, uploadId, futures, failure, e);
+            throw new StorageException("S3分片上传被中断", e);
+        } catch (Exception e) {
+            abortQuietly(bucket, path, uploadId, futures, failure, e);
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            throw new StorageException("S3分片上传失败: " + cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * 上传单个分片（分片数据读取到池化缓冲区中，超出缓冲区大小时回退为堆内存）
+     *
+     * @param bucket     存储桶
+     * @param path       路径
+     * @param uploadId   上传ID
+     * @param partNumber 分片编号
+     * @param data       分片数据
+     * @return {@link MultipartUploadResp }
+     */
+    public MultipartUploadResp uploadPart(String bucket, String path, String uploadId, int partNumber, InputStream data) {
+        ByteBuffer buffer;
+        try {
+            buffer = bufferPool.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new StorageException("获取分片缓冲区被中断", e);
+        }
+
+        try {
+            ReadableByteChannel channel = Channels.newChannel(data);
+            boolean eof = fill(channel, buffer);
+            int next = eof ? -1 : data.read();
+            CompletedPart completedPart;
+            long partLength;
+            if (next == -1) {
+                buffer.flip();
+                partLength = buffer.remaining();
+                completedPart = uploadPartWithRetry(bucket, path, uploadId, partNumber, buffer, null);
+            } else {
+                // 分片大于缓冲区大小，回退为堆内存上传
+                byte[] bytes = readOverflow(buffer, next, data);
+                partLength = bytes.length;
+                completedPart = uploadPartWithRetry(bucket, path, uploadId, partNumber, ByteBuffer.wrap(bytes), null);
+            }
+
+            MultipartUploadResp result = new MultipartUploadResp();
+            result.setPartNumber(partNumber);
+            result.setPartETag(completedPart.eTag());
+            result.setPartSize(partLength);
+            result.setSuccess(true);
+            return result;
+        } catch (IOException e) {
+            throw new StorageException("读取分片数据失败: " + e.getMessage(), e);
+        } finally {
+            bufferPool.release(buffer);
+        }
+    }
+
+    /**
+     * 关闭上传引擎
+     */
+    public void shutdown() {
+        executor.shutdown();
+        bufferPool.clear();
+    }
+
+    public int getPartSize() {
+        return partSize;
+    }
+
+    public PartBufferPool getBufferPool() {
+        return bufferPool;
+    }
+
+    /**
+     * 上传分片（失败时单独重试，整体上传已失败时不再重试）
+     */
+    private CompletedPart uploadPartWithRetry(String bucket,
+                                              String path,
+                                              String uploadId,
+                                              int partNumber,
+                                              ByteBuffer buffer,
+                                              AtomicReference<Throwable> failure) {
+        long contentLength = buffer.remaining();
+        UploadPartRequest request = UploadPartRequest.builder()
+            .bucket(bucket)
+            .key(path)
+            .uploadId(uploadId)
+            .partNumber(partNumber)
+            .contentLength(contentLength)
+            .build();
+
+        for (int attempt = 0;; attempt++) {
+            try {
+                // 每次读取都基于缓冲区的独立视图，重试时无需重新读取源数据
+                RequestBody body = RequestBody.fromContentProvider(() -> new ByteBufferInputStream(buffer
+                    .duplicate()), contentLength, CONTENT_TYPE_OCTET_STREAM);
+                UploadPartResponse response = s3Client.uploadPart(request, body);
+                return CompletedPart.builder().partNumber(partNumber).eTag(response.eTag()).build();
+            } catch (Exception e) {
+                if (attempt >= maxRetries || (failure != null && failure.get() != null)) {
+                    throw new StorageException(String.format("分片上传失败: partNumber=%d, %s", partNumber, e
+                        .getMessage()), e);
+                }
+                log.warn("分片上传失败，准备重试: uploadId={}, partNumber={}, attempt={}", uploadId, partNumber, attempt + 1, e);
+                ThreadUtil.sleep(RETRY_BACKOFF_MILLIS * (1L << Math.min(attempt, 5)));
+            }
+        }
+    }
+
+    /**
+     * 读取数据直到缓冲区写满或数据读取完毕
+     *
+     * @return 是否已读取完毕
+     */
+    private boolean fill(ReadableByteChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 读取超出缓冲区的分片数据
+     */
+    private byte[] readOverflow(ByteBuffer buffer, int next, InputStream data) throws IOException {
+        buffer.flip();
+        byte[] rest = data.readAllBytes();
+        byte[] bytes = new byte[buffer.remaining() + 1 + rest.length];
+        int length = buffer.remaining();
+        buffer.get(bytes, 0, length);
+        bytes[length] = (byte)next;
+        System.arraycopy(rest, 0, bytes, length + 1, rest.length);
+        return bytes;
+    }
+
+    /**
+     * 取消分片上传（忽略异常）
+     * <p>
+     * 先标记失败使未开始的分片任务直接结束，并等待已提交的分片任务结束（释放缓冲区），再取消分片上传，
+     * 避免取消后仍有分片继续上传
+     * </p>
+     */
+    private void abortQuietly(String bucket,
+                              String path,
+                              String uploadId,
+                              List<CompletableFuture<CompletedPart>> futures,
+                              AtomicReference<Throwable> failure,
+                              Throwable cause) {
+        failure.compareAndSet(null, cause);
+        boolean interrupted = Thread.interrupted();
+        for (CompletableFuture<CompletedPart> future : futures) {
+            while (true) {
+                try {
+                    future.get();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                } catch (ExecutionException | CancellationException e) {
+                    break;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .key(path)
+                .uploadId(uploadId)
+                .build());
+        } catch (Exception e) {
+            log.error("取消分片上传失败: uploadId={}", uploadId, e);
+        }
+    }
+
+    /**
+     * 基于 ByteBuffer 的输入流
+     */
+    private static class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int length = Math.min(len, buffer.remaining());
+            buffer.get(b, off, length);
+            return length;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
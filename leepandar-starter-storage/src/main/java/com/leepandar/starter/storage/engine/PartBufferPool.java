@@ -0,0 +1,84 @@
+package com.leepandar.starter.storage.engine;
+
+import java.nio.ByteBuffer;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 分片缓冲区池
+ * 使用直接内存作为分片缓冲区，缓冲区数量有上限，取不到缓冲区时阻塞等待（背压）
+ */
+public class PartBufferPool {
+
+    private final int bufferSize;
+    private final int maxBuffers;
+    private final Semaphore permits;
+    private final Queue<ByteBuffer> freeBuffers = new ConcurrentLinkedQueue<>();
+
+    /**
+     * 构造函数
+     *
+     * @param bufferSize 缓冲区大小（字节）
+     * @param maxBuffers 缓冲区最大数量
+     */
+    public PartBufferPool(int bufferSize, int maxBuffers) {
+        this.bufferSize = bufferSize;
+        this.maxBuffers = maxBuffers;
+        this.permits = new Semaphore(maxBuffers, true);
+    }
+
+    /**
+     * 获取缓冲区，池中缓冲区全部被占用时阻塞等待
+     *
+     * @return {@link ByteBuffer }
+     * @throws InterruptedException 等待时被中断
+     */
+    public ByteBuffer acquire() throws InterruptedException {
+        permits.acquire();
+        ByteBuffer buffer = freeBuffers.poll();
+        if (buffer == null) {
+            try {
+                buffer = ByteBuffer.allocateDirect(bufferSize);
+            } catch (OutOfMemoryError e) {
+                permits.release();
+                throw e;
+            }
+        }
+        buffer.clear();
+        return buffer;
+    }
+
+    /**
+     * 归还缓冲区
+     *
+     * @param buffer 缓冲区
+     */
+    public void release(ByteBuffer buffer) {
+        buffer.clear();
+        freeBuffers.offer(buffer);
+        permits.release();
+    }
+
+    /**
+     * 释放池中空闲的缓冲区
+     */
+    public void clear() {
+        freeBuffers.clear();
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    public int getMaxBuffers() {
+        return maxBuffers;
+    }
+
+    /**
+     * 获取可用缓冲区数量
+     */
+    public int getAvailableBuffers() {
+        return permits.availablePermits();
+    }
+}
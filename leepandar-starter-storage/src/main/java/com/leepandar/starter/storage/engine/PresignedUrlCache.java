@@ -0,0 +1,87 @@
+package com.leepandar.starter.storage.engine;
+
+import com.leepandar.starter.core.util.LruCache;
+
+import java.util.function.Supplier;
+
+/**
+ * 预签名URL缓存
+ * <p>
+ * 按（存储桶，路径，有效期）缓存已签名的URL，剩余有效期占比高于复用阈值时直接复用，
+ * 即缓存条目的存活时间为 有效期 × (1 - 复用阈值)，保证返回的URL至少还有 有效期 × 复用阈值 的可用时间
+ * </p>
+ */
+public class PresignedUrlCache {
+
+    private static final char KEY_SEPARATOR = '\n';
+
+    private final LruCache<String, String> cache;
+    private final double reuseFraction;
+
+    /**
+     * @param maxSize       最大条目数
+     * @param reuseFraction 复用阈值（0~1）
+     */
+    public PresignedUrlCache(int maxSize, double reuseFraction) {
+        this.cache = new LruCache<>(maxSize);
+        this.reuseFraction = Math.min(1, Math.max(0, reuseFraction));
+    }
+
+    /**
+     * 获取预签名URL，未命中时签名并缓存
+     *
+     * @param bucket        存储桶
+     * @param path          文件路径
+     * @param expireSeconds 有效期（秒）
+     * @param signer        签名函数
+     * @return 预签名URL
+     */
+    public String get(String bucket, String path, long expireSeconds, Supplier<String> signer) {
+        long ttlMillis = (long)(expireSeconds * 1000 * (1 - reuseFraction));
+        if (ttlMillis <= 0) {
+            return signer.get();
+        }
+        String key = bucket + KEY_SEPARATOR + path + KEY_SEPARATOR + expireSeconds;
+        String url = cache.get(key);
+        if (url == null) {
+            url = signer.get();
+            cache.put(key, url, ttlMillis);
+        }
+        return url;
+    }
+
+    /**
+     * 清空缓存
+     */
+    public void clear() {
+        cache.clear();
+    }
+
+    /**
+     * 获取当前缓存条目数
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * 获取命中次数
+     */
+    public long getHitCount() {
+        return cache.getHitCount();
+    }
+
+    /**
+     * 获取未命中次数
+     */
+    public long getMissCount() {
+        return cache.getMissCount();
+    }
+
+    /**
+     * 获取命中率
+     */
+    public double getHitRate() {
+        return cache.getHitRate();
+    }
+}
@@ -3,7 +3,9 @@ package com.leepandar.starter.storage.engine;
 import jakarta.annotation.PostConstruct;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationEvent;
+import com.leepandar.starter.storage.autoconfigure.properties.MetadataCacheConfig;
 import com.leepandar.starter.storage.strategy.StorageStrategy;
+import com.leepandar.starter.storage.strategy.impl.MetadataCacheStorageDecorator;
 import com.leepandar.starter.storage.strategy.impl.StorageStrategyDecorator;
 
 import java.util.ArrayList;
@@ -20,12 +22,22 @@ public class StorageDecoratorManager {
 
     private final ApplicationContext applicationContext;
 
+    /**
+     * 文件元数据缓存配置
+     */
+    private final MetadataCacheConfig metadataCacheConfig;
+
     private final Map<Class<? extends StorageStrategy>, List<StorageStrategyDecorator<?>>> decoratorMap = new ConcurrentHashMap<>();
 
     private volatile boolean initialized = false;
 
     public StorageDecoratorManager(ApplicationContext applicationContext) {
+        this(applicationContext, null);
+    }
+
+    public StorageDecoratorManager(ApplicationContext applicationContext, MetadataCacheConfig metadataCacheConfig) {
         this.applicationContext = applicationContext;
+        this.metadataCacheConfig = metadataCacheConfig;
     }
 
     @PostConstruct
@@ -67,9 +79,6 @@ public class StorageDecoratorManager {
         }
         Class<? extends StorageStrategy> strategyClass = strategy.getClass();
         List<StorageStrategyDecorator<?>> decorators = findApplicableDecorators(strategyClass);
-        if (decorators.isEmpty()) {
-            return strategy;
-        }
 
         // 应用装饰器链
         StorageStrategy decorated = strategy;
@@ -78,6 +87,10 @@ public class StorageDecoratorManager {
             decorated = decorator;
         }
 
+        // 元数据缓存放在最外层，每个平台独立实例
+        if (metadataCacheConfig != null && metadataCacheConfig.isEnabled(strategy.getPlatform())) {
+            decorated = new MetadataCacheStorageDecorator(decorated, metadataCacheConfig);
+        }
         return decorated;
     }
 
@@ -11,6 +11,7 @@ import com.leepandar.starter.storage.common.constant.StorageConstant;
 import com.leepandar.starter.storage.common.enums.DefaultStorageSource;
 import com.leepandar.starter.storage.common.exception.StorageException;
 import com.leepandar.starter.storage.domain.model.resp.StrategyStatusResp;
+import com.leepandar.starter.storage.strategy.AsyncStorageStrategy;
 import com.leepandar.starter.storage.strategy.StorageStrategy;
 
 import java.util.*;
@@ -69,6 +70,23 @@ public class StorageStrategyRouter implements ApplicationListener<ApplicationEve
         return decoratedStrategy;
     }
 
+    /**
+     * 异步存储选择（支持装饰器）
+     * <p>
+     * 装饰后的策略实现了异步接口时优先使用，否则使用原始策略的异步实现
+     * </p>
+     */
+    public AsyncStorageStrategy routeAsync(String platform) {
+        StorageStrategy decorated = route(platform);
+        if (decorated instanceof AsyncStorageStrategy asyncStrategy) {
+            return asyncStrategy;
+        }
+        if (getOriginalStrategy(platform) instanceof AsyncStorageStrategy asyncStrategy) {
+            return asyncStrategy;
+        }
+        throw new StorageException(String.format("存储平台不支持异步操作: %s", platform));
+    }
+
     /**
      * 获取原始策略
      */
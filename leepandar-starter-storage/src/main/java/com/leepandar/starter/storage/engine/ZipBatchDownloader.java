@@ -0,0 +1,253 @@
+package com.leepandar.starter.storage.engine;
+
+import cn.hutool.core.thread.ThreadUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import com.leepandar.starter.storage.common.exception.StorageException;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * 批量下载 ZIP 打包器
+ * <p>
+ * 通过有界线程池并发预取文件（每个文件最多预读 prefetchSize 字节到内存），
+ * 在有界打包线程池中按请求顺序流式写入 ZipOutputStream，并通过管道流返回给调用方，全程不落盘
+ * </p>
+ */
+public class ZipBatchDownloader {
+
+    private static final Logger log = LoggerFactory.getLogger(ZipBatchDownloader.class);
+
+    private static final int PIPE_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * 打包线程数（同时进行的批量下载数）
+     */
+    private static final int PRODUCER_THREADS = 8;
+
+    /**
+     * 打包任务队列容量（超出时拒绝新的批量下载）
+     */
+    private static final int PRODUCER_QUEUE_CAPACITY = 64;
+
+    /**
+     * 预取窗口大小（同一批次同时预取的文件数）
+     */
+    private final int concurrency;
+
+    /**
+     * 单个文件预读字节数
+     */
+    private final int prefetchSize;
+
+    /**
+     * 预取线程池
+     */
+    private final ThreadPoolExecutor fetchExecutor;
+
+    /**
+     * 打包线程池（有界）
+     */
+    private final ThreadPoolExecutor producerExecutor;
+
+    public ZipBatchDownloader(String platform, int concurrency, int prefetchSize) {
+        this.concurrency = Math.max(1, concurrency);
+        this.prefetchSize = Math.max(0, prefetchSize);
+        this.fetchExecutor = new ThreadPoolExecutor(this.concurrency, this.concurrency, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), ThreadUtil
+            .newNamedThreadFactory("storage-zip-fetch-" + platform + "-", true));
+        this.fetchExecutor.allowCoreThreadTimeOut(true);
+        this.producerExecutor = new ThreadPoolExecutor(PRODUCER_THREADS, PRODUCER_THREADS, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(PRODUCER_QUEUE_CAPACITY), ThreadUtil
+            .newNamedThreadFactory("storage-zip-" + platform + "-", true));
+        this.producerExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * 批量下载并打包为 ZIP
+     *
+     * @param paths  文件路径列表（重复路径只打包一次）
+     * @param opener 打开文件输入流
+     * @return ZIP 输入流（打包失败时读取会抛出 IOException）
+     */
+    public InputStream download(List<String> paths, Function<String, InputStream> opener) {
+        List<String> entries = new ArrayList<>(new LinkedHashSet<>(paths));
+        PipedInputStream in = new PipedInputStream(PIPE_BUFFER_SIZE);
+        PipedOutputStream out;
+        try {
+            out = new PipedOutputStream(in);
+        } catch (IOException e) {
+            throw new StorageException("创建批量下载管道失败: " + e.getMessage(), e);
+        }
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        try {
+            producerExecutor.execute(() -> produce(entries, opener, out, failure));
+        } catch (RejectedExecutionException e) {
+            closeQuietly(in);
+            throw new StorageException("批量下载任务过多，请稍后重试", e);
+        }
+        return new FilterInputStream(in) {
+            @Override
+            public int read() throws IOException {
+                int b = super.read();
+                if (b < 0) {
+                    checkFailure(failure);
+                }
+                return b;
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) throws IOException {
+                int n = super.read(b, off, len);
+                if (n < 0) {
+                    checkFailure(failure);
+                }
+                return n;
+            }
+        };
+    }
+
+    /**
+     * 关闭预取线程池、打包线程池
+     */
+    public void shutdown() {
+        fetchExecutor.shutdown();
+        producerExecutor.shutdown();
+    }
+
+    /**
+     * 按顺序写入 ZIP，写入当前文件时保持后续文件的预取窗口
+     */
+    private void produce(List<String> entries,
+                         Function<String, InputStream> opener,
+                         PipedOutputStream out,
+                         AtomicReference<Throwable> failure) {
+        Deque<CompletableFuture<Prefetched>> window = new ArrayDeque<>();
+        int next = 0;
+        try {
+            ZipOutputStream zip = new ZipOutputStream(out);
+            zip.setLevel(Deflater.BEST_SPEED);
+            while (next < entries.size() && window.size() < concurrency) {
+                window.add(prefetch(entries.get(next++), opener));
+            }
+            while (!window.isEmpty()) {
+                Prefetched item = window.poll().join();
+                if (next < entries.size()) {
+                    window.add(prefetch(entries.get(next++), opener));
+                }
+                try (item) {
+                    zip.putNextEntry(new ZipEntry(toEntryName(item.path)));
+                    zip.write(item.head);
+                    if (item.rest != null) {
+                        item.rest.transferTo(zip);
+                    }
+                    zip.closeEntry();
+                }
+            }
+            zip.finish();
+        } catch (Throwable e) {
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            failure.set(cause);
+            log.warn("批量下载打包失败: {}", cause.getMessage());
+            // 释放已预取但未写入的文件
+            window.forEach(future -> future.thenAccept(Prefetched::close));
+        } finally {
+            try {
+                out.close();
+            } catch (IOException ignored) {
+                // 忽略关闭管道失败的错误
+            }
+        }
+    }
+
+    /**
+     * 异步预取文件
+     */
+    private CompletableFuture<Prefetched> prefetch(String path, Function<String, InputStream> opener) {
+        return CompletableFuture.supplyAsync(() -> {
+            InputStream in = opener.apply(path);
+            if (in == null) {
+                throw new StorageException("文件不存在: " + path);
+            }
+            try {
+                byte[] head = in.readNBytes(prefetchSize);
+                if (head.length < prefetchSize) {
+                    // 已完整读取
+                    in.close();
+                    return new Prefetched(path, head, null);
+                }
+                return new Prefetched(path, head, in);
+            } catch (IOException e) {
+                closeQuietly(in);
+                throw new StorageException("读取文件失败: " + path, e);
+            }
+        }, fetchExecutor);
+    }
+
+    /**
+     * 转换为 ZIP 条目名称
+     */
+    private String toEntryName(String path) {
+        String name = path.replace('\\', '/');
+        while (name.startsWith("/")) {
+            name = name.substring(1);
+        }
+        return name;
+    }
+
+    private static void checkFailure(AtomicReference<Throwable> failure) throws IOException {
+        Throwable e = failure.get();
+        if (e != null) {
+            throw new IOException("批量下载打包失败: " + e.getMessage(), e);
+        }
+    }
+
+    private static void closeQuietly(InputStream in) {
+        try {
+            in.close();
+        } catch (IOException ignored) {
+            // 忽略关闭输入流失败的错误
+        }
+    }
+
+    /**
+     * 预取结果
+     */
+    private static class Prefetched implements AutoCloseable {
+
+        private final String path;
+        private final byte[] head;
+        private final InputStream rest;
+
+        Prefetched(String path, byte[] head, InputStream rest) {
+            this.path = path;
+            this.head = head;
+            this.rest = rest;
+        }
+
+        @Override
+        public void close() {
+            if (rest != null) {
+                closeQuietly(rest);
+            }
+        }
+    }
+}
@@ -1,10 +1,16 @@
 package com.leepandar.starter.storage.processor.preprocess;
 
+import org.springframework.web.multipart.MultipartFile;
+import com.leepandar.starter.storage.common.exception.StorageException;
 import com.leepandar.starter.storage.domain.model.context.UploadContext;
 import com.leepandar.starter.storage.domain.model.req.ThumbnailInfo;
+import com.leepandar.starter.storage.domain.model.req.ThumbnailSize;
 import com.leepandar.starter.storage.service.FileProcessor;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * 缩略图处理器
@@ -19,4 +25,28 @@ public interface ThumbnailProcessor extends FileProcessor {
      * @return 缩略图信息
      */
     ThumbnailInfo process(UploadContext context, InputStream sourceInputStream);
-}
\ No newline at end of file
+
+    /**
+     * 生成多个尺寸的缩略图
+     * <p>
+     * 默认逐个尺寸重新读取文件生成，实现类可覆盖为一次解码生成全部尺寸
+     * </p>
+     *
+     * @param context 上传上下文
+     * @param source  原始文件
+     * @param sizes   缩略图尺寸
+     * @return 缩略图信息（与尺寸顺序一致）
+     */
+    default List<ThumbnailInfo> process(UploadContext context, MultipartFile source, List<ThumbnailSize> sizes) {
+        List<ThumbnailInfo> thumbnails = new ArrayList<>(sizes.size());
+        for (ThumbnailSize size : sizes) {
+            context.setThumbnailSize(size);
+            try (InputStream is = source.getInputStream()) {
+                thumbnails.add(process(context, is));
+            } catch (IOException e) {
+                throw new StorageException("读取原始文件失败", e);
+            }
+        }
+        return thumbnails;
+    }
+}
@@ -14,4 +14,12 @@ public interface UploadCompleteProcessor extends FileProcessor {
      * @param fileInfo 文件信息
      */
     void onComplete(FileInfo fileInfo);
-}
\ No newline at end of file
+
+    /**
+     * 处理缩略图生成完成事件（异步生成缩略图时在缩略图线程中回调）
+     *
+     * @param fileInfo 文件信息（已包含缩略图路径）
+     */
+    default void onThumbnailComplete(FileInfo fileInfo) {
+    }
+}
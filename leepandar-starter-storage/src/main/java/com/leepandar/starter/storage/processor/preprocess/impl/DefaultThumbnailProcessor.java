@@ -2,23 +2,46 @@ package com.leepandar.starter.storage.processor.preprocess.impl;
 
 import cn.hutool.core.io.FileUtil;
 import net.coobird.thumbnailator.Thumbnails;
+import net.coobird.thumbnailator.util.exif.ExifFilterUtils;
+import net.coobird.thumbnailator.util.exif.ExifUtils;
+import net.coobird.thumbnailator.util.exif.Orientation;
+import org.springframework.web.multipart.MultipartFile;
 import com.leepandar.starter.storage.common.constant.StorageConstant;
 import com.leepandar.starter.storage.common.exception.StorageException;
+import com.leepandar.starter.storage.domain.file.EnhancedMultipartFile;
 import com.leepandar.starter.storage.domain.model.context.UploadContext;
 import com.leepandar.starter.storage.domain.model.req.ThumbnailInfo;
 import com.leepandar.starter.storage.domain.model.req.ThumbnailSize;
 import com.leepandar.starter.storage.processor.preprocess.ThumbnailProcessor;
 
 import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.FileImageInputStream;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.MemoryCacheImageInputStream;
 import java.awt.image.BufferedImage;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
 
 /**
  * 默认缩略图处理器
+ * <p>
+ * 解码时按目标尺寸下采样（不生成原图大小的位图），多个尺寸共用一次解码
+ * </p>
  */
 public class DefaultThumbnailProcessor implements ThumbnailProcessor {
 
+    /**
+     * 下采样后保留的最小倍数（相对最大目标尺寸），保证缩放质量
+     */
+    private static final int SUBSAMPLING_QUALITY_FACTOR = 2;
+
     @Override
     public String getName() {
         return DefaultThumbnailProcessor.class.getSimpleName();
@@ -32,26 +55,101 @@ public class DefaultThumbnailProcessor implements ThumbnailProcessor {
 
     @Override
     public ThumbnailInfo process(UploadContext context, InputStream sourceInputStream) {
+        try (ImageInputStream iis = new MemoryCacheImageInputStream(sourceInputStream)) {
+            return generate(context, iis, List.of(context.getThumbnailSize())).get(0);
+        } catch (StorageException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new StorageException("生成缩略图失败", e);
+        }
+    }
+
+    @Override
+    public List<ThumbnailInfo> process(UploadContext context, MultipartFile source, List<ThumbnailSize> sizes) {
         try {
-            String suffix = FileUtil.getSuffix(context.getFormatFileName());
-            ThumbnailSize size = context.getThumbnailSize();
-            BufferedImage thumbnail = Thumbnails.of(sourceInputStream)
-                .size(size.getWidth(), size.getHeight())
-                .keepAspectRatio(size.isKeepAspectRatio())
-                .asBufferedImage();
-
-            ByteArrayOutputStream baos = new ByteArrayOutputStream();
-            ImageIO.write(thumbnail, suffix, baos);
-
-            ThumbnailInfo info = new ThumbnailInfo();
-            info.setData(baos.toByteArray());
-            info.setFormat(suffix);
-            info.setWidth(thumbnail.getWidth());
-            info.setHeight(thumbnail.getHeight());
-
-            return info;
+            // 已落盘暂存的文件直接随机读取，避免 ImageIO 再次缓存整个输入流
+            Path spoolFile = source instanceof EnhancedMultipartFile file ? file.getSpoolFile() : null;
+            if (spoolFile != null) {
+                try (ImageInputStream iis = new FileImageInputStream(spoolFile.toFile())) {
+                    return generate(context, iis, sizes);
+                }
+            }
+            try (InputStream is = source.getInputStream();
+                 ImageInputStream iis = new MemoryCacheImageInputStream(is)) {
+                return generate(context, iis, sizes);
+            }
+        } catch (StorageException e) {
+            throw e;
         } catch (Exception e) {
             throw new StorageException("生成缩略图失败", e);
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 一次解码生成全部尺寸的缩略图
+     */
+    private List<ThumbnailInfo> generate(UploadContext context,
+                                         ImageInputStream iis,
+                                         List<ThumbnailSize> sizes) throws IOException {
+        Iterator<ImageReader> readers = ImageIO.getImageReaders(iis);
+        if (!readers.hasNext()) {
+            throw new StorageException("生成缩略图失败: 不支持的图片格式");
+        }
+        ImageReader reader = readers.next();
+        try {
+            reader.setInput(iis, true);
+            BufferedImage image = applyOrientation(reader, reader.read(0, subsamplingParam(reader, sizes)));
+
+            String suffix = FileUtil.getSuffix(context.getFormatFileName());
+            List<ThumbnailInfo> thumbnails = new ArrayList<>(sizes.size());
+            for (ThumbnailSize size : sizes) {
+                BufferedImage thumbnail = Thumbnails.of(image)
+                    .size(size.getWidth(), size.getHeight())
+                    .keepAspectRatio(size.isKeepAspectRatio())
+                    .asBufferedImage();
+
+                ByteArrayOutputStream baos = new ByteArrayOutputStream();
+                ImageIO.write(thumbnail, suffix, baos);
+
+                ThumbnailInfo info = new ThumbnailInfo();
+                info.setData(baos.toByteArray());
+                info.setFormat(suffix);
+                info.setWidth(thumbnail.getWidth());
+                info.setHeight(thumbnail.getHeight());
+                thumbnails.add(info);
+            }
+            return thumbnails;
+        } finally {
+            reader.dispose();
+        }
+    }
+
+    /**
+     * 按最大目标尺寸计算下采样步长，解码时直接跳过多余像素
+     */
+    private ImageReadParam subsamplingParam(ImageReader reader, List<ThumbnailSize> sizes) throws IOException {
+        int target = sizes.stream()
+            .mapToInt(size -> Math.max(size.getWidth(), size.getHeight()))
+            .max()
+            .orElse(1);
+        int shortSide = Math.min(reader.getWidth(0), reader.getHeight(0));
+        int step = Math.max(1, shortSide / Math.max(1, target * SUBSAMPLING_QUALITY_FACTOR));
+        ImageReadParam param = reader.getDefaultReadParam();
+        if (step > 1) {
+            param.setSourceSubsampling(step, step, 0, 0);
+        }
+        return param;
+    }
+
+    /**
+     * 按 EXIF 方向信息旋转图片（读取失败时保持原样）
+     */
+    private BufferedImage applyOrientation(ImageReader reader, BufferedImage image) {
+        try {
+            Orientation orientation = ExifUtils.getExifOrientation(reader, 0);
+            return orientation != null ? ExifFilterUtils.getFilterForOrientation(orientation).apply(image) : image;
+        } catch (Exception e) {
+            return image;
+        }
+    }
+}
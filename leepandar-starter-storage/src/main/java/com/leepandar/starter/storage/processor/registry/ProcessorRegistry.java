@@ -5,19 +5,26 @@ import com.leepandar.starter.storage.processor.preprocess.*;
 import com.leepandar.starter.storage.service.FileProcessor;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.Set;
 
 /**
  * 全局处理器注册表
+ * <p>
+ * 按（处理器类型，平台）预先构建排好序的不可变处理器链，仅在注册时重建，
+ * 查询时只需执行 {@link FileProcessor#support(UploadContext)} 判断
+ * </p>
  */
 public class ProcessorRegistry {
 
-    private final Map<Class<?>, List<FileProcessor>> processors = new ConcurrentHashMap<>();
-    private final Map<String, Map<Class<?>, List<FileProcessor>>> platformProcessors = new ConcurrentHashMap<>();
+    private final Map<Class<?>, List<FileProcessor>> processors = new HashMap<>();
+    private final Map<String, Map<Class<?>, List<FileProcessor>>> platformProcessors = new HashMap<>();
+    private volatile Snapshot snapshot = new Snapshot(0, Map.of(), Map.of());
 
     /**
      * 注册处理器（自动识别类型）
@@ -29,18 +36,19 @@ public class ProcessorRegistry {
     /**
      * 注册平台特定处理器
      */
-    public void register(FileProcessor processor, String platform) {
+    public synchronized void register(FileProcessor processor, String platform) {
         Class<?> type = getProcessorType(processor);
 
         if (platform == null) {
             // 全局处理器
-            processors.computeIfAbsent(type, k -> new CopyOnWriteArrayList<>()).add(processor);
+            processors.computeIfAbsent(type, k -> new ArrayList<>()).add(processor);
         } else {
             // 平台特定处理器
-            platformProcessors.computeIfAbsent(platform, k -> new ConcurrentHashMap<>())
-                .computeIfAbsent(type, k -> new CopyOnWriteArrayList<>())
+            platformProcessors.computeIfAbsent(platform, k -> new HashMap<>())
+                .computeIfAbsent(type, k -> new ArrayList<>())
                 .add(processor);
         }
+        snapshot = buildSnapshot(snapshot.getVersion() + 1);
     }
 
     /**
@@ -61,39 +69,132 @@ public class ProcessorRegistry {
     }
 
     /**
-     * 获取指定类型的处理器（支持优先级排序）
+     * 构建处理器链快照（全局处理器在前、平台处理器在后，再按优先级稳定排序）
      */
-    @SuppressWarnings("unchecked")
-    public <T extends FileProcessor> List<T> getProcessors(Class<T> type, String platform, UploadContext context) {
-        List<T> result = new ArrayList<>();
+    private Snapshot buildSnapshot(long version) {
+        Set<Class<?>> types = new HashSet<>(processors.keySet());
+        platformProcessors.values().forEach(map -> types.addAll(map.keySet()));
 
-        // 添加全局处理器
-        List<FileProcessor> globalList = processors.get(type);
-        if (globalList != null) {
-            globalList.stream().filter(p -> p.support(context)).map(p -> (T)p).forEach(result::add);
+        Map<Class<?>, List<FileProcessor>> globalChains = new HashMap<>();
+        for (Class<?> type : types) {
+            globalChains.put(type, buildChain(processors.get(type), null));
         }
 
-        // 添加平台特定处理器
-        if (platform != null) {
-            Map<Class<?>, List<FileProcessor>> platformMap = platformProcessors.get(platform);
-            if (platformMap != null) {
-                List<FileProcessor> platformList = platformMap.get(type);
-                if (platformList != null) {
-                    platformList.stream().filter(p -> p.support(context)).map(p -> (T)p).forEach(result::add);
-                }
+        Map<String, Map<Class<?>, List<FileProcessor>>> platformChains = new HashMap<>();
+        platformProcessors.forEach((platform, platformMap) -> {
+            Map<Class<?>, List<FileProcessor>> chains = new HashMap<>();
+            for (Class<?> type : types) {
+                chains.put(type, buildChain(processors.get(type), platformMap.get(type)));
             }
-        }
+            platformChains.put(platform, Map.copyOf(chains));
+        });
+        return new Snapshot(version, Map.copyOf(globalChains), Map.copyOf(platformChains));
+    }
 
+    /**
+     * 构建单个处理器链
+     */
+    private List<FileProcessor> buildChain(List<FileProcessor> globalList, List<FileProcessor> platformList) {
+        List<FileProcessor> chain = new ArrayList<>();
+        if (globalList != null) {
+            chain.addAll(globalList);
+        }
+        if (platformList != null) {
+            chain.addAll(platformList);
+        }
         // 按优先级排序（优先级高的在前）
-        result.sort(Comparator.comparingInt(FileProcessor::getOrder).reversed());
-        return result;
+        chain.sort(Comparator.comparingInt(FileProcessor::getOrder).reversed());
+        return List.copyOf(chain);
+    }
+
+    /**
+     * 获取当前快照
+     */
+    public Snapshot snapshot() {
+        return snapshot;
+    }
+
+    /**
+     * 获取版本号（每次注册递增）
+     */
+    public long getVersion() {
+        return snapshot.getVersion();
+    }
+
+    /**
+     * 获取指定类型的处理器（支持优先级排序）
+     */
+    public <T extends FileProcessor> List<T> getProcessors(Class<T> type, String platform, UploadContext context) {
+        return snapshot.getProcessors(type, platform, context);
     }
 
     /**
      * 获取最高优先级的处理器
      */
     public <T extends FileProcessor> T getProcessor(Class<T> type, String platform, UploadContext context) {
-        List<T> processors = getProcessors(type, platform, context);
-        return processors.isEmpty() ? null : processors.get(0);
+        return snapshot.getProcessor(type, platform, context);
+    }
+
+    /**
+     * 处理器链快照（不可变）
+     */
+    public static class Snapshot {
+
+        private final long version;
+        private final Map<Class<?>, List<FileProcessor>> globalChains;
+        private final Map<String, Map<Class<?>, List<FileProcessor>>> platformChains;
+
+        Snapshot(long version,
+                 Map<Class<?>, List<FileProcessor>> globalChains,
+                 Map<String, Map<Class<?>, List<FileProcessor>>> platformChains) {
+            this.version = version;
+            this.globalChains = globalChains;
+            this.platformChains = platformChains;
+        }
+
+        /**
+         * 获取版本号
+         */
+        public long getVersion() {
+            return version;
+        }
+
+        /**
+         * 获取排好序的处理器链（未执行 support 判断）
+         */
+        @SuppressWarnings("unchecked")
+        public <T extends FileProcessor> List<T> getChain(Class<T> type, String platform) {
+            Map<Class<?>, List<FileProcessor>> chains = platform != null
+                ? platformChains.getOrDefault(platform, globalChains)
+                : globalChains;
+            List<FileProcessor> chain = chains.get(type);
+            return chain != null ? (List<T>)chain : Collections.emptyList();
+        }
+
+        /**
+         * 获取支持当前上下文的处理器
+         */
+        public <T extends FileProcessor> List<T> getProcessors(Class<T> type, String platform, UploadContext context) {
+            List<T> chain = getChain(type, platform);
+            List<T> result = new ArrayList<>(chain.size());
+            for (T processor : chain) {
+                if (processor.support(context)) {
+                    result.add(processor);
+                }
+            }
+            return result;
+        }
+
+        /**
+         * 获取支持当前上下文的最高优先级处理器
+         */
+        public <T extends FileProcessor> T getProcessor(Class<T> type, String platform, UploadContext context) {
+            for (T processor : getChain(type, platform)) {
+                if (processor.support(context)) {
+                    return processor;
+                }
+            }
+            return null;
+        }
     }
-}
\ No newline at end of file
+}
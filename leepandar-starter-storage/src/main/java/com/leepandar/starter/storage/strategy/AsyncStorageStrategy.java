@@ -0,0 +1,59 @@
+package com.leepandar.starter.storage.strategy;
+
+import org.springframework.web.multipart.MultipartFile;
+import com.leepandar.starter.storage.domain.model.resp.FileInfo;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 异步存储策略
+ * 所有操作均不阻塞调用线程，通过 {@link CompletableFuture} 返回结果
+ */
+public interface AsyncStorageStrategy {
+
+    /**
+     * 异步上传
+     *
+     * @param bucket 存储桶
+     * @param path   路径
+     * @param file   文件
+     * @return {@link CompletableFuture }
+     */
+    CompletableFuture<Void> uploadAsync(String bucket, String path, MultipartFile file);
+
+    /**
+     * 异步下载
+     *
+     * @param bucket 存储桶
+     * @param path   路径
+     * @return {@link CompletableFuture }<{@link InputStream }>
+     */
+    CompletableFuture<InputStream> downloadAsync(String bucket, String path);
+
+    /**
+     * 异步复制文件
+     */
+    CompletableFuture<Void> copyAsync(String sourceBucket, String targetBucket, String sourcePath, String targetPath);
+
+    /**
+     * 异步删除
+     */
+    CompletableFuture<Void> deleteAsync(String bucket, String path);
+
+    /**
+     * 异步列出文件
+     */
+    CompletableFuture<List<FileInfo>> listAsync(String bucket, String prefix, int maxKeys);
+
+    /**
+     * 异步判断是否存在
+     */
+    CompletableFuture<Boolean> existsAsync(String bucket, String path);
+
+    /**
+     * 获取平台
+     */
+    String getPlatform();
+}
@@ -1,11 +1,14 @@
 package com.leepandar.starter.storage.strategy;
 
 import org.springframework.web.multipart.MultipartFile;
+import com.leepandar.starter.storage.common.exception.StorageException;
 import com.leepandar.starter.storage.domain.model.resp.FileInfo;
+import com.leepandar.starter.storage.domain.model.resp.FileListResp;
 import com.leepandar.starter.storage.domain.model.resp.MultipartInitResp;
 import com.leepandar.starter.storage.domain.model.resp.MultipartUploadResp;
 
 import java.io.InputStream;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -62,6 +65,22 @@ public interface StorageStrategy {
      */
     List<FileInfo> list(String bucket, String prefix, int maxKeys);
 
+    /**
+     * 分页列出文件
+     *
+     * @param bucket            存储桶
+     * @param prefix            前缀
+     * @param maxKeys           每页最大数量
+     * @param continuationToken 续传令牌（首页为空）
+     * @return {@link FileListResp }
+     */
+    default FileListResp list(String bucket, String prefix, int maxKeys, String continuationToken) {
+        if (continuationToken != null && !continuationToken.isEmpty()) {
+            throw new StorageException("当前存储平台不支持分页列出文件");
+        }
+        return new FileListResp(list(bucket, prefix, maxKeys), false, null);
+    }
+
     /**
      * 复制文件
      */
@@ -89,6 +108,22 @@ public interface StorageStrategy {
      */
     String generatePresignedUrl(String bucket, String path, long expireSeconds);
 
+    /**
+     * 批量生成预签名URL
+     *
+     * @param bucket        存储桶
+     * @param paths         文件路径列表
+     * @param expireSeconds 有效期（秒）
+     * @return 文件路径与预签名URL的映射（保持请求顺序）
+     */
+    default Map<String, String> generatePresignedUrls(String bucket, List<String> paths, long expireSeconds) {
+        Map<String, String> urls = new LinkedHashMap<>(paths.size() * 4 / 3 + 1);
+        for (String path : paths) {
+            urls.computeIfAbsent(path, key -> generatePresignedUrl(bucket, key, expireSeconds));
+        }
+        return urls;
+    }
+
     /**
      * 初始化分片上传
      *
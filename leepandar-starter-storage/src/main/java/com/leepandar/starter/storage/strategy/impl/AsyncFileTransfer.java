@@ -0,0 +1,147 @@
+package com.leepandar.starter.storage.strategy.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * 基于 AsynchronousFileChannel 的异步文件传输
+ * 读写通过 CompletionHandler 串联，全程不阻塞调用线程
+ */
+class AsyncFileTransfer {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private AsyncFileTransfer() {
+    }
+
+    /**
+     * 异步复制文件通道
+     *
+     * @param source 源文件通道
+     * @param target 目标文件通道
+     * @return 传输的字节数
+     */
+    static CompletableFuture<Long> transfer(AsynchronousFileChannel source, AsynchronousFileChannel target) {
+        return new Transfer((buffer, position, handler) -> source
+            .read(buffer, position, null, handler), target, source).start();
+    }
+
+    /**
+     * 异步将输入流写入文件通道（输入流的读取在指定线程池中执行）
+     *
+     * @param source   输入流
+     * @param target   目标文件通道
+     * @param executor 读取输入流的线程池
+     * @return 传输的字节数
+     */
+    static CompletableFuture<Long> transfer(InputStream source, AsynchronousFileChannel target, Executor executor) {
+        return new Transfer((buffer, position, handler) -> executor.execute(() -> {
+            try {
+                int read = source.read(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+                if (read > 0) {
+                    buffer.position(buffer.position() + read);
+                }
+                handler.completed(read, null);
+            } catch (Throwable e) {
+                handler.failed(e, null);
+            }
+        }), target, source).start();
+    }
+
+    /**
+     * 读取操作
+     */
+    @FunctionalInterface
+    private interface ReadOperation {
+        void read(ByteBuffer buffer, long position, CompletionHandler<Integer, Void> handler);
+    }
+
+    /**
+     * 传输过程
+     */
+    private static class Transfer {
+
+        private final ReadOperation reader;
+        private final AsynchronousFileChannel target;
+        private final AutoCloseable source;
+        private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        private final CompletableFuture<Long> future = new CompletableFuture<>();
+        private long position;
+
+        Transfer(ReadOperation reader, AsynchronousFileChannel target, AutoCloseable source) {
+            this.reader = reader;
+            this.target = target;
+            this.source = source;
+        }
+
+        CompletableFuture<Long> start() {
+            readNext();
+            return future;
+        }
+
+        private void readNext() {
+            buffer.clear();
+            reader.read(buffer, position, new CompletionHandler<>() {
+                @Override
+                public void completed(Integer read, Void attachment) {
+                    if (read < 0) {
+                        finish(null);
+                        return;
+                    }
+                    buffer.flip();
+                    writeNext();
+                }
+
+                @Override
+                public void failed(Throwable e, Void attachment) {
+                    finish(e);
+                }
+            });
+        }
+
+        private void writeNext() {
+            if (!buffer.hasRemaining()) {
+                readNext();
+                return;
+            }
+            target.write(buffer, position, null, new CompletionHandler<>() {
+                @Override
+                public void completed(Integer written, Void attachment) {
+                    position += written;
+                    writeNext();
+                }
+
+                @Override
+                public void failed(Throwable e, Void attachment) {
+                    finish(e);
+                }
+            });
+        }
+
+        private void finish(Throwable error) {
+            Throwable closeError = null;
+            try {
+                source.close();
+            } catch (Exception e) {
+                closeError = e;
+            }
+            try {
+                target.close();
+            } catch (IOException e) {
+                closeError = closeError == null ? e : closeError;
+            }
+            if (error != null) {
+                future.completeExceptionally(error);
+            } else if (closeError != null) {
+                future.completeExceptionally(closeError);
+            } else {
+                future.complete(position);
+            }
+        }
+    }
+}
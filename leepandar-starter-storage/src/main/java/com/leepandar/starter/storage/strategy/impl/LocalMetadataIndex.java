@@ -0,0 +1,206 @@
+package com.leepandar.starter.storage.strategy.impl;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 本地存储元数据索引
+ * <p>
+ * 每个存储桶一个追加写的索引文件，记录文件的 ETag 及写入时的大小和修改时间。
+ * ETag 仅在上传或合并分片时计算一次，文件大小或修改时间发生变化时索引自动失效。
+ * 无效记录过多时自动压缩索引文件。
+ * </p>
+ */
+class LocalMetadataIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(LocalMetadataIndex.class);
+
+    /**
+     * 索引目录
+     */
+    static final String INDEX_DIR = ".metadata";
+
+    private static final String INDEX_FILE = "etag.idx";
+    private static final String OP_PUT = "P";
+    private static final String OP_DELETE = "D";
+    private static final String SEPARATOR = "\t";
+
+    /**
+     * 触发压缩的最少记录数
+     */
+    private static final int COMPACT_MIN_RECORDS = 1024;
+
+    private final Path indexFile;
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private int records;
+
+    LocalMetadataIndex(Path bucketPath) {
+        this.indexFile = bucketPath.resolve(INDEX_DIR).resolve(INDEX_FILE);
+        load();
+    }
+
+    /**
+     * 获取 ETag（文件大小或修改时间与索引记录不一致时返回 null）
+     *
+     * @param key   文件路径
+     * @param attrs 文件属性
+     * @return ETag
+     */
+    String getETag(String key, BasicFileAttributes attrs) {
+        Entry entry = entries.get(key);
+        if (entry == null || entry.getSize() != attrs.size() || entry.getLastModified() != attrs.lastModifiedTime()
+            .toMillis()) {
+            return null;
+        }
+        return entry.getEtag();
+    }
+
+    /**
+     * 记录 ETag
+     *
+     * @param key   文件路径
+     * @param attrs 写入完成后的文件属性
+     * @param etag  ETag
+     */
+    synchronized void put(String key, BasicFileAttributes attrs, String etag) {
+        if (key.indexOf('\n') >= 0 || key.indexOf('\r') >= 0) {
+            return;
+        }
+        Entry entry = new Entry(attrs.size(), attrs.lastModifiedTime().toMillis(), etag);
+        entries.put(key, entry);
+        append(String.join(SEPARATOR, OP_PUT, String.valueOf(entry.getSize()), String.valueOf(entry
+            .getLastModified()), etag, key));
+    }
+
+    /**
+     * 移除记录
+     *
+     * @param key 文件路径
+     */
+    synchronized void remove(String key) {
+        if (entries.remove(key) != null) {
+            append(String.join(SEPARATOR, OP_DELETE, key));
+        }
+    }
+
+    /**
+     * 加载索引文件
+     */
+    private void load() {
+        if (!Files.exists(indexFile)) {
+            return;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(indexFile, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                records++;
+                applyRecord(line);
+            }
+        } catch (IOException e) {
+            log.warn("加载本地存储元数据索引失败: {}", indexFile, e);
+        }
+    }
+
+    /**
+     * 回放单条记录（格式不正确的记录直接忽略，如写入中断的最后一行）
+     */
+    private void applyRecord(String line) {
+        if (line.startsWith(OP_PUT + SEPARATOR)) {
+            String[] fields = line.split(SEPARATOR, 5);
+            if (fields.length == 5) {
+                try {
+                    entries.put(fields[4], new Entry(Long.parseLong(fields[1]), Long.parseLong(fields[2]), fields[3]));
+                } catch (NumberFormatException ignored) {
+                    // 忽略格式不正确的记录
+                }
+            }
+        } else if (line.startsWith(OP_DELETE + SEPARATOR)) {
+            entries.remove(line.substring(2));
+        }
+    }
+
+    /**
+     * 追加记录
+     */
+    private void append(String record) {
+        try {
+            Files.createDirectories(indexFile.getParent());
+            try (BufferedWriter writer = Files
+                .newBufferedWriter(indexFile, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                writer.write(record);
+                writer.newLine();
+            }
+            records++;
+            if (records > COMPACT_MIN_RECORDS && records > entries.size() * 2) {
+                compact();
+            }
+        } catch (IOException e) {
+            log.warn("写入本地存储元数据索引失败: {}", indexFile, e);
+        }
+    }
+
+    /**
+     * 压缩索引文件，只保留有效记录
+     */
+    private void compact() throws IOException {
+        Path tempFile = indexFile.resolveSibling(INDEX_FILE + ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+            for (Map.Entry<String, Entry> item : entries.entrySet()) {
+                Entry entry = item.getValue();
+                writer.write(String.join(SEPARATOR, OP_PUT, String.valueOf(entry.getSize()), String.valueOf(entry
+                    .getLastModified()), entry.getEtag(), item.getKey()));
+                writer.newLine();
+            }
+        }
+        Files.move(tempFile, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        records = entries.size();
+    }
+
+    /**
+     * 索引记录
+     */
+    private static class Entry {
+
+        /**
+         * 文件大小
+         */
+        private final long size;
+
+        /**
+         * 修改时间（毫秒）
+         */
+        private final long lastModified;
+
+        /**
+         * ETag
+         */
+        private final String etag;
+
+        Entry(long size, long lastModified, String etag) {
+            this.size = size;
+            this.lastModified = lastModified;
+            this.etag = etag;
+        }
+
+        long getSize() {
+            return size;
+        }
+
+        long getLastModified() {
+            return lastModified;
+        }
+
+        String getEtag() {
+            return etag;
+        }
+    }
+}
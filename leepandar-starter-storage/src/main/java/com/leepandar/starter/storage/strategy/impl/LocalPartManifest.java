@@ -0,0 +1,175 @@
+package com.leepandar.starter.storage.strategy.impl;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 本地分片清单
+ * <p>
+ * 清单模式下合并分片不复制数据：分片目录整体移动到 {@code <bucket>/.manifest/.parts/<uploadId>}，
+ * 并在 {@code <bucket>/.manifest/<path>} 写入分片清单，下载时按顺序懒加载拼接各分片。
+ * </p>
+ */
+class LocalPartManifest {
+
+    /**
+     * 清单目录
+     */
+    static final String MANIFEST_DIR = ".manifest";
+
+    /**
+     * 分片目录（位于清单目录下）
+     */
+    static final String PARTS_DIR = ".parts";
+
+    private static final String SEPARATOR = "\t";
+
+    private final String uploadId;
+    private final long totalSize;
+    private final String eTag;
+    private final List<String> partNames;
+    private final List<Long> partSizes;
+
+    LocalPartManifest(String uploadId, String eTag, List<String> partNames, List<Long> partSizes) {
+        this.uploadId = uploadId;
+        this.eTag = eTag;
+        this.partNames = partNames;
+        this.partSizes = partSizes;
+        this.totalSize = partSizes.stream().mapToLong(Long::longValue).sum();
+    }
+
+    /**
+     * 获取清单文件路径
+     *
+     * @param bucket 存储桶
+     * @param path   文件路径
+     * @return 清单文件路径
+     */
+    static Path manifestFile(String bucket, String path) {
+        return Paths.get(bucket, MANIFEST_DIR).resolve(path);
+    }
+
+    /**
+     * 获取分片目录
+     *
+     * @param bucket   存储桶
+     * @param uploadId 上传 ID
+     * @return 分片目录
+     */
+    static Path partsDir(String bucket, String uploadId) {
+        return Paths.get(bucket, MANIFEST_DIR, PARTS_DIR, uploadId);
+    }
+
+    /**
+     * 读取清单（不存在时返回 null）
+     *
+     * @param manifestFile 清单文件
+     * @return 清单
+     */
+    static LocalPartManifest read(Path manifestFile) throws IOException {
+        if (!Files.isRegularFile(manifestFile)) {
+            return null;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(manifestFile, StandardCharsets.UTF_8)) {
+            String header = reader.readLine();
+            if (header == null) {
+                return null;
+            }
+            String[] fields = header.split(SEPARATOR, 2);
+            List<String> partNames = new ArrayList<>();
+            List<Long> partSizes = new ArrayList<>();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] part = line.split(SEPARATOR, 2);
+                partSizes.add(Long.parseLong(part[0]));
+                partNames.add(part[1]);
+            }
+            String eTag = fields.length > 1 && !fields[1].isEmpty() ? fields[1] : null;
+            return new LocalPartManifest(fields[0], eTag, partNames, partSizes);
+        }
+    }
+
+    /**
+     * 写入清单（先写临时文件再原子替换）
+     *
+     * @param manifestFile 清单文件
+     */
+    void write(Path manifestFile) throws IOException {
+        Files.createDirectories(manifestFile.getParent());
+        Path tempFile = manifestFile.resolveSibling(manifestFile.getFileName() + ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(tempFile, StandardCharsets.UTF_8)) {
+            writer.write(uploadId + SEPARATOR + (eTag != null ? eTag : ""));
+            writer.newLine();
+            for (int i = 0; i < partNames.size(); i++) {
+                writer.write(partSizes.get(i) + SEPARATOR + partNames.get(i));
+                writer.newLine();
+            }
+        }
+        Files.move(tempFile, manifestFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * 打开拼接后的输入流（分片按需依次打开）
+     *
+     * @param bucket 存储桶
+     * @return 输入流
+     */
+    InputStream openStream(String bucket) {
+        Path dir = partsDir(bucket, uploadId);
+        Enumeration<InputStream> streams = new Enumeration<>() {
+            private int index;
+
+            @Override
+            public boolean hasMoreElements() {
+                return index < partNames.size();
+            }
+
+            @Override
+            public InputStream nextElement() {
+                try {
+                    return Files.newInputStream(dir.resolve(partNames.get(index++)));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        };
+        return new SequenceInputStream(streams);
+    }
+
+    /**
+     * 删除清单及其分片
+     *
+     * @param bucket       存储桶
+     * @param manifestFile 清单文件
+     */
+    void delete(String bucket, Path manifestFile) throws IOException {
+        Files.deleteIfExists(manifestFile);
+        Path dir = partsDir(bucket, uploadId);
+        if (Files.exists(dir)) {
+            try (Stream<Path> paths = Files.walk(dir)) {
+                for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.deleteIfExists(path);
+                }
+            }
+        }
+    }
+
+    long getTotalSize() {
+        return totalSize;
+    }
+
+    String getETag() {
+        return eTag;
+    }
+}
@@ -1,6 +1,7 @@
 package com.leepandar.starter.storage.strategy.impl;
 
 import cn.hutool.core.map.MapUtil;
+import cn.hutool.core.thread.ThreadUtil;
 import cn.hutool.core.util.URLUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -8,40 +9,86 @@ import org.springframework.web.multipart.MultipartFile;
 import com.leepandar.starter.core.constant.StringConstants;
 import com.leepandar.starter.core.util.SpringWebUtils;
 import com.leepandar.starter.storage.autoconfigure.properties.LocalStorageConfig;
+import com.leepandar.starter.storage.common.constant.StorageConstant;
+import com.leepandar.starter.storage.common.enums.MultipartMergeMode;
 import com.leepandar.starter.storage.common.exception.StorageException;
 import com.leepandar.starter.storage.domain.model.resp.FileInfo;
+import com.leepandar.starter.storage.domain.model.resp.FileListResp;
 import com.leepandar.starter.storage.domain.model.resp.MultipartInitResp;
 import com.leepandar.starter.storage.domain.model.resp.MultipartUploadResp;
+import com.leepandar.starter.storage.engine.ZipBatchDownloader;
+import com.leepandar.starter.storage.strategy.AsyncStorageStrategy;
 import com.leepandar.starter.storage.strategy.StorageStrategy;
 
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.*;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
 import java.security.MessageDigest;
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
 import java.util.stream.Stream;
 
 /**
  * 本地存储策略
  */
-public class LocalStorageStrategy implements StorageStrategy {
+public class LocalStorageStrategy implements StorageStrategy, AsyncStorageStrategy {
 
     private static final Logger log = LoggerFactory.getLogger(LocalStorageStrategy.class);
 
+    private static final Set<OpenOption> ASYNC_WRITE_OPTIONS = Set
+        .of(StandardOpenOption.WRITE, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+
     private final LocalStorageConfig config;
 
     // 分片上传临时目录
     private final String TEMP_DIR = ".multipart";
 
+    // 异步文件操作线程池（同时作为 AsynchronousFileChannel 的回调线程池）
+    private final ExecutorService asyncExecutor;
+
+    // 异步文件操作并发数
+    private final int asyncConcurrency;
+
+    // 批量下载打包器
+    private final ZipBatchDownloader zipBatchDownloader;
+
+    // 元数据索引（按存储桶）
+    private final Map<String, LocalMetadataIndex> metadataIndexes = new ConcurrentHashMap<>();
+
     public LocalStorageStrategy(LocalStorageConfig config) {
         this.config = config;
+        this.asyncConcurrency = Math.max(2, Runtime.getRuntime().availableProcessors());
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(asyncConcurrency, asyncConcurrency, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), ThreadUtil
+            .newNamedThreadFactory("storage-local-" + config.getPlatform() + "-", true));
+        executor.allowCoreThreadTimeOut(true);
+        this.asyncExecutor = executor;
+        this.zipBatchDownloader = new ZipBatchDownloader(config
+            .getPlatform(), StorageConstant.DEFAULT_BATCH_DOWNLOAD_CONCURRENCY, StorageConstant.DEFAULT_BATCH_DOWNLOAD_PREFETCH_SIZE);
         initTempDir(config.getBucketName());
         registerResources(config);
+        if (config.getMultipartMergeMode() == MultipartMergeMode.MANIFEST) {
+            log.warn("[{}] 分片合并模式为 MANIFEST：合并后的文件仅存在于分片清单中，不能通过访问路径（{}）直接访问，需通过存储策略下载", config
+                .getPlatform(), config.getEndpoint());
+        }
     }
 
     /**
@@ -74,8 +121,13 @@ public class LocalStorageStrategy implements StorageStrategy {
             // 创建目录
             Files.createDirectories(filePath.getParent());
 
-            // 复制文件
-            Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
+            // 复制文件，写入的同时计算 ETag
+            MessageDigest md = MessageDigest.getInstance("MD5");
+            try (InputStream in = new DigestInputStream(file.getInputStream(), md)) {
+                Files.copy(in, filePath, StandardCopyOption.REPLACE_EXISTING);
+            }
+            recordETag(bucket, filePath, HexFormat.of().formatHex(md.digest()));
+            deleteManifest(bucket, path);
         } catch (Exception e) {
             throw new StorageException(e.getMessage(), e);
         }
@@ -88,6 +140,13 @@ public class LocalStorageStrategy implements StorageStrategy {
     public InputStream download(String bucket, String path) {
         Path filePath = Paths.get(bucket, path);
         try {
+            if (!Files.exists(filePath)) {
+                // 清单模式合并的文件，按顺序拼接分片
+                LocalPartManifest manifest = LocalPartManifest.read(LocalPartManifest.manifestFile(bucket, path));
+                if (manifest != null) {
+                    return manifest.openStream(bucket);
+                }
+            }
             return Files.newInputStream(filePath);
         } catch (IOException e) {
             throw new StorageException("本地读取失败: " + e.getMessage(), e);
@@ -96,7 +155,7 @@ public class LocalStorageStrategy implements StorageStrategy {
 
     @Override
     public InputStream batchDownload(String bucket, List<String> paths) {
-        return null;
+        return zipBatchDownloader.download(paths, path -> download(bucket, path));
     }
 
     /**
@@ -107,6 +166,8 @@ public class LocalStorageStrategy implements StorageStrategy {
         Path filePath = Paths.get(bucket, path);
         try {
             Files.deleteIfExists(filePath);
+            getMetadataIndex(bucket).remove(toKey(bucket, filePath));
+            deleteManifest(bucket, path);
             // 尝试删除空目录
             deleteEmptyParentDirectories(filePath.getParent());
 
@@ -117,7 +178,22 @@ public class LocalStorageStrategy implements StorageStrategy {
 
     @Override
     public void batchDelete(String bucket, List<String> paths) {
-
+        if (paths.isEmpty()) {
+            return;
+        }
+        Queue<String> failedPaths = new ConcurrentLinkedQueue<>();
+        runParallel(paths.size(), asyncConcurrency, index -> {
+            String path = paths.get(index);
+            try {
+                delete(bucket, path);
+            } catch (Exception e) {
+                log.warn("批量删除文件失败: {}", path, e);
+                failedPaths.add(path);
+            }
+        });
+        if (!failedPaths.isEmpty()) {
+            throw new StorageException("批量删除失败: " + failedPaths.size() + " 个文件删除失败 " + failedPaths);
+        }
     }
 
     /**
@@ -126,7 +202,7 @@ public class LocalStorageStrategy implements StorageStrategy {
     @Override
     public boolean exists(String bucket, String path) {
         Path filePath = Paths.get(bucket, path);
-        return Files.exists(filePath);
+        return Files.exists(filePath) || Files.isRegularFile(LocalPartManifest.manifestFile(bucket, path));
     }
 
     /**
@@ -136,28 +212,23 @@ public class LocalStorageStrategy implements StorageStrategy {
     public FileInfo getFileInfo(String bucket, String path) {
         Path filePath = Paths.get(bucket, path);
 
-        if (!Files.exists(filePath)) {
-            return null;
-        }
-
         try {
+            if (!Files.exists(filePath)) {
+                return getManifestFileInfo(bucket, path);
+            }
+
             BasicFileAttributes attrs = Files.readAttributes(filePath, BasicFileAttributes.class);
+            FileInfo fileInfo = buildFileInfo(bucket, path, filePath, attrs.size(), attrs.creationTime());
 
-            FileInfo fileInfo = new FileInfo();
-            fileInfo.setBucket(bucket);
-            fileInfo.setPlatform(config.getPlatform());
-            fileInfo.setPath(path);
-            fileInfo.setFullPath(filePath.toString());
-            fileInfo.setName(filePath.getFileName().toString());
-            fileInfo.setSize(attrs.size());
-            fileInfo.setUrl(config.getEndpoint() + StringConstants.SLASH + path);
-            fileInfo.setUploadTime(LocalDateTime.ofInstant(attrs.creationTime().toInstant(), java.time.ZoneId
-                .systemDefault()));
-
-            // 添加元数据
-            Map<String, String> metadata = new HashMap<>();
-            metadata.put("etag", calculateMD5(filePath));
-            fileInfo.setMetadata(metadata);
+            // ETag 优先从元数据索引获取，索引缺失或失效时计算一次并写回索引
+            String key = toKey(bucket, filePath);
+            LocalMetadataIndex metadataIndex = getMetadataIndex(bucket);
+            String eTag = metadataIndex.getETag(key, attrs);
+            if (eTag == null) {
+                eTag = calculateMD5(filePath);
+                metadataIndex.put(key, attrs, eTag);
+            }
+            fileInfo.getMetadata().put("etag", eTag);
 
             return fileInfo;
 
@@ -171,18 +242,264 @@ public class LocalStorageStrategy implements StorageStrategy {
      */
     @Override
     public List<FileInfo> list(String bucket, String prefix, int maxKeys) {
-        Path basePath = Paths.get(bucket);
-        Path searchPath = prefix != null ? basePath.resolve(prefix) : basePath;
+        return list(bucket, prefix, maxKeys, null).getFiles();
+    }
 
-        try (Stream<Path> stream = Files.walk(searchPath)) {
-            return stream.filter(Files::isRegularFile).limit(maxKeys).map(path -> {
-                String relativePath = basePath.relativize(path).toString();
-                return getFileInfo(bucket, relativePath);
-            }).filter(Objects::nonNull).collect(Collectors.toList());
+    /**
+     * 分页列出文件
+     * <p>
+     * 单次遍历目录树，只读取文件基本属性（不读取文件内容），按路径字典序分页，
+     * 续传令牌为上一页最后一个文件路径的编码
+     * </p>
+     */
+    @Override
+    public FileListResp list(String bucket, String prefix, int maxKeys, String continuationToken) {
+        Path basePath = Paths.get(bucket);
+        String keyPrefix = prefix != null ? prefix.replace(File.separatorChar, '/') : StringConstants.EMPTY;
+        int lastSlash = keyPrefix.lastIndexOf('/');
+        Path searchPath = lastSlash >= 0 ? basePath.resolve(keyPrefix.substring(0, lastSlash)) : basePath;
+        String startAfter = decodeContinuationToken(continuationToken);
+        if (maxKeys <= 0) {
+            return new FileListResp(new ArrayList<>(), false, null);
+        }
 
+        // 只保留字典序最小的 maxKeys + 1 个文件（多出的一个用于判断是否还有下一页）
+        Comparator<ListEntry> order = Comparator.comparing(ListEntry::key);
+        PriorityQueue<ListEntry> candidates = new PriorityQueue<>(order.reversed());
+        Path manifestBasePath = basePath.resolve(LocalPartManifest.MANIFEST_DIR);
+        try {
+            walkListCandidates(basePath, searchPath, keyPrefix, startAfter, maxKeys, candidates, false);
+            // 清单模式合并的文件
+            Path manifestSearchPath = lastSlash >= 0
+                ? manifestBasePath.resolve(keyPrefix.substring(0, lastSlash))
+                : manifestBasePath;
+            walkListCandidates(manifestBasePath, manifestSearchPath, keyPrefix, startAfter, maxKeys, candidates, true);
         } catch (IOException e) {
             throw new StorageException("列出文件失败: " + e.getMessage(), e);
         }
+
+        List<ListEntry> entries = new ArrayList<>(candidates);
+        entries.sort(order);
+        boolean truncated = entries.size() > maxKeys;
+        if (truncated) {
+            entries = entries.subList(0, maxKeys);
+        }
+
+        LocalMetadataIndex metadataIndex = getMetadataIndex(bucket);
+        List<FileInfo> files = new ArrayList<>(entries.size());
+        for (ListEntry entry : entries) {
+            FileInfo fileInfo;
+            if (entry.manifest()) {
+                fileInfo = getManifestFileInfo(bucket, entry.key());
+                if (fileInfo == null) {
+                    continue;
+                }
+            } else {
+                BasicFileAttributes attrs = entry.attrs();
+                fileInfo = buildFileInfo(bucket, entry.key(), entry.path(), attrs.size(), attrs.creationTime());
+                String eTag = metadataIndex.getETag(entry.key(), attrs);
+                if (eTag != null) {
+                    fileInfo.getMetadata().put("etag", eTag);
+                }
+            }
+            files.add(fileInfo);
+        }
+        String nextToken = truncated ? encodeContinuationToken(entries.get(entries.size() - 1).key()) : null;
+        return new FileListResp(files, truncated, nextToken);
+    }
+
+    /**
+     * 遍历目录树，收集字典序最小的候选文件
+     */
+    private void walkListCandidates(Path basePath,
+                                    Path searchPath,
+                                    String keyPrefix,
+                                    String startAfter,
+                                    int maxKeys,
+                                    PriorityQueue<ListEntry> candidates,
+                                    boolean manifest) throws IOException {
+        if (!Files.isDirectory(searchPath)) {
+            return;
+        }
+        Files.walkFileTree(searchPath, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                if (dir.getParent() != null && dir.getParent().equals(basePath) && isInternalDirectory(dir, manifest)) {
+                    return FileVisitResult.SKIP_SUBTREE;
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                if (!attrs.isRegularFile()) {
+                    return FileVisitResult.CONTINUE;
+                }
+                String key = basePath.relativize(file).toString().replace(File.separatorChar, '/');
+                if (!key.startsWith(keyPrefix) || (startAfter != null && key.compareTo(startAfter) <= 0)) {
+                    return FileVisitResult.CONTINUE;
+                }
+                if (candidates.size() > maxKeys && key.compareTo(candidates.peek().key()) >= 0) {
+                    return FileVisitResult.CONTINUE;
+                }
+                // 同名普通文件优先于清单
+                if (manifest && Files.exists(basePath.resolveSibling(key))) {
+                    return FileVisitResult.CONTINUE;
+                }
+                candidates.offer(new ListEntry(key, file, attrs, manifest));
+                if (candidates.size() > maxKeys + 1) {
+                    candidates.poll();
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFileFailed(Path file, IOException e) {
+                log.debug("读取文件属性失败: {}", file, e);
+                return FileVisitResult.CONTINUE;
+            }
+        });
+    }
+
+    /**
+     * 构建文件信息（仅基于文件基本属性）
+     */
+    private FileInfo buildFileInfo(String bucket, String path, Path filePath, long size, FileTime creationTime) {
+        FileInfo fileInfo = new FileInfo();
+        fileInfo.setBucket(bucket);
+        fileInfo.setPlatform(config.getPlatform());
+        fileInfo.setPath(path);
+        fileInfo.setFullPath(filePath.toString());
+        fileInfo.setName(filePath.getFileName().toString());
+        fileInfo.setSize(size);
+        fileInfo.setUrl(config.getEndpoint() + StringConstants.SLASH + path);
+        fileInfo.setUploadTime(LocalDateTime.ofInstant(creationTime.toInstant(), java.time.ZoneId.systemDefault()));
+        fileInfo.setMetadata(new HashMap<>());
+        return fileInfo;
+    }
+
+    /**
+     * 获取清单模式合并文件的信息（清单不存在时返回 null）
+     */
+    private FileInfo getManifestFileInfo(String bucket, String path) throws IOException {
+        Path manifestFile = LocalPartManifest.manifestFile(bucket, path);
+        LocalPartManifest manifest = LocalPartManifest.read(manifestFile);
+        if (manifest == null) {
+            return null;
+        }
+        FileTime creationTime = Files.readAttributes(manifestFile, BasicFileAttributes.class).creationTime();
+        FileInfo fileInfo = buildFileInfo(bucket, path, Paths.get(bucket, path), manifest
+            .getTotalSize(), creationTime);
+        if (manifest.getETag() != null) {
+            fileInfo.getMetadata().put("etag", manifest.getETag());
+        }
+        return fileInfo;
+    }
+
+    /**
+     * 删除清单模式合并文件的清单及分片
+     */
+    private void deleteManifest(String bucket, String path) throws IOException {
+        Path manifestFile = LocalPartManifest.manifestFile(bucket, path);
+        LocalPartManifest manifest = LocalPartManifest.read(manifestFile);
+        if (manifest != null) {
+            manifest.delete(bucket, manifestFile);
+        }
+    }
+
+    /**
+     * 是否为内部目录（仅匹配遍历根目录的直接子目录）
+     * <p>
+     * 存储桶根目录下的分片临时目录、元数据索引目录、分片清单目录，以及清单目录下的分片目录；其他位置的同名目录视为用户目录
+     * </p>
+     *
+     * @param dir      遍历根目录的直接子目录
+     * @param manifest 是否遍历清单目录
+     */
+    private boolean isInternalDirectory(Path dir, boolean manifest) {
+        String name = dir.getFileName().toString();
+        if (manifest) {
+            return LocalPartManifest.PARTS_DIR.equals(name);
+        }
+        return TEMP_DIR.equals(name) || LocalMetadataIndex.INDEX_DIR.equals(name) || LocalPartManifest.MANIFEST_DIR
+            .equals(name);
+    }
+
+    /**
+     * 编码续传令牌
+     */
+    private String encodeContinuationToken(String key) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 解码续传令牌
+     */
+    private String decodeContinuationToken(String continuationToken) {
+        if (continuationToken == null || continuationToken.isEmpty()) {
+            return null;
+        }
+        try {
+            return new String(Base64.getUrlDecoder().decode(continuationToken), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new StorageException("无效的续传令牌: " + continuationToken, e);
+        }
+    }
+
+    /**
+     * 获取存储桶的元数据索引
+     */
+    private LocalMetadataIndex getMetadataIndex(String bucket) {
+        return metadataIndexes.computeIfAbsent(bucket, b -> new LocalMetadataIndex(Paths.get(b)));
+    }
+
+    /**
+     * 获取文件在存储桶中的路径（统一使用 / 分隔）
+     */
+    private String toKey(String bucket, Path filePath) {
+        return Paths.get(bucket).relativize(filePath).normalize().toString().replace(File.separatorChar, '/');
+    }
+
+    /**
+     * 记录文件 ETag
+     */
+    private void recordETag(String bucket, Path filePath, String eTag) throws IOException {
+        BasicFileAttributes attrs = Files.readAttributes(filePath, BasicFileAttributes.class);
+        getMetadataIndex(bucket).put(toKey(bucket, filePath), attrs, eTag);
+    }
+
+    /**
+     * 列表候选项
+     */
+    private static class ListEntry {
+
+        private final String key;
+        private final Path path;
+        private final BasicFileAttributes attrs;
+        private final boolean manifest;
+
+        ListEntry(String key, Path path, BasicFileAttributes attrs, boolean manifest) {
+            this.key = key;
+            this.path = path;
+            this.attrs = attrs;
+            this.manifest = manifest;
+        }
+
+        String key() {
+            return key;
+        }
+
+        Path path() {
+            return path;
+        }
+
+        BasicFileAttributes attrs() {
+            return attrs;
+        }
+
+        boolean manifest() {
+            return manifest;
+        }
     }
 
     /**
@@ -195,7 +512,29 @@ public class LocalStorageStrategy implements StorageStrategy {
 
         try {
             Files.createDirectories(target.getParent());
+            if (!Files.exists(source)) {
+                // 清单模式合并的文件，复制时合并为普通文件
+                LocalPartManifest manifest = LocalPartManifest.read(LocalPartManifest
+                    .manifestFile(sourceBucket, sourcePath));
+                if (manifest != null) {
+                    try (InputStream in = manifest.openStream(sourceBucket)) {
+                        Files.copy(in, target, StandardCopyOption.REPLACE_EXISTING);
+                    }
+                    if (manifest.getETag() != null) {
+                        recordETag(targetBucket, target, manifest.getETag());
+                    }
+                    deleteManifest(targetBucket, targetPath);
+                    return;
+                }
+            }
             Files.copy(source, target, StandardCopyOption.REPLACE_EXISTING);
+            deleteManifest(targetBucket, targetPath);
+            // 内容不变，沿用源文件的 ETag
+            String eTag = getMetadataIndex(sourceBucket).getETag(toKey(sourceBucket, source), Files
+                .readAttributes(source, BasicFileAttributes.class));
+            if (eTag != null) {
+                recordETag(targetBucket, target, eTag);
+            }
         } catch (IOException e) {
             throw new StorageException("复制文件失败: " + e.getMessage(), e);
         }
@@ -203,7 +542,150 @@ public class LocalStorageStrategy implements StorageStrategy {
 
     @Override
     public void move(String sourceBucket, String targetBucket, String sourcePath, String targetPath) {
+        Path source = Paths.get(sourceBucket, sourcePath);
+        Path target = Paths.get(targetBucket, targetPath);
+        if (source.normalize().equals(target.normalize())) {
+            return;
+        }
+
+        try {
+            if (!Files.exists(source)) {
+                Path manifestFile = LocalPartManifest.manifestFile(sourceBucket, sourcePath);
+                if (Files.isRegularFile(manifestFile)) {
+                    moveManifest(sourceBucket, targetBucket, sourcePath, targetPath, manifestFile);
+                    return;
+                }
+                throw new NoSuchFileException(source.toString());
+            }
+
+            String eTag = getMetadataIndex(sourceBucket).getETag(toKey(sourceBucket, source), Files
+                .readAttributes(source, BasicFileAttributes.class));
+            Files.createDirectories(target.getParent());
+            try {
+                Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                // 跨文件系统时退化为复制后删除
+                Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+            getMetadataIndex(sourceBucket).remove(toKey(sourceBucket, source));
+            deleteManifest(targetBucket, targetPath);
+            if (eTag != null) {
+                recordETag(targetBucket, target, eTag);
+            }
+            deleteEmptyParentDirectories(source.getParent());
+        } catch (IOException e) {
+            throw new StorageException("移动文件失败: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 移动清单模式合并的文件（同一存储桶内只移动清单，跨存储桶时合并为普通文件）
+     */
+    private void moveManifest(String sourceBucket,
+                              String targetBucket,
+                              String sourcePath,
+                              String targetPath,
+                              Path manifestFile) throws IOException {
+        if (!sourceBucket.equals(targetBucket)) {
+            copy(sourceBucket, targetBucket, sourcePath, targetPath);
+            delete(sourceBucket, sourcePath);
+            return;
+        }
+        Path target = Paths.get(targetBucket, targetPath);
+        Files.deleteIfExists(target);
+        getMetadataIndex(targetBucket).remove(toKey(targetBucket, target));
+        deleteManifest(targetBucket, targetPath);
+        Path targetManifestFile = LocalPartManifest.manifestFile(targetBucket, targetPath);
+        Files.createDirectories(targetManifestFile.getParent());
+        Files.move(manifestFile, targetManifestFile, StandardCopyOption.ATOMIC_MOVE);
+    }
 
+    @Override
+    public CompletableFuture<Void> uploadAsync(String bucket, String path, MultipartFile file) {
+        Path filePath = Paths.get(bucket, path);
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                Files.createDirectories(filePath.getParent());
+                return file.getInputStream();
+            } catch (IOException e) {
+                throw new StorageException("本地异步上传失败: " + e.getMessage(), e);
+            }
+        }, asyncExecutor).thenCompose(in -> {
+            try {
+                AsynchronousFileChannel target = openAsyncChannel(filePath, ASYNC_WRITE_OPTIONS);
+                return AsyncFileTransfer.transfer(in, target, asyncExecutor);
+            } catch (IOException e) {
+                closeQuietly(in);
+                throw new StorageException("本地异步上传失败: " + e.getMessage(), e);
+            }
+        }).thenApply(size -> null);
+    }
+
+    @Override
+    public CompletableFuture<InputStream> downloadAsync(String bucket, String path) {
+        return CompletableFuture.supplyAsync(() -> download(bucket, path), asyncExecutor);
+    }
+
+    @Override
+    public CompletableFuture<Void> copyAsync(String sourceBucket,
+                                             String targetBucket,
+                                             String sourcePath,
+                                             String targetPath) {
+        Path source = Paths.get(sourceBucket, sourcePath);
+        Path target = Paths.get(targetBucket, targetPath);
+        if (!Files.exists(source) && Files.isRegularFile(LocalPartManifest.manifestFile(sourceBucket, sourcePath))) {
+            // 清单模式合并的文件需要拼接分片
+            return CompletableFuture
+                .runAsync(() -> copy(sourceBucket, targetBucket, sourcePath, targetPath), asyncExecutor);
+        }
+        return CompletableFuture.supplyAsync(() -> {
+            AsynchronousFileChannel sourceChannel = null;
+            try {
+                Files.createDirectories(target.getParent());
+                sourceChannel = openAsyncChannel(source, Set.of(StandardOpenOption.READ));
+                AsynchronousFileChannel targetChannel = openAsyncChannel(target, ASYNC_WRITE_OPTIONS);
+                return AsyncFileTransfer.transfer(sourceChannel, targetChannel);
+            } catch (IOException e) {
+                closeQuietly(sourceChannel);
+                throw new StorageException("复制文件失败: " + e.getMessage(), e);
+            }
+        }, asyncExecutor).thenCompose(future -> future).thenApply(size -> null);
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteAsync(String bucket, String path) {
+        return CompletableFuture.runAsync(() -> delete(bucket, path), asyncExecutor);
+    }
+
+    @Override
+    public CompletableFuture<List<FileInfo>> listAsync(String bucket, String prefix, int maxKeys) {
+        return CompletableFuture.supplyAsync(() -> list(bucket, prefix, maxKeys), asyncExecutor);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> existsAsync(String bucket, String path) {
+        return CompletableFuture.supplyAsync(() -> exists(bucket, path), asyncExecutor);
+    }
+
+    /**
+     * 打开异步文件通道（回调在异步线程池中执行）
+     */
+    private AsynchronousFileChannel openAsyncChannel(Path path, Set<? extends OpenOption> options) throws IOException {
+        return AsynchronousFileChannel.open(path, options, asyncExecutor);
+    }
+
+    /**
+     * 关闭资源（忽略异常）
+     */
+    private void closeQuietly(AutoCloseable closeable) {
+        if (closeable == null) {
+            return;
+        }
+        try {
+            closeable.close();
+        } catch (Exception e) {
+            log.debug("关闭资源失败: {}", e.getMessage());
+        }
     }
 
     @Override
@@ -291,11 +773,13 @@ public class LocalStorageStrategy implements StorageStrategy {
             // 分片文件路径
             Path partPath = Paths.get(bucket, TEMP_DIR, uploadId, String.format("part_%05d", partNumber));
 
-            // 保存分片
-            long size = Files.copy(data, partPath, StandardCopyOption.REPLACE_EXISTING);
-
-            // 计算MD5作为ETag
-            String eTag = calculateMD5(partPath);
+            // 保存分片，写入的同时计算 MD5 作为 ETag
+            MessageDigest md = MessageDigest.getInstance("MD5");
+            long size;
+            try (InputStream in = new DigestInputStream(data, md)) {
+                size = Files.copy(in, partPath, StandardCopyOption.REPLACE_EXISTING);
+            }
+            String eTag = HexFormat.of().formatHex(md.digest());
 
             result.setPartETag(eTag);
             result.setPartSize(size);
@@ -319,32 +803,35 @@ public class LocalStorageStrategy implements StorageStrategy {
             Path targetPath = Paths.get(bucket, path);
             Files.createDirectories(targetPath.getParent());
 
-            // 合并分片
-            try (OutputStream out = Files
-                .newOutputStream(targetPath, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
-
-                // 按分片编号排序
-                List<MultipartUploadResp> sortedParts = parts.stream()
-                    .filter(MultipartUploadResp::isSuccess)
-                    .sorted(Comparator.comparingInt(MultipartUploadResp::getPartNumber))
-                    .toList();
-
-                // 逐个读取并写入
-                for (MultipartUploadResp part : sortedParts) {
-                    Path partPath = Paths.get(bucket, TEMP_DIR, uploadId, String.format("part_%05d", part
-                        .getPartNumber()));
+            // 按分片编号排序
+            List<MultipartUploadResp> sortedParts = parts.stream()
+                .filter(MultipartUploadResp::isSuccess)
+                .sorted(Comparator.comparingInt(MultipartUploadResp::getPartNumber))
+                .toList();
+            List<Path> partPaths = new ArrayList<>(sortedParts.size());
+            for (MultipartUploadResp part : sortedParts) {
+                Path partPath = Paths.get(bucket, TEMP_DIR, uploadId, String.format("part_%05d", part
+                    .getPartNumber()));
+                if (!Files.exists(partPath)) {
+                    throw new StorageException("分片文件不存在: part " + part.getPartNumber());
+                }
+                partPaths.add(partPath);
+            }
 
-                    if (!Files.exists(partPath)) {
-                        throw new StorageException("分片文件不存在: part " + part.getPartNumber());
-                    }
+            // 按 S3 规则由分片 ETag 计算合并后文件的 ETag，无需重新读取文件
+            String eTag = calculateMultipartETag(sortedParts);
 
-                    Files.copy(partPath, out);
+            if (config.getMultipartMergeMode() == MultipartMergeMode.MANIFEST) {
+                mergePartsByManifest(bucket, path, uploadId, partPaths, eTag);
+            } else {
+                mergeParts(targetPath, partPaths);
+                cleanupTempFiles(bucket, uploadId);
+                deleteManifest(bucket, path);
+                if (eTag != null) {
+                    recordETag(bucket, targetPath, eTag);
                 }
             }
 
-            // 清理临时文件
-            cleanupTempFiles(bucket, uploadId);
-
             // 获取文件信息
             return getFileInfo(bucket, path);
 
@@ -373,6 +860,135 @@ public class LocalStorageStrategy implements StorageStrategy {
         return new ArrayList<>();
     }
 
+    /**
+     * 合并分片：预分配目标文件后，按各分片的偏移量并行写入（transferFrom 为位置写，不依赖通道当前位置）
+     */
+    private void mergeParts(Path targetPath, List<Path> partPaths) throws IOException {
+        long[] offsets = new long[partPaths.size()];
+        long totalSize = 0;
+        for (int i = 0; i < partPaths.size(); i++) {
+            offsets[i] = totalSize;
+            totalSize += Files.size(partPaths.get(i));
+        }
+
+        try (FileChannel target = FileChannel
+            .open(targetPath, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            // 预分配目标文件
+            if (totalSize > 0) {
+                target.write(ByteBuffer.allocate(1), totalSize - 1);
+            }
+
+            runParallel(partPaths.size(), config.getMultipartMergeConcurrency(), index -> transferPart(partPaths
+                .get(index), target, offsets[index]));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * 并行执行任务（调用线程同时参与执行，线程池繁忙时也不会阻塞等待）
+     *
+     * @param taskCount   任务数
+     * @param concurrency 并发数
+     * @param task        任务（参数为任务序号）
+     */
+    private void runParallel(int taskCount, int concurrency, IntConsumer task) {
+        AtomicInteger nextTask = new AtomicInteger();
+        Runnable worker = () -> {
+            int index;
+            while ((index = nextTask.getAndIncrement()) < taskCount) {
+                try {
+                    task.accept(index);
+                } catch (RuntimeException | Error e) {
+                    // 任一任务失败后，其余工作线程不再领取新任务
+                    nextTask.set(taskCount);
+                    throw e;
+                }
+            }
+        };
+        int workers = Math.min(Math.max(1, concurrency), taskCount);
+        List<CompletableFuture<Void>> futures = new ArrayList<>(workers);
+        for (int i = 1; i < workers; i++) {
+            futures.add(CompletableFuture.runAsync(worker, asyncExecutor));
+        }
+        Throwable failure = null;
+        try {
+            worker.run();
+        } catch (RuntimeException | Error e) {
+            failure = e;
+        }
+        // 等待所有工作线程结束后再返回，避免调用方在任务结束前关闭共享资源（如目标文件通道）
+        for (CompletableFuture<Void> future : futures) {
+            try {
+                future.join();
+            } catch (CompletionException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                if (failure == null) {
+                    failure = cause;
+                } else if (failure != cause) {
+                    failure.addSuppressed(cause);
+                }
+            }
+        }
+        if (failure instanceof RuntimeException re) {
+            throw re;
+        }
+        if (failure instanceof Error error) {
+            throw error;
+        }
+        if (failure != null) {
+            throw new StorageException(failure.getMessage(), failure);
+        }
+    }
+
+    /**
+     * 将分片写入目标文件的指定偏移量
+     */
+    private void transferPart(Path partPath, FileChannel target, long offset) {
+        try (FileChannel source = FileChannel.open(partPath, StandardOpenOption.READ)) {
+            long size = source.size();
+            long transferred = 0;
+            while (transferred < size) {
+                long count = target.transferFrom(source, offset + transferred, size - transferred);
+                if (count <= 0) {
+                    throw new IOException("分片文件读取不完整: " + partPath.getFileName());
+                }
+                transferred += count;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 清单模式合并分片：分片目录整体移动到清单目录并写入清单，不复制数据
+     */
+    private void mergePartsByManifest(String bucket,
+                                      String path,
+                                      String uploadId,
+                                      List<Path> partPaths,
+                                      String eTag) throws IOException {
+        Path partsDir = LocalPartManifest.partsDir(bucket, uploadId);
+        Files.createDirectories(partsDir.getParent());
+        Files.move(Paths.get(bucket, TEMP_DIR, uploadId), partsDir, StandardCopyOption.ATOMIC_MOVE);
+
+        List<String> partNames = new ArrayList<>(partPaths.size());
+        List<Long> partSizes = new ArrayList<>(partPaths.size());
+        for (Path partPath : partPaths) {
+            Path movedPart = partsDir.resolve(partPath.getFileName());
+            partNames.add(movedPart.getFileName().toString());
+            partSizes.add(Files.size(movedPart));
+        }
+
+        // 替换旧清单及同名普通文件
+        deleteManifest(bucket, path);
+        Path targetPath = Paths.get(bucket, path);
+        Files.deleteIfExists(targetPath);
+        getMetadataIndex(bucket).remove(toKey(bucket, targetPath));
+        new LocalPartManifest(uploadId, eTag, partNames, partSizes).write(LocalPartManifest
+            .manifestFile(bucket, path));
+    }
+
     /**
      * 清理临时文件
      */
@@ -387,6 +1003,30 @@ public class LocalStorageStrategy implements StorageStrategy {
         }
     }
 
+    /**
+     * 计算分片上传文件的 ETag（所有分片 MD5 拼接后再次 MD5，并追加分片数量）
+     * 分片 ETag 不完整时返回 null，由 {@link #getFileInfo} 按需计算
+     */
+    private String calculateMultipartETag(List<MultipartUploadResp> parts) throws Exception {
+        List<MultipartUploadResp> sortedParts = parts.stream()
+            .filter(MultipartUploadResp::isSuccess)
+            .sorted(Comparator.comparingInt(MultipartUploadResp::getPartNumber))
+            .toList();
+        MessageDigest md = MessageDigest.getInstance("MD5");
+        for (MultipartUploadResp part : sortedParts) {
+            String partETag = part.getPartETag();
+            if (partETag == null || partETag.length() != 32) {
+                return null;
+            }
+            try {
+                md.update(HexFormat.of().parseHex(partETag));
+            } catch (IllegalArgumentException e) {
+                return null;
+            }
+        }
+        return HexFormat.of().formatHex(md.digest()) + StringConstants.DASHED + sortedParts.size();
+    }
+
     /**
      * 计算文件MD5
      */
@@ -405,6 +1045,8 @@ public class LocalStorageStrategy implements StorageStrategy {
 
     @Override
     public void cleanup() {
+        asyncExecutor.shutdown();
+        zipBatchDownloader.shutdown();
         // 清理静态资源映射
         if (config != null) {
             SpringWebUtils.deRegisterResourceHandler(MapUtil.of(URLUtil.url(config.getEndpoint()).getPath(), config
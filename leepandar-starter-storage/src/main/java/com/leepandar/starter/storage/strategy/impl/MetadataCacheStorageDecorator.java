@@ -0,0 +1,339 @@
+package com.leepandar.starter.storage.strategy.impl;
+
+import org.springframework.web.multipart.MultipartFile;
+import com.leepandar.starter.core.util.LruCache;
+import com.leepandar.starter.storage.autoconfigure.properties.MetadataCacheConfig;
+import com.leepandar.starter.storage.domain.model.resp.FileInfo;
+import com.leepandar.starter.storage.domain.model.resp.MultipartUploadResp;
+import com.leepandar.starter.storage.strategy.AsyncStorageStrategy;
+import com.leepandar.starter.storage.strategy.StorageStrategy;
+
+import java.io.InputStream;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 文件元数据缓存装饰器
+ * <p>
+ * 按（存储桶，路径）缓存 getFileInfo / exists 结果，容量有界并按写入时间过期，文件不存在的结果单独设置较短有效期。
+ * 通过本装饰器执行的上传、删除、复制、移动、合并分片操作会自动失效相关缓存。
+ * 由 {@link com.leepandar.starter.storage.engine.StorageDecoratorManager} 按平台创建，每个平台一个实例
+ * </p>
+ */
+public class MetadataCacheStorageDecorator extends StorageStrategyDecorator<StorageStrategy> implements AsyncStorageStrategy {
+
+    private static final char KEY_SEPARATOR = '\n';
+
+    private final LruCache<String, Entry> cache;
+    private final long negativeTtlMillis;
+
+    public MetadataCacheStorageDecorator(StorageStrategy delegate, MetadataCacheConfig config) {
+        this.negativeTtlMillis = config.getNegativeTtlSeconds() * 1000;
+        this.cache = new LruCache<>(config.getMaxSize(), config.getTtlSeconds() * 1000);
+        setDelegate(delegate);
+    }
+
+    @Override
+    public Class<StorageStrategy> getTargetStrategyClass() {
+        return StorageStrategy.class;
+    }
+
+    @Override
+    public boolean exists(String bucket, String path) {
+        Entry entry = cache.get(key(bucket, path));
+        if (entry != null) {
+            return entry.isExists();
+        }
+        boolean exists = getDelegate().exists(bucket, path);
+        if (exists) {
+            cache.put(key(bucket, path), new Entry(true, null, false));
+        } else {
+            putNegative(bucket, path, false);
+        }
+        return exists;
+    }
+
+    @Override
+    public FileInfo getFileInfo(String bucket, String path) {
+        Entry entry = cache.get(key(bucket, path));
+        if (entry != null && entry.getFileInfo() != null) {
+            return copyOf(entry.getFileInfo());
+        }
+        if (entry != null && entry.isMissingFileInfo()) {
+            return null;
+        }
+        FileInfo fileInfo = getDelegate().getFileInfo(bucket, path);
+        if (fileInfo != null) {
+            cache.put(key(bucket, path), new Entry(true, copyOf(fileInfo), false));
+        } else {
+            putNegative(bucket, path, true);
+        }
+        return fileInfo;
+    }
+
+    @Override
+    public void upload(String bucket, String path, MultipartFile file) {
+        invalidate(bucket, path, () -> {
+            getDelegate().upload(bucket, path, file);
+            return null;
+        });
+    }
+
+    @Override
+    public void delete(String bucket, String path) {
+        invalidate(bucket, path, () -> {
+            getDelegate().delete(bucket, path);
+            return null;
+        });
+    }
+
+    @Override
+    public void batchDelete(String bucket, List<String> paths) {
+        paths.forEach(path -> evict(bucket, path));
+        try {
+            getDelegate().batchDelete(bucket, paths);
+        } finally {
+            paths.forEach(path -> evict(bucket, path));
+        }
+    }
+
+    @Override
+    public void copy(String sourceBucket, String targetBucket, String sourcePath, String targetPath) {
+        invalidate(targetBucket, targetPath, () -> {
+            getDelegate().copy(sourceBucket, targetBucket, sourcePath, targetPath);
+            return null;
+        });
+    }
+
+    @Override
+    public void move(String sourceBucket, String targetBucket, String sourcePath, String targetPath) {
+        evict(sourceBucket, sourcePath);
+        invalidate(targetBucket, targetPath, () -> {
+            try {
+                getDelegate().move(sourceBucket, targetBucket, sourcePath, targetPath);
+            } finally {
+                evict(sourceBucket, sourcePath);
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public FileInfo completeMultipartUpload(String bucket,
+                                            String path,
+                                            String uploadId,
+                                            List<MultipartUploadResp> parts,
+                                            boolean verifyParts) {
+        return invalidate(bucket, path, () -> getDelegate()
+            .completeMultipartUpload(bucket, path, uploadId, parts, verifyParts));
+    }
+
+    @Override
+    public CompletableFuture<Void> uploadAsync(String bucket, String path, MultipartFile file) {
+        return invalidateAsync(bucket, path, () -> callAsync(async -> async.uploadAsync(bucket, path, file), () -> {
+            getDelegate().upload(bucket, path, file);
+            return null;
+        }));
+    }
+
+    @Override
+    public CompletableFuture<InputStream> downloadAsync(String bucket, String path) {
+        return callAsync(async -> async.downloadAsync(bucket, path), () -> getDelegate().download(bucket, path));
+    }
+
+    @Override
+    public CompletableFuture<Void> copyAsync(String sourceBucket,
+                                             String targetBucket,
+                                             String sourcePath,
+                                             String targetPath) {
+        return invalidateAsync(targetBucket, targetPath, () -> callAsync(async -> async
+            .copyAsync(sourceBucket, targetBucket, sourcePath, targetPath), () -> {
+                getDelegate().copy(sourceBucket, targetBucket, sourcePath, targetPath);
+                return null;
+            }));
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteAsync(String bucket, String path) {
+        return invalidateAsync(bucket, path, () -> callAsync(async -> async.deleteAsync(bucket, path), () -> {
+            getDelegate().delete(bucket, path);
+            return null;
+        }));
+    }
+
+    @Override
+    public CompletableFuture<List<FileInfo>> listAsync(String bucket, String prefix, int maxKeys) {
+        return callAsync(async -> async.listAsync(bucket, prefix, maxKeys), () -> getDelegate()
+            .list(bucket, prefix, maxKeys));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> existsAsync(String bucket, String path) {
+        Entry entry = cache.get(key(bucket, path));
+        if (entry != null) {
+            return CompletableFuture.completedFuture(entry.isExists());
+        }
+        if (!(getDelegate() instanceof AsyncStorageStrategy asyncStrategy)) {
+            return callSync(() -> exists(bucket, path));
+        }
+        return asyncStrategy.existsAsync(bucket, path).thenApply(exists -> {
+            if (Boolean.TRUE.equals(exists)) {
+                cache.put(key(bucket, path), new Entry(true, null, false));
+            } else {
+                putNegative(bucket, path, false);
+            }
+            return exists;
+        });
+    }
+
+    @Override
+    public void cleanup() {
+        cache.clear();
+        super.cleanup();
+    }
+
+    /**
+     * 清空缓存
+     */
+    public void clear() {
+        cache.clear();
+    }
+
+    /**
+     * 获取当前缓存条目数
+     */
+    public int size() {
+        return cache.size();
+    }
+
+    /**
+     * 获取缓存命中率
+     */
+    public double getHitRate() {
+        return cache.getHitRate();
+    }
+
+    /**
+     * 写操作前后各失效一次，缩小并发读取写回旧值的窗口
+     */
+    private <R> R invalidate(String bucket, String path, Supplier<R> operation) {
+        evict(bucket, path);
+        try {
+            return operation.get();
+        } finally {
+            evict(bucket, path);
+        }
+    }
+
+    /**
+     * 异步写操作前后各失效一次
+     */
+    private <R> CompletableFuture<R> invalidateAsync(String bucket,
+                                                     String path,
+                                                     Supplier<CompletableFuture<R>> operation) {
+        evict(bucket, path);
+        return operation.get().whenComplete((result, e) -> evict(bucket, path));
+    }
+
+    private void evict(String bucket, String path) {
+        cache.remove(key(bucket, path));
+    }
+
+    private void putNegative(String bucket, String path, boolean missingFileInfo) {
+        if (negativeTtlMillis > 0) {
+            cache.put(key(bucket, path), new Entry(false, null, missingFileInfo), negativeTtlMillis);
+        }
+    }
+
+    /**
+     * 调用异步操作
+     * <p>
+     * 被装饰的策略（如未实现异步接口的自定义装饰器）不支持异步操作时，在调用线程中同步执行，保证经过完整的装饰器链
+     * </p>
+     */
+    private <R> CompletableFuture<R> callAsync(Function<AsyncStorageStrategy, CompletableFuture<R>> asyncCall,
+                                               Supplier<R> syncCall) {
+        if (getDelegate() instanceof AsyncStorageStrategy asyncStrategy) {
+            return asyncCall.apply(asyncStrategy);
+        }
+        return callSync(syncCall);
+    }
+
+    private static <R> CompletableFuture<R> callSync(Supplier<R> syncCall) {
+        try {
+            return CompletableFuture.completedFuture(syncCall.get());
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static String key(String bucket, String path) {
+        return bucket + KEY_SEPARATOR + path;
+    }
+
+    /**
+     * 复制文件信息（调用方可能修改返回的文件信息，缓存中保存独立副本）
+     */
+    private static FileInfo copyOf(FileInfo source) {
+        FileInfo fileInfo = new FileInfo();
+        fileInfo.setPlatform(source.getPlatform());
+        fileInfo.setFileId(source.getFileId());
+        fileInfo.setBucket(source.getBucket());
+        fileInfo.setPath(source.getPath());
+        fileInfo.setOriginalFileName(source.getOriginalFileName());
+        fileInfo.setName(source.getName());
+        fileInfo.setThumbnailPath(source.getThumbnailPath());
+        fileInfo.setThumbnailSize(source.getThumbnailSize());
+        fileInfo.setThumbnails(source.getThumbnails() != null ? new LinkedHashMap<>(source.getThumbnails()) : null);
+        fileInfo.setFullPath(source.getFullPath());
+        fileInfo.setSize(source.getSize());
+        fileInfo.setContentType(source.getContentType());
+        fileInfo.setUrl(source.getUrl());
+        fileInfo.setUploadTime(source.getUploadTime());
+        fileInfo.setMetadata(source.getMetadata() != null ? new HashMap<>(source.getMetadata()) : null);
+        return fileInfo;
+    }
+
+    /**
+     * 缓存条目
+     */
+    private static class Entry {
+
+        /**
+         * 文件是否存在
+         */
+        private final boolean exists;
+
+        /**
+         * 文件信息（仅通过 exists 查询时为空）
+         */
+        private final FileInfo fileInfo;
+
+        /**
+         * getFileInfo 返回了空结果
+         */
+        private final boolean missingFileInfo;
+
+        Entry(boolean exists, FileInfo fileInfo, boolean missingFileInfo) {
+            this.exists = exists;
+            this.fileInfo = fileInfo;
+            this.missingFileInfo = missingFileInfo;
+        }
+
+        boolean isExists() {
+            return exists;
+        }
+
+        FileInfo getFileInfo() {
+            return fileInfo;
+        }
+
+        boolean isMissingFileInfo() {
+            return missingFileInfo;
+        }
+    }
+}
@@ -1,12 +1,16 @@
 package com.leepandar.starter.storage.strategy.impl;
 
+import cn.hutool.core.thread.ThreadUtil;
 import cn.hutool.core.util.StrUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.S3Configuration;
 import software.amazon.awssdk.services.s3.model.*;
@@ -17,8 +21,13 @@ import com.leepandar.starter.core.constant.StringConstants;
 import com.leepandar.starter.storage.autoconfigure.properties.OssStorageConfig;
 import com.leepandar.starter.storage.common.exception.StorageException;
 import com.leepandar.starter.storage.domain.model.resp.FileInfo;
+import com.leepandar.starter.storage.domain.model.resp.FileListResp;
 import com.leepandar.starter.storage.domain.model.resp.MultipartInitResp;
 import com.leepandar.starter.storage.domain.model.resp.MultipartUploadResp;
+import com.leepandar.starter.storage.engine.ParallelMultipartUploader;
+import com.leepandar.starter.storage.engine.PresignedUrlCache;
+import com.leepandar.starter.storage.engine.ZipBatchDownloader;
+import com.leepandar.starter.storage.strategy.AsyncStorageStrategy;
 import com.leepandar.starter.storage.strategy.StorageStrategy;
 import com.leepandar.starter.storage.common.util.StorageUtils;
 
@@ -27,23 +36,57 @@ import java.net.URI;
 import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
  * oss存储策略
  */
-public class OssStorageStrategy implements StorageStrategy {
+public class OssStorageStrategy implements StorageStrategy, AsyncStorageStrategy {
 
     private static final Logger log = LoggerFactory.getLogger(OssStorageStrategy.class);
 
+    /**
+     * 单次 CopyObject 支持的最大对象大小（5GB），超过时使用分片复制
+     */
+    private static final long MAX_SINGLE_COPY_SIZE = 5L * 1024 * 1024 * 1024;
+
+    /**
+     * 分片复制的最小分片大小（512MB）
+     */
+    private static final long MIN_COPY_PART_SIZE = 512L * 1024 * 1024;
+
+    /**
+     * 分片复制的最大分片数
+     */
+    private static final int MAX_COPY_PARTS = 10000;
+
     private final S3Client s3Client;
     private final S3Presigner s3Presigner;
     private final OssStorageConfig config;
+    private final ParallelMultipartUploader multipartUploader;
+    private final ZipBatchDownloader zipBatchDownloader;
+    private final PresignedUrlCache presignedUrlCache;
+    private volatile S3AsyncClient s3AsyncClient;
+    private volatile ExecutorService asyncExecutor;
 
     public OssStorageStrategy(OssStorageConfig config) {
         this.config = config;
         this.s3Client = createS3Client(config);
         this.s3Presigner = createS3Presigner(config);
+        this.multipartUploader = new ParallelMultipartUploader(s3Client, config.getPlatform(), config
+            .getMultipartUploadPartSize(), config.getMultipartUploadConcurrency(), config
+            .getMultipartUploadMaxMemory(), config.getMultipartUploadMaxRetries());
+        this.zipBatchDownloader = new ZipBatchDownloader(config.getPlatform(), config
+            .getBatchDownloadConcurrency(), config.getBatchDownloadPrefetchSize());
+        this.presignedUrlCache = config.isPresignCacheEnabled()
+            ? new PresignedUrlCache(config.getPresignCacheMaxSize(), config.getPresignCacheReuseFraction())
+            : null;
     }
 
     /**
@@ -55,6 +98,22 @@ public class OssStorageStrategy implements StorageStrategy {
         return s3Client;
     }
 
+    /**
+     * 获取异步客户端（首次使用时创建）
+     *
+     * @return {@link S3AsyncClient }
+     */
+    public S3AsyncClient getAsyncClient() {
+        if (s3AsyncClient == null) {
+            synchronized (this) {
+                if (s3AsyncClient == null) {
+                    s3AsyncClient = createS3AsyncClient(config);
+                }
+            }
+        }
+        return s3AsyncClient;
+    }
+
     /**
      * 获取预签名者
      *
@@ -82,6 +141,43 @@ public class OssStorageStrategy implements StorageStrategy {
             .build();
     }
 
+    /**
+     * 创建S3异步客户端
+     *
+     * @param config 配置
+     * @return {@link S3AsyncClient }
+     */
+    private S3AsyncClient createS3AsyncClient(OssStorageConfig config) {
+        StaticCredentialsProvider auth = StaticCredentialsProvider.create(AwsBasicCredentials.create(config
+            .getAccessKey(), config.getSecretKey()));
+
+        return S3AsyncClient.builder()
+            .credentialsProvider(auth)
+            .endpointOverride(URI.create(config.getEndpoint()))
+            .region(StorageUtils.getRegion(config.getRegion()))
+            .build();
+    }
+
+    /**
+     * 获取异步上传读取线程池（首次使用时创建，用于读取上传文件的输入流）
+     *
+     * @return {@link ExecutorService }
+     */
+    private ExecutorService getAsyncExecutor() {
+        if (asyncExecutor == null) {
+            synchronized (this) {
+                if (asyncExecutor == null) {
+                    int threads = Math.max(1, config.getMultipartUploadConcurrency());
+                    ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), ThreadUtil
+                        .newNamedThreadFactory("storage-oss-async-" + config.getPlatform() + "-", true));
+                    executor.allowCoreThreadTimeOut(true);
+                    asyncExecutor = executor;
+                }
+            }
+        }
+        return asyncExecutor;
+    }
+
     /**
      * 创建S3预签名器
      *
@@ -106,6 +202,18 @@ public class OssStorageStrategy implements StorageStrategy {
 
     @Override
     public void upload(String bucket, String path, MultipartFile file) {
+        // 大文件自动切分为分片并发上传
+        if (isMultipartUpload(file.getSize())) {
+            try (InputStream inputStream = file.getInputStream()) {
+                multipartUploader.upload(bucket, path, file.getContentType(), inputStream);
+                return;
+            } catch (StorageException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new StorageException("S3上传异常" + e.getMessage(), e);
+            }
+        }
+
         // 构建上传请求
         PutObjectRequest.Builder requestBuilder = PutObjectRequest.builder()
             .bucket(bucket)
@@ -123,6 +231,16 @@ public class OssStorageStrategy implements StorageStrategy {
         }
     }
 
+    /**
+     * 是否使用分片上传
+     *
+     * @param size 文件大小
+     * @return 是否使用分片上传
+     */
+    private boolean isMultipartUpload(long size) {
+        return size > Math.max(config.getMultipartUploadThreshold(), config.getMultipartUploadPartSize());
+    }
+
     /**
      * 下载文件
      */
@@ -137,7 +255,7 @@ public class OssStorageStrategy implements StorageStrategy {
 
     @Override
     public InputStream batchDownload(String bucket, List<String> paths) {
-        return null;
+        return zipBatchDownloader.download(paths, path -> download(bucket, path));
     }
 
     /**
@@ -242,35 +360,28 @@ public class OssStorageStrategy implements StorageStrategy {
      */
     @Override
     public List<FileInfo> list(String bucket, String prefix, int maxKeys) {
+        return list(bucket, prefix, maxKeys, null).getFiles();
+    }
+
+    @Override
+    public FileListResp list(String bucket, String prefix, int maxKeys, String continuationToken) {
         try {
             String bucketName = bucket;
             ListObjectsV2Request request = ListObjectsV2Request.builder()
                 .bucket(bucketName)
                 .prefix(prefix)
                 .maxKeys(maxKeys)
+                .continuationToken(continuationToken)
                 .build();
 
             ListObjectsV2Response response = s3Client.listObjectsV2(request);
 
-            return response.contents().stream().map(s3Object -> {
-                FileInfo fileInfo = new FileInfo();
-                fileInfo.setBucket(bucketName);
-                fileInfo.setPlatform(config.getPlatform());
-                fileInfo.setPath(s3Object.key());
-                fileInfo.setFullPath(s3Object.key());
-                fileInfo.setName(getFileName(s3Object.key()));
-                fileInfo.setSize(s3Object.size());
-                fileInfo.setUrl(getFileUrl(s3Object.key()));
-                fileInfo.setUploadTime(LocalDateTime.ofInstant(s3Object.lastModified(), java.time.ZoneId
-                    .systemDefault()));
-
-                Map<String, String> metadata = new HashMap<>();
-                metadata.put("etag", s3Object.eTag());
-                metadata.put("storageClass", s3Object.storageClassAsString());
-                fileInfo.setMetadata(metadata);
-
-                return fileInfo;
-            }).collect(Collectors.toList());
+            List<FileInfo> files = response.contents()
+                .stream()
+                .map(s3Object -> toFileInfo(bucketName, s3Object))
+                .collect(Collectors.toList());
+            return new FileListResp(files, Boolean.TRUE.equals(response.isTruncated()), response
+                .nextContinuationToken());
 
         } catch (Exception e) {
             throw new StorageException("S3列出文件失败: " + e.getMessage(), e);
@@ -278,11 +389,46 @@ public class OssStorageStrategy implements StorageStrategy {
     }
 
     /**
-     * 复制文件
+     * 转换为文件信息
+     *
+     * @param bucket   存储桶
+     * @param s3Object S3 对象
+     * @return {@link FileInfo }
+     */
+    private FileInfo toFileInfo(String bucket, S3Object s3Object) {
+        FileInfo fileInfo = new FileInfo();
+        fileInfo.setBucket(bucket);
+        fileInfo.setPlatform(config.getPlatform());
+        fileInfo.setPath(s3Object.key());
+        fileInfo.setFullPath(s3Object.key());
+        fileInfo.setName(getFileName(s3Object.key()));
+        fileInfo.setSize(s3Object.size());
+        fileInfo.setUrl(getFileUrl(s3Object.key()));
+        fileInfo.setUploadTime(LocalDateTime.ofInstant(s3Object.lastModified(), java.time.ZoneId.systemDefault()));
+
+        Map<String, String> metadata = new HashMap<>();
+        metadata.put("etag", s3Object.eTag());
+        metadata.put("storageClass", s3Object.storageClassAsString());
+        fileInfo.setMetadata(metadata);
+
+        return fileInfo;
+    }
+
+    /**
+     * 复制文件（超过 5GB 时使用分片复制）
      */
     @Override
     public void copy(String sourceBucket, String targetBucket, String sourcePath, String targetPath) {
         try {
+            HeadObjectResponse head = s3Client.headObject(HeadObjectRequest.builder()
+                .bucket(sourceBucket)
+                .key(sourcePath)
+                .build());
+            if (head.contentLength() > MAX_SINGLE_COPY_SIZE) {
+                multipartCopy(sourceBucket, targetBucket, sourcePath, targetPath, head);
+                return;
+            }
+
             CopyObjectRequest copyRequest = CopyObjectRequest.builder()
                 .sourceBucket(sourceBucket)
                 .sourceKey(sourcePath)
@@ -292,14 +438,199 @@ public class OssStorageStrategy implements StorageStrategy {
 
             s3Client.copyObject(copyRequest);
 
+        } catch (StorageException e) {
+            throw e;
         } catch (Exception e) {
             throw new StorageException("S3复制文件失败: " + e.getMessage(), e);
         }
     }
 
+    /**
+     * 分片复制（服务端按字节范围逐片复制，失败时取消分片上传）
+     */
+    private void multipartCopy(String sourceBucket,
+                               String targetBucket,
+                               String sourcePath,
+                               String targetPath,
+                               HeadObjectResponse head) {
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+            .bucket(targetBucket)
+            .key(targetPath)
+            .contentType(head.contentType())
+            .metadata(head.metadata())
+            .build()).uploadId();
+        long size = head.contentLength();
+        long partSize = Math.max(MIN_COPY_PART_SIZE, (size + MAX_COPY_PARTS - 1) / MAX_COPY_PARTS);
+        int partCount = (int)((size + partSize - 1) / partSize);
+        try {
+            List<CompletedPart> parts = new ArrayList<>(partCount);
+            for (int i = 0; i < partCount; i++) {
+                long start = i * partSize;
+                long end = Math.min(size, start + partSize) - 1;
+                UploadPartCopyResponse response = s3Client.uploadPartCopy(UploadPartCopyRequest.builder()
+                    .sourceBucket(sourceBucket)
+                    .sourceKey(sourcePath)
+                    .destinationBucket(targetBucket)
+                    .destinationKey(targetPath)
+                    .uploadId(uploadId)
+                    .partNumber(i + 1)
+                    .copySourceRange("bytes=" + start + "-" + end)
+                    .build());
+                parts.add(CompletedPart.builder().partNumber(i + 1).eTag(response.copyPartResult().eTag()).build());
+            }
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                .bucket(targetBucket)
+                .key(targetPath)
+                .uploadId(uploadId)
+                .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                .build());
+        } catch (Exception e) {
+            try {
+                s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(targetBucket)
+                    .key(targetPath)
+                    .uploadId(uploadId)
+                    .build());
+            } catch (Exception abortException) {
+                log.error("取消分片复制失败: uploadId={}", uploadId, abortException);
+            }
+            throw new StorageException("S3分片复制文件失败: " + e.getMessage(), e);
+        }
+    }
+
     @Override
     public void move(String sourceBucket, String targetBucket, String sourcePath, String targetPath) {
+        if (sourceBucket.equals(targetBucket) && sourcePath.equals(targetPath)) {
+            return;
+        }
+        // 服务端复制后删除源文件，数据不经过本地
+        copy(sourceBucket, targetBucket, sourcePath, targetPath);
+        delete(sourceBucket, sourcePath);
+    }
 
+    @Override
+    public CompletableFuture<Void> uploadAsync(String bucket, String path, MultipartFile file) {
+        InputStream inputStream;
+        try {
+            inputStream = file.getInputStream();
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(new StorageException("S3异步上传异常" + e.getMessage(), e));
+        }
+        PutObjectRequest request = PutObjectRequest.builder()
+            .bucket(bucket)
+            .key(path)
+            .contentType(file.getContentType())
+            .contentLength(file.getSize())
+            .build();
+        // 输入流的阻塞读取在独立线程池中执行，不占用调用线程与 SDK 事件循环线程
+        AsyncRequestBody body = AsyncRequestBody.fromInputStream(inputStream, file.getSize(), getAsyncExecutor());
+        return getAsyncClient().putObject(request, body).handle((response, e) -> {
+            try {
+                inputStream.close();
+            } catch (Exception ignored) {
+                // 忽略关闭输入流失败的错误
+            }
+            if (e != null) {
+                throw wrapAsyncException("S3异步上传异常", e);
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public CompletableFuture<InputStream> downloadAsync(String bucket, String path) {
+        GetObjectRequest request = GetObjectRequest.builder().bucket(bucket).key(path).build();
+        return getAsyncClient().getObject(request, AsyncResponseTransformer.toBlockingInputStream())
+            .<InputStream>thenApply(responseInputStream -> responseInputStream)
+            .exceptionally(e -> {
+                throw wrapAsyncException("S3异步下载失败", e);
+            });
+    }
+
+    @Override
+    public CompletableFuture<Void> copyAsync(String sourceBucket,
+                                             String targetBucket,
+                                             String sourcePath,
+                                             String targetPath) {
+        HeadObjectRequest headRequest = HeadObjectRequest.builder().bucket(sourceBucket).key(sourcePath).build();
+        return getAsyncClient().headObject(headRequest).thenCompose(head -> {
+            if (head.contentLength() > MAX_SINGLE_COPY_SIZE) {
+                // 分片复制为同步逐片调用，在独立线程池中执行
+                return CompletableFuture.runAsync(() -> multipartCopy(sourceBucket, targetBucket, sourcePath,
+                    targetPath, head), getAsyncExecutor());
+            }
+            CopyObjectRequest request = CopyObjectRequest.builder()
+                .sourceBucket(sourceBucket)
+                .sourceKey(sourcePath)
+                .destinationBucket(targetBucket)
+                .destinationKey(targetPath)
+                .build();
+            return getAsyncClient().copyObject(request).<Void>thenApply(response -> null);
+        }).handle((response, e) -> {
+            if (e != null) {
+                throw wrapAsyncException("S3异步复制文件失败", e);
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteAsync(String bucket, String path) {
+        return getAsyncClient().deleteObject(DeleteObjectRequest.builder().bucket(bucket).key(path).build())
+            .handle((response, e) -> {
+                if (e != null) {
+                    throw wrapAsyncException("S3异步删除失败", e);
+                }
+                return null;
+            });
+    }
+
+    @Override
+    public CompletableFuture<List<FileInfo>> listAsync(String bucket, String prefix, int maxKeys) {
+        ListObjectsV2Request request = ListObjectsV2Request.builder()
+            .bucket(bucket)
+            .prefix(prefix)
+            .maxKeys(maxKeys)
+            .build();
+        return getAsyncClient().listObjectsV2(request).handle((response, e) -> {
+            if (e != null) {
+                throw wrapAsyncException("S3异步列出文件失败", e);
+            }
+            return response.contents()
+                .stream()
+                .map(s3Object -> toFileInfo(bucket, s3Object))
+                .collect(Collectors.toList());
+        });
+    }
+
+    @Override
+    public CompletableFuture<Boolean> existsAsync(String bucket, String path) {
+        return getAsyncClient().headObject(HeadObjectRequest.builder().bucket(bucket).key(path).build())
+            .handle((response, e) -> {
+                if (e == null) {
+                    return true;
+                }
+                Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                if (cause instanceof NoSuchKeyException) {
+                    return false;
+                }
+                throw wrapAsyncException("S3异步检查文件存在性失败", cause);
+            });
+    }
+
+    /**
+     * 包装异步异常
+     *
+     * @param message 错误信息
+     * @param e       异常
+     * @return {@link StorageException }
+     */
+    private StorageException wrapAsyncException(String message, Throwable e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        if (cause instanceof StorageException storageException) {
+            return storageException;
+        }
+        return new StorageException(message + ": " + cause.getMessage(), cause);
     }
 
     @Override
@@ -313,15 +644,54 @@ public class OssStorageStrategy implements StorageStrategy {
     }
 
     /**
-     * 生成预签名URL
+     * 生成预签名URL（启用缓存时复用剩余有效期充足的URL）
      */
     @Override
     public String generatePresignedUrl(String bucket, String path, long expireSeconds) {
+        if (presignedUrlCache == null) {
+            return presign(bucket, path, Duration.ofSeconds(expireSeconds));
+        }
+        return presignedUrlCache.get(bucket, path, expireSeconds, () -> presign(bucket, path, Duration
+            .ofSeconds(expireSeconds)));
+    }
+
+    /**
+     * 批量生成预签名URL（共用有效期对象，逐个命中缓存）
+     */
+    @Override
+    public Map<String, String> generatePresignedUrls(String bucket, List<String> paths, long expireSeconds) {
+        Duration duration = Duration.ofSeconds(expireSeconds);
+        Map<String, String> urls = new LinkedHashMap<>(paths.size() * 4 / 3 + 1);
+        for (String path : paths) {
+            if (urls.containsKey(path)) {
+                continue;
+            }
+            String url = presignedUrlCache != null
+                ? presignedUrlCache.get(bucket, path, expireSeconds, () -> presign(bucket, path, duration))
+                : presign(bucket, path, duration);
+            urls.put(path, url);
+        }
+        return urls;
+    }
+
+    /**
+     * 获取预签名URL缓存（未启用时为 null），可用于读取命中率等指标
+     *
+     * @return {@link PresignedUrlCache }
+     */
+    public PresignedUrlCache getPresignedUrlCache() {
+        return presignedUrlCache;
+    }
+
+    /**
+     * 签名
+     */
+    private String presign(String bucket, String path, Duration duration) {
         try {
             GetObjectRequest getObjectRequest = GetObjectRequest.builder().bucket(bucket).key(path).build();
 
             GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
-                .signatureDuration(Duration.ofSeconds(expireSeconds))
+                .signatureDuration(duration)
                 .getObjectRequest(getObjectRequest)
                 .build();
 
@@ -422,27 +792,8 @@ public class OssStorageStrategy implements StorageStrategy {
                 throw new StorageException("无效的uploadId: " + uploadId);
             }
 
-            // 读取数据到内存（注意：实际使用时可能需要优化大文件处理）
-            byte[] bytes = data.readAllBytes();
-
-            // 构建请求
-            UploadPartRequest request = UploadPartRequest.builder()
-                .bucket(bucket)
-                .key(path)
-                .uploadId(uploadId)
-                .partNumber(partNumber)
-                .contentLength((long)bytes.length)
-                .build();
-
-            // 执行上传
-            UploadPartResponse response = s3Client.uploadPart(request, RequestBody.fromBytes(bytes));
-
-            // 构建返回结果
-            MultipartUploadResp result = new MultipartUploadResp();
-            result.setPartNumber(partNumber);
-            result.setPartETag(response.eTag());
-            result.setSuccess(true);
-            return result;
+            // 分片数据读取到池化缓冲区后上传，失败时单独重试
+            return multipartUploader.uploadPart(bucket, path, uploadId, partNumber, data);
 
         } catch (Exception e) {
             MultipartUploadResp result = new MultipartUploadResp();
@@ -555,6 +906,21 @@ public class OssStorageStrategy implements StorageStrategy {
         }
     }
 
+    @Override
+    public void cleanup() {
+        multipartUploader.shutdown();
+        zipBatchDownloader.shutdown();
+        if (presignedUrlCache != null) {
+            presignedUrlCache.clear();
+        }
+        if (asyncExecutor != null) {
+            asyncExecutor.shutdown();
+        }
+        if (s3AsyncClient != null) {
+            s3AsyncClient.close();
+        }
+    }
+
     /**
      * 验证分片一致性
      *
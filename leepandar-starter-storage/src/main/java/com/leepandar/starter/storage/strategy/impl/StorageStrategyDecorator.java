@@ -2,6 +2,7 @@ package com.leepandar.starter.storage.strategy.impl;
 
 import org.springframework.web.multipart.MultipartFile;
 import com.leepandar.starter.storage.domain.model.resp.FileInfo;
+import com.leepandar.starter.storage.domain.model.resp.FileListResp;
 import com.leepandar.starter.storage.domain.model.resp.MultipartInitResp;
 import com.leepandar.starter.storage.domain.model.resp.MultipartUploadResp;
 import com.leepandar.starter.storage.strategy.StorageStrategy;
@@ -87,6 +88,11 @@ public abstract class StorageStrategyDecorator<T extends StorageStrategy> implem
         return getDelegate().list(bucket, prefix, maxKeys);
     }
 
+    @Override
+    public FileListResp list(String bucket, String prefix, int maxKeys, String continuationToken) {
+        return getDelegate().list(bucket, prefix, maxKeys, continuationToken);
+    }
+
     @Override
     public void copy(String sourceBucket, String targetBucket, String sourcePath, String targetPath) {
         getDelegate().copy(sourceBucket, targetBucket, sourcePath, targetPath);
@@ -112,6 +118,11 @@ public abstract class StorageStrategyDecorator<T extends StorageStrategy> implem
         return getDelegate().generatePresignedUrl(bucket, path, expireSeconds);
     }
 
+    @Override
+    public Map<String, String> generatePresignedUrls(String bucket, List<String> paths, long expireSeconds) {
+        return getDelegate().generatePresignedUrls(bucket, paths, expireSeconds);
+    }
+
     @Override
     public MultipartInitResp initMultipartUpload(String bucket,
                                                  String path,
@@ -1,6 +1,7 @@
 package com.leepandar.starter.xss.autoconfigure;
 
 import com.leepandar.starter.core.constant.PropertiesConstants;
+import com.leepandar.starter.core.util.CompiledPathMatcher;
 import com.leepandar.starter.xss.enums.XssMode;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
@@ -37,6 +38,16 @@ public class XssProperties {
      */
     private XssMode mode = XssMode.CLEAN;
 
+    /**
+     * 拦截路由匹配器（首次匹配时构建，拦截路由变更时重建）
+     */
+    private volatile CompiledPathMatcher includeMatcher;
+
+    /**
+     * 放行路由匹配器（首次匹配时构建，放行路由变更时重建）
+     */
+    private volatile CompiledPathMatcher excludeMatcher;
+
     public boolean isEnabled() {
         return enabled;
     }
@@ -51,6 +62,7 @@ public class XssProperties {
 
     public void setIncludePatterns(List<String> includePatterns) {
         this.includePatterns = includePatterns;
+        this.includeMatcher = null;
     }
 
     public List<String> getExcludePatterns() {
@@ -59,6 +71,7 @@ public class XssProperties {
 
     public void setExcludePatterns(List<String> excludePatterns) {
         this.excludePatterns = excludePatterns;
+        this.excludeMatcher = null;
     }
 
     public XssMode getMode() {
@@ -68,4 +81,34 @@ public class XssProperties {
     public void setMode(XssMode mode) {
         this.mode = mode;
     }
+
+    /**
+     * 是否匹配拦截路由
+     *
+     * @param path 请求路径
+     * @return 是否匹配
+     */
+    public boolean isIncluded(String path) {
+        CompiledPathMatcher matcher = includeMatcher;
+        if (matcher == null) {
+            matcher = new CompiledPathMatcher(includePatterns);
+            includeMatcher = matcher;
+        }
+        return matcher.matches(path);
+    }
+
+    /**
+     * 是否匹配放行路由
+     *
+     * @param path 请求路径
+     * @return 是否匹配
+     */
+    public boolean isExcluded(String path) {
+        CompiledPathMatcher matcher = excludeMatcher;
+        if (matcher == null) {
+            matcher = new CompiledPathMatcher(excludePatterns);
+            excludeMatcher = matcher;
+        }
+        return matcher.matches(path);
+    }
 }
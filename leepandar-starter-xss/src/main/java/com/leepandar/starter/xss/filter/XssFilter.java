@@ -1,7 +1,6 @@
 package com.leepandar.starter.xss.filter;
 
 import cn.hutool.core.collection.CollUtil;
-import com.leepandar.starter.core.util.SpringWebUtils;
 import com.leepandar.starter.xss.autoconfigure.XssProperties;
 import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
@@ -37,15 +36,14 @@ public class XssFilter implements Filter {
         if (servletRequest instanceof HttpServletRequest request && xssProperties.isEnabled()) {
             // 放行路由：忽略 XSS 过滤
             List<String> excludePatterns = xssProperties.getExcludePatterns();
-            if (CollUtil.isNotEmpty(excludePatterns) && SpringWebUtils.isMatch(request
-                .getServletPath(), excludePatterns)) {
+            if (CollUtil.isNotEmpty(excludePatterns) && xssProperties.isExcluded(request.getServletPath())) {
                 filterChain.doFilter(request, servletResponse);
                 return;
             }
             // 拦截路由：执行 XSS 过滤
             List<String> includePatterns = xssProperties.getIncludePatterns();
             if (CollUtil.isNotEmpty(includePatterns)) {
-                if (SpringWebUtils.isMatch(request.getServletPath(), includePatterns)) {
+                if (xssProperties.isIncluded(request.getServletPath())) {
                     filterChain.doFilter(new XssServletRequestWrapper(request, xssProperties), servletResponse);
                 } else {
                     filterChain.doFilter(request, servletResponse);